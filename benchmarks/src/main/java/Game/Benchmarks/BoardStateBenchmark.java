@@ -0,0 +1,244 @@
+package Game.Benchmarks;
+
+import Game.Model.BoardState;
+import Game.Model.Events.BoardListener;
+import Game.Model.GridSquare;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the operations on {@link BoardState} that run for every shot or every new game. The
+ * dimensions cover every option offered by the options panel plus larger boards.
+ * <p>
+ * The guess benchmarks should allocate nothing, run them with {@code -prof gc} and check that gc.alloc.rate.norm is 0.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardStateBenchmark {
+    /**
+     * Seed used for every random sequence so runs are comparable between releases
+     */
+    private static final long SEED = 8221L;
+
+    /**
+     * Dimension of one side of the board
+     */
+    @Param({"2", "4", "6", "8", "10", "12", "14", "16", "18", "20", "50", "100", "200"})
+    private int dimension;
+
+    /**
+     * System board with a randomized fleet that guesses are made on
+     */
+    private BoardState guessBoard;
+
+    /**
+     * System board with a randomized fleet and a listener, guessed on in the same order as guessBoard
+     */
+    private BoardState listenedBoard;
+
+    /**
+     * Every square of the board in a random order, guessed one after another
+     */
+    private int[] guessOrder;
+
+    /**
+     * Index of the next square in guessOrder
+     */
+    private int nextGuess;
+
+    /**
+     * Player board that boats are placed on
+     */
+    private BoardState placementBoard;
+
+    /**
+     * Random (row, column, size, orientation) placements, four entries per placement
+     */
+    private int[] placements;
+
+    /**
+     * Index of the next placement
+     */
+    private int nextPlacement;
+
+    /**
+     * Board with a randomized fleet and half of its squares guessed
+     */
+    private BoardState damagedBoard;
+
+    /**
+     * Creates the boards and the random sequences used by the benchmarks
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+
+        guessBoard = new BoardState(false);
+        guessBoard.resizeGrid(dimension);
+        guessBoard.randomizeShipLocations();
+        guessOrder = shuffledSquares(dimension, random);
+
+        listenedBoard = new BoardState(false);
+        listenedBoard.resizeGrid(dimension);
+        listenedBoard.randomizeShipLocations();
+        listenedBoard.addBoardListener(new BoardListener() {
+        });
+
+        placementBoard = new BoardState(true);
+        placementBoard.resizeGrid(dimension);
+        placements = new int[dimension * dimension * 4];
+        for (int i = 0; i < placements.length; i += 4) {
+            placements[i] = random.nextInt(dimension);
+            placements[i + 1] = random.nextInt(dimension);
+            placements[i + 2] = 1 + random.nextInt(placementBoard.getLargestBoatSize());
+            placements[i + 3] = random.nextInt(2);
+        }
+
+        damagedBoard = new BoardState(false);
+        damagedBoard.resizeGrid(dimension);
+        damagedBoard.randomizeShipLocations();
+        final int[] damageOrder = shuffledSquares(dimension, random);
+        for (int i = 0; i < damageOrder.length / 2; i++) {
+            damagedBoard.validateGuess(damageOrder[i] % dimension, damageOrder[i] / dimension);
+        }
+    }
+
+    /**
+     * Guesses the next square on the board. Once every square has been guessed the shots are reset, so that cost is
+     * amortized over dimension x dimension guesses
+     *
+     * @return Whether the guess hit a boat
+     */
+    @Benchmark
+    public boolean validateGuess() {
+        if (nextGuess == guessOrder.length) {
+            guessBoard.resetShots();
+            nextGuess = 0;
+        }
+        final int square = guessOrder[nextGuess++];
+        return guessBoard.validateGuess(square % dimension, square / dimension);
+    }
+
+    /**
+     * Guesses the next square on a board with a listener registered, so every guess publishes events
+     *
+     * @return Whether the guess hit a boat
+     */
+    @Benchmark
+    public boolean validateGuessWithListener() {
+        if (nextGuess == guessOrder.length) {
+            listenedBoard.resetShots();
+            nextGuess = 0;
+        }
+        final int square = guessOrder[nextGuess++];
+        return listenedBoard.validateGuess(square % dimension, square / dimension);
+    }
+
+    /**
+     * Looks up the grid square at a random location on a board that has been half guessed
+     *
+     * @return Grid square at the location
+     */
+    @Benchmark
+    public GridSquare getGridSquare() {
+        final int i = nextPlacementIndex();
+        return damagedBoard.getGridSquare(placements[i], placements[i + 1]);
+    }
+
+    /**
+     * Places a complete random fleet on the board
+     *
+     * @return The board the fleet was placed on
+     */
+    @Benchmark
+    public BoardState randomizeShipLocations() {
+        guessBoard.randomizeShipLocations();
+        nextGuess = 0;
+        return guessBoard;
+    }
+
+    /**
+     * Checks if a boat can be placed at a random location on a board containing a full fleet
+     *
+     * @return Whether the location is valid
+     */
+    @Benchmark
+    public boolean isLocationValid() {
+        final int i = nextPlacementIndex();
+        return damagedBoard.isLocationValid(placements[i], placements[i + 1], placements[i + 2], placements[i + 3] == 0);
+    }
+
+    /**
+     * Places a boat at a random location, creating it if the location is valid. The board is cleared once it runs out
+     * of boats to place, so that cost is amortized over the whole fleet
+     *
+     * @return Whether the boat was placed
+     */
+    @Benchmark
+    public boolean placeShipOnBoard() {
+        if (placementBoard.isDesignBoatsEmpty())
+            placementBoard.clearBoard();
+        final int i = nextPlacementIndex();
+        return placementBoard.placeShipOnBoard(placements[i], placements[i + 1], placements[i + 2], placements[i + 3] == 0);
+    }
+
+    /**
+     * Counts the hit points remaining on a board that has been half guessed
+     *
+     * @return Hit points remaining
+     */
+    @Benchmark
+    public int getHitPointsRemaining() {
+        return damagedBoard.getHitPointsRemaining();
+    }
+
+    /**
+     * Advances to the next random placement
+     *
+     * @return Index of the placement's first entry
+     */
+    private int nextPlacementIndex() {
+        if (nextPlacement == placements.length)
+            nextPlacement = 0;
+        final int i = nextPlacement;
+        nextPlacement += 4;
+        return i;
+    }
+
+    /**
+     * Creates every square of a board in a random order
+     *
+     * @param dimension Dimension of one side of the board
+     * @param random    Source of randomness for the shuffle
+     * @return Shuffled squares encoded as y * dimension + x
+     */
+    private static int[] shuffledSquares(final int dimension, final Random random) {
+        final int[] squares = new int[dimension * dimension];
+        for (int i = 0; i < squares.length; i++) {
+            squares[i] = i;
+        }
+        for (int i = squares.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int swap = squares[i];
+            squares[i] = squares[j];
+            squares[j] = swap;
+        }
+        return squares;
+    }
+}
@@ -0,0 +1,90 @@
+package Game.Benchmarks;
+
+import Game.Controller.BattleshipController;
+import Game.Model.Enums.GameStatus;
+import Game.Model.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the system's turn as driven by {@link BattleshipController}, without a main window
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerBenchmark {
+    /**
+     * Dimension of one side of the boards
+     */
+    @Param({"2", "4", "6", "8", "10", "12", "14", "16", "18", "20", "50", "100", "200"})
+    private int dimension;
+
+    /**
+     * Controller running the game
+     */
+    private BattleshipController controller;
+
+    /**
+     * State of the game being played
+     */
+    private GameState gameState;
+
+    /**
+     * Creates a headless game on boards of the benchmark's dimension
+     */
+    @Setup
+    public void setUp() {
+        controller = new BattleshipController();
+        controller.configureHeadless();
+        controller.changeBoardDimension(dimension);
+        gameState = controller.getGameState();
+        startGame();
+    }
+
+    /**
+     * Plays one system turn. When the system wins a new game is started, so that cost is amortized over the game
+     */
+    @Benchmark
+    public void systemRandomGuess() {
+        if (gameState.getStatus() == GameStatus.GAME_OVER)
+            startGame();
+        if (gameState.isPlayersTurn())
+            gameState.nextTurn();
+        controller.systemRandomGuess();
+    }
+
+    /**
+     * Plays one system turn using the system's guessing strategy. When the system wins a new game is started, so that
+     * cost is amortized over the game
+     */
+    @Benchmark
+    public void systemGuess() {
+        if (gameState.getStatus() == GameStatus.GAME_OVER)
+            startGame();
+        if (gameState.isPlayersTurn())
+            gameState.nextTurn();
+        controller.systemGuess();
+    }
+
+    /**
+     * Randomizes the player's boats and starts a new game
+     */
+    private void startGame() {
+        controller.randomizePlayerShipLocations();
+        controller.playGame();
+    }
+}
@@ -0,0 +1,120 @@
+package Game.Benchmarks;
+
+import Game.Model.BoardState;
+import Game.Model.DesignState;
+import Game.Model.Enums.GameStatus;
+import Game.Model.GameState;
+import Game.Record.GameSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how quickly a game half way through can be saved to and loaded from a snapshot in memory, leaving out the
+ * cost of the file system
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSnapshotBenchmark {
+    /**
+     * Dimension of one side of the boards
+     */
+    @Param({"10", "20", "100"})
+    private int dimension;
+
+    /**
+     * State of the game being saved and loaded
+     */
+    private GameState gameState;
+
+    /**
+     * Design selections of the game
+     */
+    private DesignState designState;
+
+    /**
+     * Player's board, with a randomized fleet and every other square guessed
+     */
+    private BoardState playerBoard;
+
+    /**
+     * System's board, with a randomized fleet and every third square guessed
+     */
+    private BoardState systemBoard;
+
+    /**
+     * Buffer snapshots are written to
+     */
+    private ByteBuffer saveBuffer;
+
+    /**
+     * Snapshot of the game that is loaded
+     */
+    private ByteBuffer snapshot;
+
+    /**
+     * Plays half of a game on both boards and takes its snapshot
+     */
+    @Setup
+    public void setUp() {
+        gameState = new GameState();
+        gameState.setStatus(GameStatus.IN_PROGRESS);
+        designState = new DesignState();
+        playerBoard = new BoardState(true);
+        playerBoard.resizeGrid(dimension);
+        playerBoard.randomizeShipLocations();
+        systemBoard = new BoardState(false);
+        systemBoard.resizeGrid(dimension);
+        systemBoard.randomizeShipLocations();
+        for (int square = 0; square < dimension * dimension; square++) {
+            if (square % 2 == 0)
+                playerBoard.validateGuess(square % dimension, square / dimension);
+            if (square % 3 == 0)
+                systemBoard.validateGuess(square % dimension, square / dimension);
+        }
+
+        saveBuffer = ByteBuffer.allocate(GameSnapshot.size(playerBoard, systemBoard));
+        GameSnapshot.write(saveBuffer, gameState, designState, playerBoard, systemBoard);
+        snapshot = saveBuffer.duplicate().flip();
+    }
+
+    /**
+     * Saves the game to a snapshot
+     *
+     * @return Buffer holding the snapshot
+     */
+    @Benchmark
+    public ByteBuffer save() {
+        saveBuffer.clear();
+        GameSnapshot.write(saveBuffer, gameState, designState, playerBoard, systemBoard);
+        return saveBuffer;
+    }
+
+    /**
+     * Loads the game from its snapshot, replacing both boards
+     *
+     * @return State of the loaded game
+     * @throws IOException If the snapshot is not valid
+     */
+    @Benchmark
+    public GameState load() throws IOException {
+        GameSnapshot.read(snapshot.duplicate(), gameState, designState, playerBoard, systemBoard);
+        return gameState;
+    }
+}
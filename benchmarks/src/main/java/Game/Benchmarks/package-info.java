@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks for the hot paths of the game's model and controller. Build with {@code mvn package} and run with
+ * {@code java -jar benchmarks/target/benchmarks.jar -prof gc} to include allocation rates
+ */
+package Game.Benchmarks;
@@ -0,0 +1,111 @@
+package Game.AI;
+
+import Game.Model.BoardState;
+import Game.Model.Enums.GridSquareStatus;
+import Game.Model.FleetGenerator;
+import Game.Model.UntriedCells;
+
+/**
+ * A strategy that chooses which square to guess next on an opposing board. A strategy only learns about the opposing
+ * board through the results it is given, so one instance is used per player and must be reset between games.
+ */
+public interface GuessStrategy {
+    /**
+     * Prepares the strategy for a new game on a board of the given dimension
+     *
+     * @param gridDimension Dimension of one side of the board being guessed on
+     */
+    void reset(int gridDimension);
+
+    /**
+     * Chooses the next square to guess on the opposing board. Squares are encoded as {@code y * gridDimension + x}
+     *
+     * @param targetBoard Board being guessed on, only used for its dimension and its pool of untried squares
+     * @return Square that should be guessed next
+     */
+    int nextGuess(BoardState targetBoard);
+
+    /**
+     * Chooses the squares of a volley fired in salvo mode, all different and none guessed before. By default each
+     * square is chosen by {@link #nextGuess(BoardState)}, and a square already in the volley is replaced by the first
+     * untried square that is not
+     *
+     * @param targetBoard Board being guessed on, only used for its dimension and its pool of untried squares
+     * @param squares     Filled with the squares that should be guessed
+     * @param count       Number of squares wanted
+     * @return Number of squares chosen, fewer than wanted if not enough squares are left untried
+     */
+    default int nextGuesses(final BoardState targetBoard, final int[] squares, final int count) {
+        final UntriedCells untriedCells = targetBoard.getUntriedCells();
+        final int volleySize = Math.min(count, untriedCells.size());
+        for (int i = 0; i < volleySize; i++) {
+            int square = nextGuess(targetBoard);
+            for (int j = 0; isChosen(squares, i, square); j++)
+                square = untriedCells.get(j);
+            squares[i] = square;
+        }
+        return volleySize;
+    }
+
+    /**
+     * Records the result of a guess so that it can be used when choosing future guesses. As on the game board, the
+     * size of a boat is revealed when one of its squares is hit
+     *
+     * @param x           X coordinate of the guess
+     * @param y           Y coordinate of the guess
+     * @param hitBoatSize Size of the boat that was hit, 0 if the guess missed
+     * @param isSunk      True if the guess sunk the boat that was hit, false otherwise
+     */
+    void recordResult(int x, int y, int hitBoatSize, boolean isSunk);
+
+    /**
+     * Resets the strategy and records the result of every shot already taken on a board, one boat at a time so that
+     * each sunk boat is reported by its last hit. Used to rebuild a strategy for a game restored part way through
+     *
+     * @param targetBoard Board the strategy guesses on
+     */
+    default void replay(final BoardState targetBoard) {
+        final int dimension = targetBoard.getGridDimension();
+        reset(dimension);
+        for (int square = 0; square < dimension * dimension; square++) {
+            if (targetBoard.getSquareStatus(square % dimension, square / dimension) == GridSquareStatus.MISSED)
+                recordResult(square % dimension, square / dimension, 0, false);
+        }
+
+        for (int boatId = 0; boatId < targetBoard.getBoatCount(); boatId++) {
+            final int boatSize = targetBoard.getBoatSize(boatId);
+            final int placement = targetBoard.getBoatPlacement(boatId);
+            final int step = FleetGenerator.isHorizontal(placement) ? 1 : dimension;
+            final int firstSquare = FleetGenerator.squareOf(placement);
+            int hitsLeft = 0;
+            for (int i = 0; i < boatSize; i++) {
+                final int square = firstSquare + i * step;
+                if (targetBoard.getSquareStatus(square % dimension, square / dimension) == GridSquareStatus.HIT)
+                    hitsLeft++;
+            }
+            for (int i = 0; i < boatSize; i++) {
+                final int square = firstSquare + i * step;
+                if (targetBoard.getSquareStatus(square % dimension, square / dimension) == GridSquareStatus.HIT)
+                    recordResult(square % dimension, square / dimension, boatSize,
+                            --hitsLeft == 0 && targetBoard.getGridBoatHealth(square % dimension,
+                                    square / dimension) == 0);
+            }
+        }
+    }
+
+    /**
+     * Checks if a square is already part of the volley being chosen
+     *
+     * @param squares Squares chosen so far
+     * @param count   Number of squares chosen so far
+     * @param square  Square being checked
+     * @return True if the square was already chosen, false otherwise
+     */
+    private static boolean isChosen(final int[] squares, final int count, final int square) {
+        for (int i = 0; i < count; i++) {
+            if (squares[i] == square)
+                return true;
+        }
+        return false;
+    }
+}
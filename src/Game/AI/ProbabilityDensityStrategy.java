@@ -0,0 +1,333 @@
+package Game.AI;
+
+import Game.Model.BoardState;
+import Game.Model.UntriedCells;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Guesses the square covered by the most feasible placements of the boats that have not been sunk yet.
+ * <p>
+ * A placement of a boat of size N is feasible if none of its squares missed, belong to a sunk boat or were hit on a
+ * boat of a different size. Each feasible placement adds its weight to every square it covers, and placements that
+ * cover unsunk hits are weighted more heavily so the strategy finishes off boats it has found. The heatmap is kept up
+ * to date incrementally: a hit or miss only re-weighs the placements that cover the guessed square, so it costs
+ * O(largest boat size squared) rather than O(board). A sinking shot also removes one boat's weight from every square,
+ * which costs O(board), but there is only one per boat while every guess reads the summed heatmap.
+ */
+public class ProbabilityDensityStrategy implements GuessStrategy {
+    /**
+     * Each unsunk hit covered by a placement multiplies its weight by 2 to the power of this value
+     */
+    private static final int HIT_WEIGHT_SHIFT = 4;
+
+    /**
+     * Knowledge of a square that has not been guessed yet
+     */
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * Knowledge of a square that missed or belongs to a sunk boat, no placement can cover it
+     */
+    private static final byte BLOCKED = -1;
+
+    /**
+     * Dimension of one side of the board being guessed on
+     */
+    private int gridDimension;
+
+    /**
+     * Size of the largest boat in the fleet
+     */
+    private int largestBoatSize;
+
+    /**
+     * What is known about each square: UNKNOWN, BLOCKED, or the size of the unsunk boat that was hit there
+     */
+    private byte[] knowledge;
+
+    /**
+     * Number of boats of each size that have not been sunk yet, indexed by boat size
+     */
+    private int[] boatsRemaining;
+
+    /**
+     * Weight each square receives from the placements of a single boat of each size, indexed by [boatSize][square]
+     */
+    private long[][] boatSizeDensity;
+
+    /**
+     * Weight each square receives from all of the boats that have not been sunk yet
+     */
+    private long[] density;
+
+    /**
+     * Weights of the placements affected by a square changing, saved before the change is applied
+     */
+    private long[] affectedWeights;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset(final int gridDimension) {
+        this.gridDimension = gridDimension;
+        largestBoatSize = BoardState.getLargestBoatSize(gridDimension);
+
+        final int squares = gridDimension * gridDimension;
+        if (knowledge == null || knowledge.length != squares) {
+            knowledge = new byte[squares];
+            density = new long[squares];
+            boatSizeDensity = new long[largestBoatSize + 1][squares];
+            boatsRemaining = new int[largestBoatSize + 1];
+            affectedWeights = new long[2 * largestBoatSize];
+        } else {
+            Arrays.fill(knowledge, UNKNOWN);
+            Arrays.fill(density, 0);
+        }
+
+        for (int boatSize = 1; boatSize <= largestBoatSize; boatSize++) {
+            boatsRemaining[boatSize] = largestBoatSize - boatSize + 1;
+            final long[] sizeDensity = boatSizeDensity[boatSize];
+            for (int y = 0; y < gridDimension; y++) {
+                final int verticalPlacements = placementsCovering(y, boatSize);
+                for (int x = 0; x < gridDimension; x++) {
+                    final int square = y * gridDimension + x;
+                    sizeDensity[square] = placementsCovering(x, boatSize) + verticalPlacements;
+                    density[square] += boatsRemaining[boatSize] * sizeDensity[square];
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextGuess(final BoardState targetBoard) {
+        final UntriedCells untriedCells = targetBoard.getUntriedCells();
+        long bestDensity = -1;
+        int bestSquare = -1;
+        int ties = 0;
+        for (int i = 0; i < untriedCells.size(); i++) {
+            final int square = untriedCells.get(i);
+            if (knowledge[square] != UNKNOWN)
+                continue;
+
+            if (density[square] > bestDensity) {
+                bestDensity = density[square];
+                bestSquare = square;
+                ties = 1;
+            } else if (density[square] == bestDensity && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                bestSquare = square;
+            }
+        }
+        return bestSquare;
+    }
+
+    /**
+     * Chooses the untried squares with the highest densities. The scan starts at a random untried square so that ties
+     * between squares of equal density are broken randomly
+     *
+     * @param targetBoard Board being guessed on, only used for its dimension and its pool of untried squares
+     * @param squares     Filled with the squares that should be guessed, by decreasing density
+     * @param count       Number of squares wanted
+     * @return Number of squares chosen, fewer than wanted if not enough squares are left untried
+     */
+    @Override
+    public int nextGuesses(final BoardState targetBoard, final int[] squares, final int count) {
+        final UntriedCells untriedCells = targetBoard.getUntriedCells();
+        final int size = untriedCells.size();
+        if (count == 0 || size == 0)
+            return 0;
+
+        final int start = ThreadLocalRandom.current().nextInt(size);
+        int chosen = 0;
+        for (int i = 0; i < size; i++) {
+            final int square = untriedCells.get(start + i < size ? start + i : start + i - size);
+            if (knowledge[square] != UNKNOWN)
+                continue;
+
+            // Insert the square into the chosen squares, dropping the lowest one once the volley is full
+            int slot = chosen;
+            if (chosen == count) {
+                if (density[square] <= density[squares[count - 1]])
+                    continue;
+                slot--;
+            } else {
+                chosen++;
+            }
+            while (slot > 0 && density[squares[slot - 1]] < density[square]) {
+                squares[slot] = squares[slot - 1];
+                slot--;
+            }
+            squares[slot] = square;
+        }
+        return chosen;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordResult(final int x, final int y, final int hitBoatSize, final boolean isSunk) {
+        final int square = y * gridDimension + x;
+        if (hitBoatSize == 0) {
+            updateSquare(square, BLOCKED);
+            return;
+        }
+
+        updateSquare(square, (byte) hitBoatSize);
+        if (isSunk)
+            sinkBoat(x, y, hitBoatSize);
+    }
+
+    /**
+     * Gets the weight of a square on the heatmap, the higher the weight the more likely it contains a boat
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Weight of the square
+     */
+    public long getDensity(final int x, final int y) {
+        return density[y * gridDimension + x];
+    }
+
+    /**
+     * Removes a sunk boat from the fleet and blocks the squares it occupied. The boat's squares are the run of hits on
+     * boats of the same size through the sinking shot
+     *
+     * @param x        X coordinate of the sinking shot
+     * @param y        Y coordinate of the sinking shot
+     * @param boatSize Size of the sunk boat
+     */
+    private void sinkBoat(final int x, final int y, final int boatSize) {
+        if (boatsRemaining[boatSize] > 0) {
+            final long[] sizeDensity = boatSizeDensity[boatSize];
+            for (int square = 0; square < density.length; square++) {
+                density[square] -= sizeDensity[square];
+            }
+            boatsRemaining[boatSize]--;
+        }
+
+        int left = x;
+        int right = x;
+        while (left > 0 && knowledge[y * gridDimension + left - 1] == boatSize)
+            left--;
+        while (right < gridDimension - 1 && knowledge[y * gridDimension + right + 1] == boatSize)
+            right++;
+
+        int top = y;
+        int bottom = y;
+        while (top > 0 && knowledge[(top - 1) * gridDimension + x] == boatSize)
+            top--;
+        while (bottom < gridDimension - 1 && knowledge[(bottom + 1) * gridDimension + x] == boatSize)
+            bottom++;
+
+        if (right - left + 1 >= boatSize) {
+            final int start = Math.min(Math.max(left, x - boatSize + 1), right - boatSize + 1);
+            for (int i = start; i < start + boatSize; i++)
+                updateSquare(y * gridDimension + i, BLOCKED);
+        } else if (bottom - top + 1 >= boatSize) {
+            final int start = Math.min(Math.max(top, y - boatSize + 1), bottom - boatSize + 1);
+            for (int i = start; i < start + boatSize; i++)
+                updateSquare(i * gridDimension + x, BLOCKED);
+        } else {
+            updateSquare(y * gridDimension + x, BLOCKED);
+        }
+    }
+
+    /**
+     * Changes what is known about a square and re-weighs every placement covering it
+     *
+     * @param square       Square that changed
+     * @param newKnowledge What is now known about the square
+     */
+    private void updateSquare(final int square, final byte newKnowledge) {
+        if (knowledge[square] == newKnowledge)
+            return;
+
+        final int x = square % gridDimension;
+        final int y = square / gridDimension;
+        for (int boatSize = 1; boatSize <= largestBoatSize; boatSize++) {
+            if (boatsRemaining[boatSize] == 0)
+                continue;
+
+            final int firstX = Math.max(0, x - boatSize + 1);
+            final int lastX = Math.min(x, gridDimension - boatSize);
+            final int firstY = Math.max(0, y - boatSize + 1);
+            final int lastY = Math.min(y, gridDimension - boatSize);
+
+            int placement = 0;
+            for (int startX = firstX; startX <= lastX; startX++)
+                affectedWeights[placement++] = placementWeight(y * gridDimension + startX, 1, boatSize);
+            for (int startY = firstY; startY <= lastY; startY++)
+                affectedWeights[placement++] = placementWeight(startY * gridDimension + x, gridDimension, boatSize);
+
+            final byte oldKnowledge = knowledge[square];
+            knowledge[square] = newKnowledge;
+
+            placement = 0;
+            for (int startX = firstX; startX <= lastX; startX++)
+                reweighPlacement(y * gridDimension + startX, 1, boatSize, affectedWeights[placement++]);
+            for (int startY = firstY; startY <= lastY; startY++)
+                reweighPlacement(startY * gridDimension + x, gridDimension, boatSize, affectedWeights[placement++]);
+
+            knowledge[square] = oldKnowledge;
+        }
+        knowledge[square] = newKnowledge;
+    }
+
+    /**
+     * Applies the change in a placement's weight to every square it covers
+     *
+     * @param start     First square of the placement
+     * @param step      Distance between squares, 1 for horizontal placements or gridDimension for vertical ones
+     * @param boatSize  Size of the boat being placed
+     * @param oldWeight Weight of the placement before the change
+     */
+    private void reweighPlacement(final int start, final int step, final int boatSize, final long oldWeight) {
+        final long delta = placementWeight(start, step, boatSize) - oldWeight;
+        if (delta == 0)
+            return;
+
+        final long[] sizeDensity = boatSizeDensity[boatSize];
+        final long totalDelta = delta * boatsRemaining[boatSize];
+        for (int i = 0, square = start; i < boatSize; i++, square += step) {
+            sizeDensity[square] += delta;
+            density[square] += totalDelta;
+        }
+    }
+
+    /**
+     * Calculates the weight of one placement of a boat given what is currently known about the board
+     *
+     * @param start    First square of the placement
+     * @param step     Distance between squares, 1 for horizontal placements or gridDimension for vertical ones
+     * @param boatSize Size of the boat being placed
+     * @return 0 if the placement is not feasible, otherwise 2^(HIT_WEIGHT_SHIFT * hits covered)
+     */
+    private long placementWeight(final int start, final int step, final int boatSize) {
+        int hits = 0;
+        for (int i = 0, square = start; i < boatSize; i++, square += step) {
+            final byte squareKnowledge = knowledge[square];
+            if (squareKnowledge == BLOCKED || (squareKnowledge != UNKNOWN && squareKnowledge != boatSize))
+                return 0;
+            if (squareKnowledge != UNKNOWN)
+                hits++;
+        }
+        return 1L << (HIT_WEIGHT_SHIFT * hits);
+    }
+
+    /**
+     * Counts the placements along one line of the board that cover a given position
+     *
+     * @param position Position of the square along the line
+     * @param boatSize Size of the boat being placed
+     * @return Number of placements covering the position
+     */
+    private int placementsCovering(final int position, final int boatSize) {
+        return Math.max(0, Math.min(position, gridDimension - boatSize) - Math.max(0, position - boatSize + 1) + 1);
+    }
+}
@@ -0,0 +1,33 @@
+package Game.AI;
+
+import Game.Model.BoardState;
+
+/**
+ * Guesses squares uniformly at random, never guessing the same square twice. Squares are drawn from the target board's
+ * pool of untried squares, so each guess takes constant time
+ */
+public class RandomGuessStrategy implements GuessStrategy {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset(final int gridDimension) {
+        // the target board tracks which squares have been guessed
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextGuess(final BoardState targetBoard) {
+        return targetBoard.getUntriedCells().randomCell();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordResult(final int x, final int y, final int hitBoatSize, final boolean isSunk) {
+        // the target board tracks which squares have been guessed
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the strategies used by the system to choose where to guess on an opposing board
+ */
+package Game.AI;
@@ -1,21 +1,85 @@
 package Game.Controller;
 
+import Game.Util.Log;
+import Game.Util.Utils;
 import Game.View.SplashScreens;
 
+import javax.swing.JWindow;
+import javax.swing.SwingUtilities;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static Game.Util.Constants.DEFAULT_GRID_DIMENSION;
+import static Game.Util.Constants.DEFAULT_LOCALE;
+import static Game.Util.Constants.MAX_GRID_DIMENSION;
+import static Game.Util.Constants.MIN_GRID_DIMENSION;
+
 /**
  * Loads and launches the Battleship game
  */
 public class Battleship {
-    /** Splash screen duration */
-    private static final int LOADING_DURATION = 3000;
+    /** Number of threads loading the game while the splash screen is displayed */
+    private static final int STARTUP_THREADS = 3;
 
     /**
-     * Entry point for the application. Displays splash screen and launches the game
-     * @param args Command line arguments - not used
+     * Entry point for the application. Displays the splash screen while the images, the localized messages and the
+     * game state load in parallel, then builds the window and closes the splash screen as soon as the game is ready.
+     * A breakdown of the startup time is logged
+     * @param args Command line arguments - optionally the dimension of the boards the game starts with, from
+     *             MIN_GRID_DIMENSION to MAX_GRID_DIMENSION
      */
     public static void main(String[] args){
-        SplashScreens.displayLoadingSplashScreen(LOADING_DURATION);
-        BattleshipController controller = new BattleshipController();
-        controller.configure();
+        final StartupProfile profile = new StartupProfile();
+        final int gridDimension = args.length > 0 ? parseGridDimension(args[0]) : DEFAULT_GRID_DIMENSION;
+        Locale.setDefault(DEFAULT_LOCALE);
+        final ExecutorService startupPool = Executors.newFixedThreadPool(STARTUP_THREADS, task -> {
+            final Thread thread = new Thread(task, "battleship-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final BattleshipController controller = new BattleshipController();
+
+        final CompletableFuture<JWindow> splash = CompletableFuture.supplyAsync(
+                () -> profile.call("splash", SplashScreens::displayLoadingSplashScreen), SwingUtilities::invokeLater);
+        try {
+            final CompletableFuture<Void> images = profile.runAsync("images", SplashScreens::preloadImages,
+                    startupPool);
+            final CompletableFuture<Void> messages = profile.runAsync("messages", Utils::preloadLocalizedMessages,
+                    startupPool);
+            final CompletableFuture<Void> model = profile.runAsync("model", controller::configureModel, startupPool);
+            final CompletableFuture<Void> window = CompletableFuture.allOf(messages, model).thenRunAsync(() -> {
+                profile.time("window", controller::configureWindow);
+                if (gridDimension != DEFAULT_GRID_DIMENSION)
+                    controller.changeBoardDimension(gridDimension);
+            }, SwingUtilities::invokeLater);
+
+            CompletableFuture.allOf(images, window).join();
+            profile.log();
+        } finally {
+            splash.thenAcceptAsync(JWindow::dispose, SwingUtilities::invokeLater);
+            startupPool.shutdown();
+        }
+    }
+
+    /**
+     * Reads the dimension of the boards from the command line, falling back to the default dimension if it is not a
+     * number in the range the game supports
+     *
+     * @param argument Dimension given on the command line
+     * @return Dimension the game starts with
+     */
+    private static int parseGridDimension(final String argument) {
+        try {
+            final int gridDimension = Integer.parseInt(argument.trim());
+            if (gridDimension >= MIN_GRID_DIMENSION && gridDimension <= MAX_GRID_DIMENSION)
+                return gridDimension;
+        } catch (NumberFormatException e) {
+            // reported below like a dimension out of range
+        }
+        Log.warn("Usage: Battleship [dimension], the dimension must be a number from " + MIN_GRID_DIMENSION + " to "
+                + MAX_GRID_DIMENSION + ". Starting with " + DEFAULT_GRID_DIMENSION + " instead of %s", argument);
+        return DEFAULT_GRID_DIMENSION;
     }
 }
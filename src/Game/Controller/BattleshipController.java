@@ -1,17 +1,32 @@
 package Game.Controller;
 
+import Game.AI.GuessStrategy;
+import Game.AI.ProbabilityDensityStrategy;
 import Game.Model.BoardState;
 import Game.Model.DesignState;
 import Game.Model.Enums.GameStatus;
-import Game.Model.Enums.GridSquareStatus;
 import Game.Model.GameState;
-import Game.Model.GridSquare;
+import Game.Model.UntriedCells;
+import Game.Record.GameArchive;
+import Game.Record.GameRecorder;
+import Game.Record.GameSnapshot;
+import Game.Record.GameStatistics;
+import Game.Record.StatisticsStore;
+import Game.Util.Log;
 import Game.Util.Utils;
 import Game.View.MainPanel;
 
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static Game.Util.Constants.DEFAULT_LOCALE;
 
 /**
  * Main class for the game Battleship
@@ -20,6 +35,11 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class BattleshipController {
 
+    /**
+     * Number of times a fleet is randomized before giving up on placing it
+     */
+    private static final int FLEET_PLACEMENT_ATTEMPTS = 3;
+
     /**
      * Main window that the game is played in
      */
@@ -45,23 +65,95 @@ public class BattleshipController {
      */
     private DesignState designState;
 
+    /**
+     * Strategy the system uses to choose its guesses on the player's board
+     */
+    private final GuessStrategy systemStrategy = new ProbabilityDensityStrategy();
+
+    /**
+     * Records the games played, with the player as the first side, null if games are not recorded
+     */
+    private GameRecorder recorder;
+
+    /**
+     * Keeps the results of every game on disk, null if the results cannot be stored
+     */
+    private StatisticsStore statisticsStore;
+
+    /**
+     * Time the game in progress started, from System.nanoTime(), 0 if no game has started since the last result
+     */
+    private long gameStartNanos;
+
+    /**
+     * Squares of the volley being fired in salvo mode, the player's targets are gathered here until the volley is full
+     */
+    private int[] volleySquares = new int[0];
+
+    /**
+     * Result of each shot of the last volley fired
+     */
+    private byte[] volleyResults = new byte[0];
+
+    /**
+     * Number of squares the player has targeted for their next volley
+     */
+    private int targetedCount;
+
+    /**
+     * Computes the system's moves off the Event Dispatch Thread, null if they are computed on the calling thread
+     */
+    private TurnExecutor turnExecutor;
+
     /**
      * Configures the primary window, initializes the UI elements, and initializes the game state
      */
     public void configure() {
-        Locale.setDefault(new Locale("en", "CA"));
+        configureModel();
+        configureWindow();
+    }
+
+    /**
+     * Initializes the game state, the statistics and the recording without creating any UI, so it can run on another
+     * thread while the loading splash screen is displayed. The games won are loaded from the statistics stored in the
+     * battleship.stats.dir system property's directory, .battleship in the user's home directory by default. Games are
+     * recorded if the battleship.record.file system property names an archive
+     */
+    public void configureModel() {
+        configureHeadless();
+        openStatistics(System.getProperty("battleship.stats.dir",
+                Paths.get(System.getProperty("user.home"), ".battleship").toString()));
+        final String recordFile = System.getProperty("battleship.record.file");
+        if (recordFile != null)
+            startRecording(recordFile);
+    }
+
+    /**
+     * Creates the primary window for a game state initialized by configureModel. Must be called on the Event Dispatch
+     * Thread
+     */
+    public void configureWindow() {
+        turnExecutor = new TurnExecutor(SwingUtilities::invokeLater);
+        mainWindow = new MainPanel(this);
+        mainWindow.initializePanel(gameState, designState, playerBoardState, systemBoardState);
+    }
+
+    /**
+     * Initializes the game state without creating any UI, used when the game is driven by benchmarks or simulations.
+     * Events that would be written to the game's log are discarded, and the system's moves are computed on the calling
+     * thread.
+     */
+    public void configureHeadless() {
+        Locale.setDefault(DEFAULT_LOCALE);
 
         gameState = new GameState();
         gameState.setStatus(GameStatus.DESIGN);
 
         playerBoardState = new BoardState(true);
         systemBoardState = new BoardState(false);
-        systemBoardState.randomizeShipLocations();
+        randomizeFleet(systemBoardState);
 
         designState = new DesignState();
-
-        mainWindow = new MainPanel(this);
-        mainWindow.initializePanel(gameState, designState, playerBoardState, systemBoardState);
     }
 
     /**
@@ -75,22 +167,27 @@ public class BattleshipController {
      * Resets both game boards to their default state
      */
     public void resetGameBoards() {
+        cancelSystemTurn();
         gameState.setStatus(GameStatus.DESIGN);
+        targetedCount = 0;
 
         systemBoardState.reset();
-        systemBoardState.randomizeShipLocations();
+        randomizeFleet(systemBoardState);
 
         playerBoardState.reset();
-        mainWindow.updateLogPanel(Utils.getLocalizedString("user_reset"));
+        updateLogPanel(Utils.getLocalizedString("user_reset"));
     }
 
     /**
      * Randomizes the location of the player's ships
      */
     public void randomizePlayerShipLocations() {
+        if (!randomizeFleet(playerBoardState)) {
+            gameState.setStatus(GameStatus.DESIGN);
+            return;
+        }
         gameState.setStatus(GameStatus.RANDOM);
-        playerBoardState.randomizeShipLocations();
-        mainWindow.updateLogPanel(Utils.getLocalizedString("user_randomize"));
+        updateLogPanel(Utils.getLocalizedString("user_randomize"));
     }
 
     /**
@@ -104,7 +201,10 @@ public class BattleshipController {
         if (gameState.getStatus() == GameStatus.DESIGN && isPlayersBoard) {
             placeShip(x, y);
         } else if (gameState.getStatus() == GameStatus.IN_PROGRESS && !isPlayersBoard && gameState.isPlayersTurn()) {
-            validateGuess(false, x, y);
+            if (gameState.isSalvo())
+                targetSquare(x, y);
+            else
+                validateGuess(false, x, y);
         }
     }
 
@@ -119,19 +219,37 @@ public class BattleshipController {
         final int boatSize = designState.getBoatSize();
 
         if (playerBoardState.numberOfBoatSizesRemaining(boatSize) == 0) {
-            mainWindow.updateLogPanel(Utils.getLocalizedString("error_max_boats_placed"));
+            updateLogPanel(Utils.getLocalizedString("error_max_boats_placed"));
             return;
         }
 
         if (playerBoardState.placeShipOnBoard(y, x, boatSize, isHorizontal)) {
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("boat_created"),
+            updateLogPanel(Utils.formatLocalizedString("boat_created",
                     boatSize, Utils.getLetterCoordinate(x), y + 1));
         } else {
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("boat_not_created"),
+            updateLogPanel(Utils.formatLocalizedString("boat_not_created",
                     boatSize, Utils.getLetterCoordinate(x), y + 1));
         }
     }
 
+    /**
+     * Places a board's fleet in random locations, trying again a few times if no placement is found. The player is told
+     * when the fleet cannot be placed at all
+     *
+     * @param boardState Board whose fleet is placed
+     * @return True if the whole fleet was placed, false if the board was left empty
+     */
+    private boolean randomizeFleet(final BoardState boardState) {
+        for (int attempt = 0; attempt < FLEET_PLACEMENT_ATTEMPTS; attempt++) {
+            if (boardState.randomizeShipLocations())
+                return true;
+        }
+        final int dimension = boardState.getGridDimension();
+        updateLogPanel(Utils.formatLocalizedString("fleet_not_placed",
+                Utils.getLocalizedString(boardState == playerBoardState ? "player" : "system"), dimension, dimension));
+        return false;
+    }
+
     /**
      * Validates a guess on the player's or system's game board
      *
@@ -140,86 +258,308 @@ public class BattleshipController {
      * @param y              Y coordinate of the square being guessed
      */
     public void validateGuess(final boolean isPlayersBoard, final int x, final int y) {
-        System.out.printf("[DEBUG] Validating %s guess at %s%d%n", !isPlayersBoard ? "Human's" : "System's", Utils.getLetterCoordinate(x), y + 1);
+        if (Log.isDebugEnabled())
+            Log.debug("Validating %s guess at %s%d", !isPlayersBoard ? "Human's" : "System's", Utils.getLetterCoordinate(x), y + 1);
         BoardState boardState = isPlayersBoard ? playerBoardState : systemBoardState;
 
-        if (boardState.validateGuess(x, y)) {
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("guess_hit"),
-                    !isPlayersBoard ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
-                    isPlayersBoard ? Utils.getLocalizedString("player_possessive") : Utils.getLocalizedString("system_possessive"),
-                    Utils.getLetterCoordinate(x), y + 1));
-
-            if (boardState.getGridBoatHealth(x, y) == 0)
-                mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("boat_sunk"),
+        final boolean isHit = boardState.validateGuess(x, y);
+        if (isPlayersBoard)
+            systemStrategy.recordResult(x, y, isHit ? boardState.getShipSize(x, y) : 0,
+                    isHit && boardState.getGridBoatHealth(x, y) == 0);
+        if (recorder != null && recorder.isRecording())
+            recorder.recordShot(!isPlayersBoard, y * boardState.getGridDimension() + x, isHit,
+                    isHit && boardState.getGridBoatHealth(x, y) == 0);
+
+        // the log is only formatted when there is a window to display it
+        if (mainWindow != null) {
+            if (isHit) {
+                updateLogPanel(Utils.formatLocalizedString("guess_hit",
                         !isPlayersBoard ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
                         isPlayersBoard ? Utils.getLocalizedString("player_possessive") : Utils.getLocalizedString("system_possessive"),
-                        boardState.getGridSquare(x, y).getGridBoat().getBoatSize(),
                         Utils.getLetterCoordinate(x), y + 1));
-        } else {
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("guess_miss"),
+
+                if (boardState.getGridBoatHealth(x, y) == 0)
+                    updateLogPanel(Utils.formatLocalizedString("boat_sunk",
+                            !isPlayersBoard ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
+                            isPlayersBoard ? Utils.getLocalizedString("player_possessive") : Utils.getLocalizedString("system_possessive"),
+                            boardState.getShipSize(x, y),
+                            Utils.getLetterCoordinate(x), y + 1));
+            } else {
+                updateLogPanel(Utils.formatLocalizedString("guess_miss",
+                        !isPlayersBoard ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
+                        Utils.getLetterCoordinate(x), y + 1));
+            }
+        }
+
+        endTurn();
+    }
+
+    /**
+     * Adds a square of the system's board to the player's next volley in salvo mode. The volley is fired once the
+     * player has targeted one square per boat they have afloat
+     *
+     * @param x X coordinate of the square being targeted
+     * @param y Y coordinate of the square being targeted
+     */
+    public void targetSquare(final int x, final int y) {
+        final int square = y * systemBoardState.getGridDimension() + x;
+        if (!systemBoardState.getUntriedCells().contains(square) || isTargeted(square)) {
+            updateLogPanel(Utils.formatLocalizedString("salvo_target_taken", Utils.getLetterCoordinate(x), y + 1));
+            return;
+        }
+
+        final int volleySize = Math.min(playerBoardState.getShipsAfloat(), systemBoardState.getUntriedCells().size());
+        ensureVolleyCapacity(volleySize);
+        volleySquares[targetedCount++] = square;
+        updateLogPanel(Utils.formatLocalizedString("salvo_target",
+                Utils.getLetterCoordinate(x), y + 1, targetedCount, volleySize));
+        if (targetedCount >= volleySize) {
+            final int count = targetedCount;
+            targetedCount = 0;
+            fireVolley(false, count);
+        }
+    }
+
+    /**
+     * System fires a volley on the player's board, one shot per boat it has afloat, chosen by its guessing strategy
+     */
+    public void systemVolley() {
+        final int volleySize = systemBoardState.getShipsAfloat();
+        ensureVolleyCapacity(volleySize);
+        fireVolley(true, systemStrategy.nextGuesses(playerBoardState, volleySquares, volleySize));
+    }
+
+    /**
+     * Computes the system's next move on the turn executor and applies it once it is ready, if the game is still
+     * waiting on the system by then. The move only reads the player's board and the strategy, which the player cannot
+     * change during the system's turn. Everything that resets them cancels the move first, and a cancelled move's
+     * result is discarded. If the strategy fails, the system fires at random instead
+     */
+    private void submitSystemTurn() {
+        final boolean isSalvo = gameState.isSalvo();
+        final int volleySize = isSalvo ? systemBoardState.getShipsAfloat() : 1;
+        turnExecutor.submit(() -> {
+            if (!isSalvo)
+                return new int[]{systemStrategy.nextGuess(playerBoardState)};
+            final int[] squares = new int[volleySize];
+            return Arrays.copyOf(squares, systemStrategy.nextGuesses(playerBoardState, squares, volleySize));
+        }, squares -> {
+            if (gameState.getStatus() != GameStatus.IN_PROGRESS || gameState.isPlayersTurn())
+                return;
+            if (isSalvo) {
+                ensureVolleyCapacity(squares.length);
+                System.arraycopy(squares, 0, volleySquares, 0, squares.length);
+                fireVolley(true, squares.length);
+            } else {
+                final int dimension = playerBoardState.getGridDimension();
+                validateGuess(true, squares[0] % dimension, squares[0] / dimension);
+            }
+        }, () -> {
+            if (gameState.getStatus() == GameStatus.IN_PROGRESS && !gameState.isPlayersTurn())
+                systemRandomTurn(isSalvo);
+        });
+    }
+
+    /**
+     * Takes the system's turn on random untried squares of the player's board, used when the strategy fails to
+     * compute a move so that the game does not wait on the system forever
+     *
+     * @param isSalvo True to fire a volley of one shot per boat the system has afloat, false to fire a single shot
+     */
+    private void systemRandomTurn(final boolean isSalvo) {
+        if (!isSalvo) {
+            systemRandomGuess();
+            return;
+        }
+        final UntriedCells untriedCells = playerBoardState.getUntriedCells();
+        final int size = untriedCells.size();
+        if (size == 0)
+            return;
+        final int count = Math.min(systemBoardState.getShipsAfloat(), size);
+        ensureVolleyCapacity(count);
+        // Consecutive entries of the pool are distinct squares, the volley starts at a random one
+        final int start = ThreadLocalRandom.current().nextInt(size);
+        for (int i = 0; i < count; i++)
+            volleySquares[i] = untriedCells.get(start + i < size ? start + i : start + i - size);
+        fireVolley(true, count);
+    }
+
+    /**
+     * Cancels the system's move if it is still being computed, used before anything that resets the game
+     */
+    private void cancelSystemTurn() {
+        if (turnExecutor != null)
+            turnExecutor.cancel();
+    }
+
+    /**
+     * Switches between salvo mode and a single shot per turn. Squares the player targeted for a volley that was not
+     * fired yet are forgotten
+     *
+     * @param isSalvo True to play in salvo mode, false to fire a single shot per turn
+     */
+    public void setSalvo(final boolean isSalvo) {
+        gameState.setSalvo(isSalvo);
+        targetedCount = 0;
+        updateLogPanel(Utils.getLocalizedString(isSalvo ? "salvo_on" : "salvo_off"));
+    }
+
+    /**
+     * Checks if the game is played in salvo mode
+     *
+     * @return True if each side fires one shot per boat it has afloat every turn, false otherwise
+     */
+    public boolean isSalvo() {
+        return gameState.isSalvo();
+    }
+
+    /**
+     * Resolves the volley gathered in volleySquares on the player's or system's game board in one pass, then ends
+     * the turn
+     *
+     * @param isPlayersBoard True if the volley is fired on the player's board, false otherwise
+     * @param count          Number of shots in the volley
+     */
+    private void fireVolley(final boolean isPlayersBoard, final int count) {
+        final BoardState boardState = isPlayersBoard ? playerBoardState : systemBoardState;
+        final int dimension = boardState.getGridDimension();
+        final int hits = boardState.validateGuesses(volleySquares, count, volleyResults);
+
+        int sunk = 0;
+        final boolean isRecording = recorder != null && recorder.isRecording();
+        for (int i = 0; i < count; i++) {
+            final int square = volleySquares[i];
+            final boolean isHit = (volleyResults[i] & BoardState.SHOT_HIT) != 0;
+            final boolean isSunk = (volleyResults[i] & BoardState.SHOT_SUNK) != 0;
+            if (isSunk)
+                sunk++;
+            if (isPlayersBoard) {
+                final int x = square % dimension;
+                final int y = square / dimension;
+                systemStrategy.recordResult(x, y, isHit ? boardState.getShipSize(x, y) : 0, isSunk);
+            }
+            if (isRecording)
+                recorder.recordShot(!isPlayersBoard, square, isHit, isSunk);
+        }
+
+        // one line per volley, the board shows where each shot landed
+        if (mainWindow != null)
+            updateLogPanel(Utils.formatLocalizedString("salvo_fired",
                     !isPlayersBoard ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
-                    Utils.getLetterCoordinate(x), y + 1));
+                    count, hits, sunk));
+        endTurn();
+    }
+
+    /**
+     * Checks if a square is already targeted for the player's next volley
+     *
+     * @param square Square being checked
+     * @return True if the square is targeted, false otherwise
+     */
+    private boolean isTargeted(final int square) {
+        for (int i = 0; i < targetedCount; i++) {
+            if (volleySquares[i] == square)
+                return true;
         }
+        return false;
+    }
+
+    /**
+     * Grows the volley buffers so that they can hold a volley of a given size
+     *
+     * @param volleySize Number of shots in the volley
+     */
+    private void ensureVolleyCapacity(final int volleySize) {
+        if (volleySquares.length < volleySize) {
+            volleySquares = Arrays.copyOf(volleySquares, volleySize);
+            volleyResults = new byte[volleySize];
+        }
+    }
 
-        System.out.printf("[DEBUG] Player hit points: %d / %d%n", playerBoardState.getHitPointsRemaining(), playerBoardState.getTotalHitPoints());
-        System.out.printf("[DEBUG] System hit points: %d / %d%n", systemBoardState.getHitPointsRemaining(), systemBoardState.getTotalHitPoints());
+    /**
+     * Ends the game if a fleet was sunk, otherwise gives the turn to the other side and lets the system guess if it is
+     * its turn
+     */
+    private void endTurn() {
+        if (Log.isDebugEnabled()) {
+            Log.debug("Player hit points: %d / %d", playerBoardState.getHitPointsRemaining(), playerBoardState.getTotalHitPoints());
+            Log.debug("System hit points: %d / %d", systemBoardState.getHitPointsRemaining(), systemBoardState.getTotalHitPoints());
+        }
         if (playerBoardState.getHitPointsRemaining() == 0 || systemBoardState.getHitPointsRemaining() == 0) {
             final boolean didPlayerWin = systemBoardState.getHitPointsRemaining() == 0;
             gameState.incrementWin(didPlayerWin);
             gameState.setDidPlayerWin(didPlayerWin);
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("game_over"),
+            updateLogPanel(Utils.formatLocalizedString("game_over",
                     didPlayerWin ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
                     systemBoardState.getTotalHitPoints() - systemBoardState.getHitPointsRemaining(),
                     playerBoardState.getTotalHitPoints() - playerBoardState.getHitPointsRemaining()));
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("win_loss"),
+            updateLogPanel(Utils.formatLocalizedString("win_loss",
                     gameState.getPlayerGamesWon(), gameState.getSystemGamesWon()));
             gameState.setStatus(GameStatus.GAME_OVER);
+            storeResult(didPlayerWin);
+            endRecording(didPlayerWin);
 
             return;
         }
 
         gameState.nextTurn();
         if (!gameState.isPlayersTurn())
-            systemRandomGuess();
+            systemGuess();
     }
 
     /**
-     * System guesses a location on the player's board by randomly choosing a location
+     * System guesses the location on the player's board chosen by its guessing strategy, or fires a volley in salvo
+     * mode. When there is a window the move is computed on the turn executor and applied later on the Event Dispatch
+     * Thread
      */
-    public void systemRandomGuess() {
-        final boolean isPlayersBoard = true;
-        boolean validGuess = false;
-
-        while (!validGuess) {
-            final int randomX = ThreadLocalRandom.current().nextInt(0, playerBoardState.getGridDimension());
-            final int randomY = ThreadLocalRandom.current().nextInt(0, playerBoardState.getGridDimension());
+    public void systemGuess() {
+        if (turnExecutor != null) {
+            submitSystemTurn();
+            return;
+        }
+        if (gameState.isSalvo()) {
+            systemVolley();
+            return;
+        }
+        final int square = systemStrategy.nextGuess(playerBoardState);
+        final int dimension = playerBoardState.getGridDimension();
+        validateGuess(true, square % dimension, square / dimension);
+    }
 
-            final GridSquare gridSquare = playerBoardState.getGridSquare(randomX, randomY);
+    /**
+     * System guesses a location on the player's board by randomly choosing a location that has not been guessed yet
+     */
+    public void systemRandomGuess() {
+        final int square = playerBoardState.getUntriedCells().randomCell();
+        if (square < 0)
+            return;
 
-            if (gridSquare == null || gridSquare.getStatus() == GridSquareStatus.ALIVE) {
-                validateGuess(isPlayersBoard, randomX, randomY);
-                validGuess = true;
-            }
-        }
+        final int dimension = playerBoardState.getGridDimension();
+        validateGuess(true, square % dimension, square / dimension);
     }
 
     /**
      * If player has played all of their ships, the game of Battleship begins
      */
     public void playGame() {
-        // TODO start a timer
+        // A game against a board without boats would be won on the first shot
+        if (systemBoardState.getBoatCount() == 0 && !randomizeFleet(systemBoardState))
+            return;
+
         if (gameState.getStatus() == GameStatus.RANDOM || playerBoardState.isDesignBoatsEmpty()) {
-            mainWindow.updateLogPanel("Player has begun the game!");
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("first_turn"),
+            updateLogPanel("Player has begun the game!");
+            updateLogPanel(Utils.formatLocalizedString("first_turn",
                     gameState.isPlayersTurn() ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system")));
             gameState.setStatus(GameStatus.IN_PROGRESS);
-            playerBoardState.notifyObservers(); // not ideal, but if GameState notifies observers MainPanel needs board states passed too
-            systemBoardState.notifyObservers();
+            gameStartNanos = System.nanoTime();
+            systemStrategy.reset(playerBoardState.getGridDimension());
+            if (recorder != null)
+                recorder.beginGame(playerBoardState, systemBoardState, gameState.isPlayersTurn());
 
             if (!gameState.isPlayersTurn())
-                systemRandomGuess();
+                systemGuess();
         } else {
-            mainWindow.updateLogPanel(Utils.getLocalizedString("error_boats_missing"));
+            updateLogPanel(Utils.getLocalizedString("error_boats_missing"));
         }
     }
 
@@ -229,7 +569,7 @@ public class BattleshipController {
     public void newGame() {
         gameState.setStatus(GameStatus.DESIGN);
         resetGameBoards();
-        mainWindow.updateLogPanel(Utils.getLocalizedString("new_game_notice"));
+        updateLogPanel(Utils.getLocalizedString("new_game_notice"));
     }
 
     /**
@@ -237,17 +577,22 @@ public class BattleshipController {
      */
     public void displaySolution() {
         final boolean didPlayerWin = false;
-        mainWindow.updateLogPanel(Utils.getLocalizedString("player_forfeit"));
+        cancelSystemTurn();
+        updateLogPanel(Utils.getLocalizedString("player_forfeit"));
+        if (recorder != null)
+            recorder.abandonGame();
         gameState.incrementWin(didPlayerWin);
         gameState.setDidPlayerWin(didPlayerWin);
         gameState.setStatus(GameStatus.GAME_OVER);
+        storeResult(didPlayerWin);
     }
 
     /**
      * Changes the game status to be in DESIGN mode and clears the board in preparation
      */
     public void enterDesignMode() {
-        mainWindow.updateLogPanel(Utils.getLocalizedString("design_mode"));
+        cancelSystemTurn();
+        updateLogPanel(Utils.getLocalizedString("design_mode"));
         gameState.setStatus(GameStatus.DESIGN);
         playerBoardState.resizeGrid(playerBoardState.getGridDimension());
     }
@@ -304,10 +649,11 @@ public class BattleshipController {
      * @param newBoardDimension Dimension that the boards are to be changed to
      */
     public void changeBoardDimension(final int newBoardDimension) {
+        cancelSystemTurn();
         playerBoardState.resizeGrid(newBoardDimension);
         systemBoardState.resizeGrid(newBoardDimension);
-        systemBoardState.randomizeShipLocations();
-        mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("dimensions_changed"), newBoardDimension, newBoardDimension));
+        randomizeFleet(systemBoardState);
+        updateLogPanel(Utils.formatLocalizedString("dimensions_changed", newBoardDimension, newBoardDimension));
     }
 
     /**
@@ -318,11 +664,138 @@ public class BattleshipController {
     public void changeLanguage(final Locale newDefaultLocale) {
         if(newDefaultLocale != Locale.getDefault()) {
             Locale.setDefault(newDefaultLocale);
+            Utils.clearLocalizationCache();
             gameState.setHasLocaleChanged(true);
-            mainWindow.updateLogPanel(String.format(Utils.getLocalizedString("language_changed"), newDefaultLocale));
+            updateLogPanel(Utils.formatLocalizedString("language_changed", newDefaultLocale));
+        }
+    }
+
+    /**
+     * Saves the game as it is now to a file
+     *
+     * @param file File the game is saved to
+     * @throws IOException If the game cannot be saved
+     */
+    public void saveGame(final Path file) throws IOException {
+        GameSnapshot.save(file, gameState, designState, playerBoardState, systemBoardState);
+        updateLogPanel(Utils.formatLocalizedString("game_saved", file));
+    }
+
+    /**
+     * Replaces the game with one saved to a file and continues it. The system's guessing strategy is rebuilt from the
+     * shots on the player's board, and a game being recorded is abandoned
+     *
+     * @param file File the game was saved to
+     * @throws IOException If the game cannot be loaded
+     */
+    public void loadGame(final Path file) throws IOException {
+        cancelSystemTurn();
+        try {
+            GameSnapshot.load(file, gameState, designState, playerBoardState, systemBoardState);
+        } catch (IOException e) {
+            // The game was left as it was, so the system's turn that was cancelled is taken again
+            if (gameState.getStatus() == GameStatus.IN_PROGRESS && !gameState.isPlayersTurn())
+                systemGuess();
+            throw e;
+        }
+        systemStrategy.replay(playerBoardState);
+        targetedCount = 0;
+        if (recorder != null)
+            recorder.abandonGame();
+        gameStartNanos = gameState.getStatus() == GameStatus.IN_PROGRESS ? System.nanoTime() : 0;
+        updateLogPanel(Utils.formatLocalizedString("game_loaded", file));
+
+        if (gameState.getStatus() == GameStatus.IN_PROGRESS && !gameState.isPlayersTurn())
+            systemGuess();
+    }
+
+    /**
+     * Opens the statistics store and loads the games won from it, leaving the results unstored if it cannot be opened.
+     * The store is closed, and its journal compacted, when the game exits
+     *
+     * @param directory Path of the directory holding the statistics
+     */
+    private void openStatistics(final String directory) {
+        try {
+            final StatisticsStore store = new StatisticsStore(Paths.get(directory));
+            final GameStatistics statistics = store.getStatistics();
+            gameState.setGamesWon((int) Math.min(statistics.getPlayerGamesWon(), Integer.MAX_VALUE),
+                    (int) Math.min(statistics.getSystemGamesWon(), Integer.MAX_VALUE));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    store.close();
+                } catch (IOException e) {
+                    Log.error("Unable to close the game statistics", e);
+                }
+            }, "battleship-statistics-close"));
+            statisticsStore = store;
+            Log.info("Loaded %d games from the statistics in %s", statistics.getGamesPlayed(), directory);
+        } catch (IOException e) {
+            Log.error("Unable to load the game statistics from " + directory, e);
+        }
+    }
+
+    /**
+     * Stores the result of the game that just ended. A game forfeited before it started is stored with no duration
+     *
+     * @param didPlayerWin True if the player won
+     */
+    private void storeResult(final boolean didPlayerWin) {
+        if (statisticsStore == null)
+            return;
+
+        final int squares = playerBoardState.getGridDimension() * playerBoardState.getGridDimension();
+        final long durationMillis = gameStartNanos == 0 ? 0
+                : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - gameStartNanos);
+        gameStartNanos = 0;
+        statisticsStore.recordGame(didPlayerWin, playerBoardState.getGridDimension(),
+                squares - systemBoardState.getUntriedCells().size(),
+                squares - playerBoardState.getUntriedCells().size(), durationMillis);
+    }
+
+    /**
+     * Opens the archive the games are recorded in, leaving games unrecorded if it cannot be opened
+     *
+     * @param recordFile Path of the archive
+     */
+    private void startRecording(final String recordFile) {
+        try {
+            recorder = new GameArchive(Paths.get(recordFile)).newRecorder();
+            Log.info("Recording games to %s", recordFile);
+        } catch (IOException e) {
+            Log.error("Unable to record games to " + recordFile, e);
         }
     }
 
+    /**
+     * Completes the recording of the game that just ended and writes it to the archive right away, so a game is not lost
+     * if the window is closed
+     *
+     * @param didPlayerWin True if the player won
+     */
+    private void endRecording(final boolean didPlayerWin) {
+        if (recorder == null || !recorder.isRecording())
+            return;
+
+        try {
+            recorder.endGame(didPlayerWin);
+            recorder.flush();
+        } catch (IOException e) {
+            Log.error("Unable to record the game, recording stopped", e);
+            recorder = null;
+        }
+    }
+
+    /**
+     * Outputs a message to the main window's event log, if there is a main window
+     *
+     * @param event Game event that is to be displayed to the user
+     */
+    private void updateLogPanel(final String event) {
+        if (mainWindow != null)
+            mainWindow.updateLogPanel(event);
+    }
+
     /**
      * Returns the current state of the game
      *
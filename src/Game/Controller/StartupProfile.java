@@ -0,0 +1,74 @@
+package Game.Controller;
+
+import Game.Util.Log;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of the game's startup, which may run on different threads, and logs a breakdown of them once the
+ * game is ready to be played
+ */
+final class StartupProfile {
+    /**
+     * Time the startup began, from System.nanoTime()
+     */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Duration of every finished phase, in the order they finished
+     */
+    private final Queue<String> phases = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Runs a phase of the startup on an executor and times it
+     *
+     * @param phase    Name of the phase
+     * @param task     Work done by the phase
+     * @param executor Executor the phase runs on
+     * @return Future completed once the phase has finished
+     */
+    CompletableFuture<Void> runAsync(final String phase, final Runnable task, final Executor executor) {
+        return CompletableFuture.runAsync(() -> time(phase, task), executor);
+    }
+
+    /**
+     * Runs a phase of the startup on the calling thread and times it
+     *
+     * @param phase Name of the phase
+     * @param task  Work done by the phase
+     */
+    void time(final String phase, final Runnable task) {
+        call(phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a phase of the startup that produces a value on the calling thread and times it
+     *
+     * @param phase Name of the phase
+     * @param task  Work done by the phase
+     * @param <T>   Type of the value produced
+     * @return Value produced by the phase
+     */
+    <T> T call(final String phase, final Supplier<T> task) {
+        final long start = System.nanoTime();
+        final T value = task.get();
+        phases.add(phase + " " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        return value;
+    }
+
+    /**
+     * Logs how long the startup took in total and how long each of its phases took
+     */
+    void log() {
+        Log.info("Startup finished in %d ms (%s)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                String.join(", ", phases));
+    }
+}
@@ -0,0 +1,126 @@
+package Game.Controller;
+
+import Game.Util.Log;
+
+import java.io.Closeable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Computes the system's moves on a background worker and applies them on the thread that owns the game, the Event
+ * Dispatch Thread when there is a window. A move is applied in a single task on the owning thread, so every change it
+ * makes to the boards reaches the window in one update however long the move took to compute.
+ * <p>
+ * Moves are submitted and cancelled from the owning thread only. Cancelling never blocks the owning thread: it skips a
+ * move that has not started and interrupts a move still being computed, which may keep running on the state being reset
+ * if it does not check for interruption. Moves only read the game, and whatever a cancelled move returns or throws is
+ * discarded, so a reset or new game never sees a move meant for the game before it.
+ */
+public class TurnExecutor implements Closeable {
+    /**
+     * Thread the moves are computed on
+     */
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+        final Thread thread = new Thread(task, "battleship-system-turn");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Runs tasks on the thread that owns the game
+     */
+    private final Executor publisher;
+
+    /**
+     * Incremented every time the moves submitted so far are cancelled, a result is only applied if it was computed in
+     * the current generation. Only written by the owning thread
+     */
+    private volatile long generation;
+
+    /**
+     * Move being computed or waiting to be applied, null if there is none
+     */
+    private Future<?> pendingMove;
+
+    /**
+     * Creates an executor applying moves through a given executor, e.g. {@code SwingUtilities::invokeLater}
+     *
+     * @param publisher Runs tasks on the thread that owns the game
+     */
+    public TurnExecutor(final Executor publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Computes a move on the worker, then applies it on the owning thread unless it was cancelled in the meantime. If
+     * computing the move fails, the failure is reported on the owning thread instead so that the turn is not lost
+     *
+     * @param move    Computes the move, it must only read the game, the owning thread does not change the state it
+     *                reads until the move is applied or cancelled
+     * @param apply   Applies the move on the owning thread
+     * @param failure Takes the turn another way on the owning thread when the move cannot be computed
+     * @param <T>     Type of the move
+     */
+    public <T> void submit(final Supplier<T> move, final Consumer<T> apply, final Runnable failure) {
+        final long moveGeneration = generation;
+        pendingMove = worker.submit(() -> {
+            if (moveGeneration != generation)
+                return;
+            final T result;
+            try {
+                result = move.get();
+            } catch (RuntimeException e) {
+                // A cancelled move may fail on the state being reset, only a failure of the current move matters
+                if (moveGeneration != generation)
+                    return;
+                Log.error("Unable to compute the system's move", e);
+                publisher.execute(() -> {
+                    if (moveGeneration != generation)
+                        return;
+                    pendingMove = null;
+                    failure.run();
+                });
+                return;
+            }
+            publisher.execute(() -> {
+                if (moveGeneration != generation)
+                    return;
+                pendingMove = null;
+                apply.accept(result);
+            });
+        });
+    }
+
+    /**
+     * Cancels the move being computed or waiting to be applied, if any, without waiting for it
+     */
+    public void cancel() {
+        generation++;
+        if (pendingMove != null) {
+            pendingMove.cancel(true);
+            pendingMove = null;
+        }
+    }
+
+    /**
+     * Checks if a move is being computed or waiting to be applied
+     *
+     * @return True if a move is pending, false otherwise
+     */
+    public boolean isBusy() {
+        return pendingMove != null;
+    }
+
+    /**
+     * Cancels any pending move and stops the worker
+     */
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,136 @@
+package Game.Model;
+
+import Game.Model.Enums.GridSquareStatus;
+
+/**
+ * The state of one player's board as seen by the rules of the game: its boats, the shots taken at it and what is left
+ * afloat. Implementations differ in how they store the grid, e.g. {@link BoardState} keeps dense bit sets for the
+ * boards the game is played on, {@link ConcurrentBoardState} can be shot at by many threads at once and
+ * {@link SparseBoardState} only stores the squares that hold a boat or were shot at, for very large boards.
+ * <p>
+ * Squares are addressed by their x (column) and y (row) coordinates, both from 0 to getGridDimension() - 1.
+ */
+public interface Board {
+    /**
+     * Fires a shot at a square
+     *
+     * @param x X coordinate of the guess on the grid
+     * @param y Y coordinate of the guess on the grid
+     * @return True if the shot hit a boat, false otherwise
+     */
+    boolean validateGuess(int x, int y);
+
+    /**
+     * Places a boat with its first square at the provided coordinates
+     *
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     * @return True if the boat has been placed, false if the location is invalid and it cannot be placed
+     */
+    boolean placeShipOnBoard(int row, int column, int boatSize, boolean isHorizontal);
+
+    /**
+     * Clears the board and places the fleet for its dimension in random locations
+     *
+     * @return True if the whole fleet was placed, false if no placement was found and the board was left empty
+     */
+    boolean randomizeShipLocations();
+
+    /**
+     * Removes every boat, hit and miss from the board, keeping its dimension
+     */
+    void clearBoard();
+
+    /**
+     * Replaces the board with an empty one of a new dimension
+     *
+     * @param newGridDimension New dimension of the board
+     */
+    void resizeGrid(int newGridDimension);
+
+    /**
+     * Removes every hit and miss from the board and restores the health of its boats, keeping the boats where they are
+     */
+    void resetShots();
+
+    /**
+     * Gets the dimension of one side of the board
+     *
+     * @return Dimension of one side of the board
+     */
+    int getGridDimension();
+
+    /**
+     * Returns the status of the square at location x,y
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Status of the square, null if the square is empty and has not been guessed
+     */
+    GridSquareStatus getSquareStatus(int x, int y);
+
+    /**
+     * Checks if a square has been shot at
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return True if the square was hit or missed, false otherwise
+     */
+    boolean isTried(int x, int y);
+
+    /**
+     * Gets the size of the boat at a certain square
+     *
+     * @param x X where the boat is located
+     * @param y Y where the boat is located
+     * @return Size of the boat at X,Y, 0 if there is no boat there
+     */
+    int getShipSize(int x, int y);
+
+    /**
+     * Gets the health of the boat at a certain square
+     *
+     * @param x X where the boat is located
+     * @param y Y where the boat is located
+     * @return Health of the boat at X,Y, -1 if there is no boat there
+     */
+    int getGridBoatHealth(int x, int y);
+
+    /**
+     * Gets the number of boats on the board
+     *
+     * @return Number of boats placed
+     */
+    int getBoatCount();
+
+    /**
+     * Gets the number of squares across all boats on the board that have not been hit
+     *
+     * @return Hit points remaining on the board
+     */
+    int getHitPointsRemaining();
+
+    /**
+     * Gets the total number of squares occupied by boats on the board
+     *
+     * @return Total hit points of all boats on the board
+     */
+    int getTotalHitPoints();
+
+    /**
+     * Gets the number of boats on the board that have not been sunk
+     *
+     * @return Number of boats afloat
+     */
+    int getShipsAfloat();
+
+    /**
+     * Gets the number of boats of a given size that have not been sunk
+     *
+     * @param boatSize Size of the boats
+     * @return Number of boats of boatSize afloat
+     */
+    int getShipsRemaining(int boatSize);
+}
@@ -1,31 +1,130 @@
 package Game.Model;
 
 import Game.Model.Enums.GridSquareStatus;
-
+import Game.Model.Events.BoardListener;
+import Game.Model.Events.EventDispatcher;
+import Game.Model.Events.SquareEvent;
+import Game.Util.Log;
+import Game.Util.Utils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Observable;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.Executor;
 
 import static Game.Util.Constants.DEFAULT_GRID_DIMENSION;
+import static Game.Util.Constants.MAX_BOAT_SIZE;
 
 /**
  * This class tracks the state of a grid for a Battleship player, validates guesses, and also tracks what boats have or
  * can be placed on the board.
+ * <p>
+ * The grid is stored as packed bit sets with one bit per square, where square (x,y) is bit {@code y * gridDimension + x}.
+ * Ship occupancy, hits and misses each have their own set of words and the boat a square belongs to is kept in a
+ * primitive side table, so a board does not hold any objects per square.
+ * <p>
+ * Changes are published to {@link BoardListener}s as typed events carrying the squares that changed.
  */
-@SuppressWarnings("deprecation")
-public class BoardState extends Observable {
+public class BoardState implements Board {
+    /**
+     * Delivers squareChanged events without capturing their arguments
+     */
+    private static final SquareEvent<BoardListener, BoardState, GridSquareStatus> SQUARE_CHANGED =
+            (listener, boardState, x, y, status) -> listener.squareChanged(boardState, x, y, status);
+
+    /**
+     * Delivers shipSunk events without capturing their arguments
+     */
+    private static final SquareEvent<BoardListener, BoardState, Integer> SHIP_SUNK =
+            (listener, boardState, x, y, boatSize) -> listener.shipSunk(boardState, x, y, boatSize);
+
+    /**
+     * Result of a shot in a volley that hit a boat
+     */
+    public static final byte SHOT_HIT = 1;
+
+    /**
+     * Result of a shot in a volley that sunk the boat it hit
+     */
+    public static final byte SHOT_SUNK = 1 << 1;
+
+    /**
+     * Largest dimension a snapshot can hold, the first square of every boat must fit in the 23 bits below its size
+     */
+    private static final int MAX_SNAPSHOT_DIMENSION = 2896;
+
     /**
      * Dimension of one side of the square grid, e.g. gridDimension x gridDimension
      */
     private int gridDimension;
 
     /**
-     * 2D grid containing GridSquares. If an element is null, there is no ship there and
-     * if it exists it will contain a GridSquare with information about the ship
+     * Bit set of squares that contain part of a ship
+     */
+    private long[] shipSquares;
+
+    /**
+     * Bit set of squares containing a ship that has been hit
+     */
+    private long[] hitSquares;
+
+    /**
+     * Bit set of squares that have been guessed and missed
+     */
+    private long[] missedSquares;
+
+    /**
+     * Index of the boat occupying each square, only meaningful where the square's bit is set in shipSquares
+     */
+    private int[] squareBoatIds;
+
+    /**
+     * Size of each boat on the board, indexed by boat id
+     */
+    private int[] boatSizes;
+
+    /**
+     * Health of each boat on the board, indexed by boat id
+     */
+    private int[] boatHealths;
+
+    /**
+     * Placement of each boat on the board encoded by {@link FleetGenerator#encode(int, boolean)}, indexed by boat id
+     */
+    private int[] boatPlacements;
+
+    /**
+     * Number of boats currently on the board
+     */
+    private int boatCount;
+
+    /**
+     * Number of squares across all boats that have not been hit
+     */
+    private int hitPointsRemaining;
+
+    /**
+     * Number of squares occupied by boats
+     */
+    private int totalHitPoints;
+
+    /**
+     * Number of boats that have not been sunk
+     */
+    private int shipsAfloat;
+
+    /**
+     * Number of boats of each size that have not been sunk, indexed by boat size
+     */
+    private int[] shipsRemainingBySize;
+
+    /**
+     * Squares that have not been guessed yet
      */
-    private GridSquare[][] grid;
+    private final UntriedCells untriedCells = new UntriedCells();
 
     /**
      * True if board belongs to player, false otherwise
@@ -39,14 +138,19 @@ public class BoardState extends Observable {
     private List<GridBoat> designBoatsNotPlaced;
 
     /**
-     * Boats currently on the board
+     * List of boat sizes that the player can place on the ship
      */
-    private List<GridBoat> boatsOnBoard;
+    private List<Integer> boatSizeOptions;
 
     /**
-     * List of boat sizes that the player can place on the ship
+     * Listeners notified when the board changes
      */
-    private List<Integer> boatSizeOptions;
+    private final EventDispatcher<BoardListener> listeners = new EventDispatcher<>();
+
+    /**
+     * Generates the random placements of the fleet
+     */
+    private final FleetGenerator fleetGenerator = new FleetGenerator();
 
     /**
      * Constructs a fresh state of the Battleship game and initializes an empty grid
@@ -54,7 +158,6 @@ public class BoardState extends Observable {
      * @param isPlayer True if board belongs to player, false otherwise
      */
     public BoardState(boolean isPlayer) {
-        this.boatsOnBoard = new ArrayList<>();
         this.isPlayer = isPlayer;
         this.resizeGrid(DEFAULT_GRID_DIMENSION);
     }
@@ -63,44 +166,113 @@ public class BoardState extends Observable {
      * Resets the grid to its default dimension and re-initializes the state
      */
     public void reset() {
-        boatsOnBoard = new ArrayList<>();
         gridDimension = DEFAULT_GRID_DIMENSION;
         resizeGrid(DEFAULT_GRID_DIMENSION);
-        notifyObservers();
     }
 
     /**
      * Clears the board of all ships
      */
+    @Override
     public void clearBoard() {
-        grid = new GridSquare[gridDimension][gridDimension];
+        clearSquares();
         if (isPlayer)
             populateDesignShips();
-        notifyObservers();
+        if (listeners.hasListeners())
+            listeners.dispatch(listener -> listener.boardCleared(this));
+    }
+
+    /**
+     * Removes every hit and miss from the board and restores the health of its boats, keeping the boats where they are
+     */
+    @Override
+    public void resetShots() {
+        Arrays.fill(hitSquares, 0);
+        Arrays.fill(missedSquares, 0);
+        Arrays.fill(shipsRemainingBySize, 0);
+        for (int boatId = 0; boatId < boatCount; boatId++) {
+            boatHealths[boatId] = boatSizes[boatId];
+            shipsRemainingBySize[boatSizes[boatId]]++;
+        }
+        hitPointsRemaining = totalHitPoints;
+        shipsAfloat = boatCount;
+        untriedCells.reset(gridDimension * gridDimension);
+        if (listeners.hasListeners())
+            listeners.dispatch(listener -> listener.shotsReset(this));
     }
 
     /**
-     * Validates a guess on the game board by checking if the grid contains a ship or not
+     * Validates a guess on the game board by checking if the grid contains a ship or not. Allocates nothing unless a
+     * listener was registered with an executor
      *
      * @param x X coordinate of the guess on the grid
      * @param y Y coordinate of the guess on the grid
      * @return Returns true if the guess is valid, false if its not
      */
+    @Override
     public boolean validateGuess(final int x, final int y) {
-        GridSquare gridSquare = grid[y][x];
-        boolean isCorrect = false;
-        if (gridSquare != null && gridSquare.getStatus() == GridSquareStatus.ALIVE) {
-            gridSquare.setStatus(GridSquareStatus.HIT);
-            gridSquare.getGridBoat().takeHit();
-            isCorrect = true;
-        } else {
-            grid[y][x] = new GridSquare(new GridBoat(-1), 0, isPlayer, GridSquareStatus.MISSED); // TODO new constructor for empty square
+        final int square = toSquare(x, y);
+        final byte result = resolveShot(square);
+        final boolean isCorrect = (result & SHOT_HIT) != 0;
+
+        if (listeners.hasListeners()) {
+            listeners.dispatch(SQUARE_CHANGED, this, x, y, isCorrect ? GridSquareStatus.HIT : GridSquareStatus.MISSED);
+            if ((result & SHOT_SUNK) != 0)
+                listeners.dispatch(SHIP_SUNK, this, x, y, boatSizes[squareBoatIds[square]]);
         }
-
-        notifyObservers();
         return isCorrect;
     }
 
+    /**
+     * Validates a volley of guesses in one pass, as fired in a salvo. Every shot is resolved as by
+     * {@link #validateGuess(int, int)}, in order, and listeners get a single volleyResolved event once the whole volley
+     * has landed instead of an event per shot
+     *
+     * @param squares Squares guessed, encoded as {@code y * gridDimension + x}
+     * @param count   Number of squares in the volley
+     * @param results Filled with the result of each shot, a combination of {@link #SHOT_HIT} and {@link #SHOT_SUNK},
+     *                0 for a miss
+     * @return Number of shots that hit a boat
+     */
+    public int validateGuesses(final int[] squares, final int count, final byte[] results) {
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            results[i] = resolveShot(squares[i]);
+            if (results[i] != 0)
+                hits++;
+        }
+
+        if (listeners.hasListeners()) {
+            final int[] volleySquares = Arrays.copyOf(squares, count);
+            final byte[] volleyResults = Arrays.copyOf(results, count);
+            listeners.dispatch(listener -> listener.volleyResolved(this, volleySquares, volleyResults));
+        }
+        return hits;
+    }
+
+    /**
+     * Marks a square as guessed and takes a hit point from the boat on it, if it has one that was not hit already
+     *
+     * @param square Square guessed
+     * @return Result of the shot, a combination of {@link #SHOT_HIT} and {@link #SHOT_SUNK}, 0 for a miss
+     */
+    private byte resolveShot(final int square) {
+        untriedCells.remove(square);
+        if (isSet(shipSquares, square) && !isSet(hitSquares, square) && !isSet(missedSquares, square)) {
+            set(hitSquares, square);
+            final int boatId = squareBoatIds[square];
+            hitPointsRemaining--;
+            if (--boatHealths[boatId] == 0) {
+                shipsAfloat--;
+                shipsRemainingBySize[boatSizes[boatId]]--;
+                return SHOT_HIT | SHOT_SUNK;
+            }
+            return SHOT_HIT;
+        }
+        set(missedSquares, square);
+        return 0;
+    }
+
     /**
      * Places a boat of a given ship size at the provided coordinates
      *
@@ -110,18 +282,13 @@ public class BoardState extends Observable {
      * @param isHorizontal True if the boat is horizontal, false if it is vertical
      * @return True if the boat has been placed, false the location is invalid and it cannot be placed
      */
+    @Override
     public boolean placeShipOnBoard(final int row, final int column, final int boatSize, final boolean isHorizontal) {
         boolean isSuccessful = false;
         if (isLocationValid(row, column, boatSize, isHorizontal)) {
             createBoat(row, column, boatSize, isHorizontal);
-            for (Iterator<GridBoat> iterator = designBoatsNotPlaced.iterator(); iterator.hasNext(); ) {
-                GridBoat boat = iterator.next();
-                if (boat.getBoatSize() == boatSize) {
-                    iterator.remove();
-                    break;
-                }
-            }
-            notifyObservers();
+            removeDesignBoat(boatSize);
+            fireShipPlaced(row, column, boatSize, isHorizontal);
             isSuccessful = true;
         }
         return isSuccessful;
@@ -129,20 +296,161 @@ public class BoardState extends Observable {
 
     /**
      * Places a varying number of ships in random locations on the board. Number of ships placed changes on grid size.
+     *
+     * @return True if the whole fleet was placed, false if no placement was found and the board was left empty
      */
-    public void randomizeShipLocations() {
+    @Override
+    public boolean randomizeShipLocations() {
         resizeGrid(gridDimension);
-        final int DIM = gridDimension / 2;
+        final int DIM = getLargestBoatSize();
+        final int[] fleet = new int[DIM * (DIM + 1) / 2];
+        int boat = 0;
         for (int boatSize = DIM; boatSize > 0; boatSize--) {
-            int debug_numberOfBoats = -1;
-            for (int numberOfBoats = 1; numberOfBoats <= DIM - boatSize + 1; numberOfBoats++) {
-                createRandomBoat(boatSize);
-                debug_numberOfBoats = numberOfBoats;
+            for (int numberOfBoats = 1; numberOfBoats <= DIM - boatSize + 1; numberOfBoats++)
+                fleet[boat++] = boatSize;
+        }
+
+        final int[] placements = fleetGenerator.generate(gridDimension, fleet);
+        if (placements == null) {
+            Log.warn("Unable to place a fleet of %d ships", fleet.length);
+            return false;
+        }
+
+        for (int i = 0; i < fleet.length; i++) {
+            final int square = FleetGenerator.squareOf(placements[i]);
+            final int row = square / gridDimension;
+            final int column = square % gridDimension;
+            final boolean isHorizontal = FleetGenerator.isHorizontal(placements[i]);
+            createBoat(row, column, fleet[i], isHorizontal);
+            fireShipPlaced(row, column, fleet[i], isHorizontal);
+        }
+        Log.debug("%d ships were created", fleet.length);
+        return true;
+    }
+
+    /**
+     * Removes a boat of a given size from the boats that can still be placed, if there is one
+     *
+     * @param boatSize Size of the boat that was placed
+     */
+    private void removeDesignBoat(final int boatSize) {
+        for (Iterator<GridBoat> iterator = designBoatsNotPlaced.iterator(); iterator.hasNext(); ) {
+            GridBoat boat = iterator.next();
+            if (boat.getBoatSize() == boatSize) {
+                iterator.remove();
+                break;
             }
-            System.out.printf("[DEBUG] %d ships of size %d were created%n", debug_numberOfBoats, boatSize);
         }
+    }
+
+    /**
+     * Gets the number of bytes {@link #writeSnapshot(ByteBuffer)} writes for the board as it is now
+     *
+     * @return Size of the board's snapshot in bytes
+     */
+    public int getSnapshotSize() {
+        return Short.BYTES + Integer.BYTES + Integer.BYTES * boatCount + 2 * Long.BYTES * shipSquares.length;
+    }
+
+    /**
+     * Writes the board's dimension, boats, hits and misses to a buffer. Boats are written as
+     * {@code size << 24 | placement} and the hits and misses as their bit sets, so the snapshot takes a few bytes per
+     * boat and two bits per square
+     *
+     * @param buffer Buffer the snapshot is written to, with at least getSnapshotSize() bytes remaining
+     * @throws IllegalStateException If the board is too large to be written
+     */
+    public void writeSnapshot(final ByteBuffer buffer) {
+        if (gridDimension > MAX_SNAPSHOT_DIMENSION)
+            throw new IllegalStateException("Unable to write a snapshot of a " + gridDimension + "x" + gridDimension
+                    + " board");
+        buffer.putShort((short) gridDimension).putInt(boatCount);
+        for (int boatId = 0; boatId < boatCount; boatId++)
+            buffer.putInt(boatSizes[boatId] << 24 | boatPlacements[boatId]);
+        for (long word : hitSquares)
+            buffer.putLong(word);
+        for (long word : missedSquares)
+            buffer.putLong(word);
+    }
+
+    /**
+     * Replaces the whole board with a snapshot written by {@link #writeSnapshot(ByteBuffer)}. The health of the boats,
+     * the untried squares and the boats left to place are rebuilt from it, and listeners receive a single boardRestored
+     * event
+     *
+     * @param buffer Buffer the snapshot is read from
+     * @throws IllegalArgumentException If the snapshot does not describe a valid board, the board is left empty
+     * @throws BufferUnderflowException If the snapshot is cut short, the board is left empty
+     */
+    public void readSnapshot(final ByteBuffer buffer) {
+        final int newGridDimension = Short.toUnsignedInt(buffer.getShort());
+        final int newBoatCount = buffer.getInt();
+        if (newGridDimension == 0 || newGridDimension > MAX_SNAPSHOT_DIMENSION || newBoatCount < 0
+                || newBoatCount > newGridDimension * newGridDimension)
+            throw new IllegalArgumentException("Invalid board snapshot: " + newGridDimension + "x" + newGridDimension
+                    + " board with " + newBoatCount + " boats");
+
+        gridDimension = newGridDimension;
+        clearSquares();
+        if (isPlayer)
+            populateDesignShips();
+        try {
+            restoreSnapshot(buffer, newBoatCount);
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            clearSquares();
+            if (isPlayer)
+                populateDesignShips();
+            throw e;
+        } finally {
+            if (listeners.hasListeners())
+                listeners.dispatch(listener -> listener.boardRestored(this));
+        }
+    }
 
-        notifyObservers();
+    /**
+     * Places the boats of a snapshot on the cleared board and applies its hits and misses
+     *
+     * @param buffer    Buffer positioned at the snapshot's first boat
+     * @param boatCount Number of boats in the snapshot
+     */
+    private void restoreSnapshot(final ByteBuffer buffer, final int boatCount) {
+        for (int boat = 0; boat < boatCount; boat++) {
+            final int packedBoat = buffer.getInt();
+            final int boatSize = packedBoat >>> 24;
+            final int square = FleetGenerator.squareOf(packedBoat & 0xFFFFFF);
+            final boolean isHorizontal = FleetGenerator.isHorizontal(packedBoat);
+            final int row = square / gridDimension;
+            final int column = square % gridDimension;
+            if (boatSize == 0 || square >= gridDimension * gridDimension
+                    || !isLocationValid(row, column, boatSize, isHorizontal))
+                throw new IllegalArgumentException("Invalid boat in board snapshot: size " + boatSize + " at square "
+                        + square);
+            createBoat(row, column, boatSize, isHorizontal);
+            if (isPlayer)
+                removeDesignBoat(boatSize);
+        }
+        for (int i = 0; i < hitSquares.length; i++)
+            hitSquares[i] = buffer.getLong() & shipSquares[i];
+        for (int i = 0; i < missedSquares.length; i++)
+            missedSquares[i] = buffer.getLong();
+        if (missedSquares.length > 0)
+            missedSquares[missedSquares.length - 1] &= -1L >>> (missedSquares.length * Long.SIZE
+                    - gridDimension * gridDimension);
+
+        for (int i = 0; i < hitSquares.length; i++) {
+            for (long hits = hitSquares[i]; hits != 0; hits &= hits - 1) {
+                final int boatId = squareBoatIds[i * Long.SIZE + Long.numberOfTrailingZeros(hits)];
+                hitPointsRemaining--;
+                if (--boatHealths[boatId] == 0) {
+                    shipsAfloat--;
+                    shipsRemainingBySize[boatSizes[boatId]]--;
+                }
+            }
+            for (long tried = hitSquares[i] | missedSquares[i]; tried != 0; tried &= tried - 1)
+                untriedCells.remove(i * Long.SIZE + Long.numberOfTrailingZeros(tried));
+        }
+        if (isPlayer)
+            populateBoatSizeOptions();
     }
 
     /**
@@ -150,7 +458,7 @@ public class BoardState extends Observable {
      */
     private void populateDesignShips() {
         designBoatsNotPlaced = new ArrayList<>();
-        final int DIM = gridDimension / 2;
+        final int DIM = getLargestBoatSize();
         for (int boatSize = DIM; boatSize > 0; boatSize--) {
             for (int numberOfBoats = 1; numberOfBoats <= DIM - boatSize + 1; numberOfBoats++) {
                 designBoatsNotPlaced.add(new GridBoat(boatSize));
@@ -221,69 +529,134 @@ public class BoardState extends Observable {
      *
      * @return Dimension of one side of the game board
      */
+    @Override
     public int getGridDimension() {
         return gridDimension;
     }
 
+    /**
+     * Gets the size of the largest boat in the fleet for the current dimension. The fleet contains DIM - size + 1
+     * boats of every size up to this one
+     *
+     * @return Size of the largest boat in the fleet
+     */
+    public int getLargestBoatSize() {
+        return getLargestBoatSize(gridDimension);
+    }
+
+    /**
+     * Gets the size of the largest boat in the fleet for a board of a given dimension
+     *
+     * @param gridDimension Dimension of one side of the board
+     * @return Size of the largest boat in the fleet
+     */
+    public static int getLargestBoatSize(final int gridDimension) {
+        return Math.min(gridDimension / 2, MAX_BOAT_SIZE);
+    }
+
     /**
      * Resizes the grid to a new dimension, resets the state of the grid, and repopulates design boat list
      *
      * @param newGridDimension New dimension of the board
      */
+    @Override
     public void resizeGrid(final int newGridDimension) {
-        System.out.printf("[DEBUG] New grid dimension is %dx%d%n", gridDimension, gridDimension);
-        boatsOnBoard = new ArrayList<>();
+        Log.debug("New grid dimension is %dx%d", newGridDimension, newGridDimension);
         gridDimension = newGridDimension;
-        grid = new GridSquare[gridDimension][gridDimension];
+        clearSquares();
 
         if (isPlayer)
             populateDesignShips();
 
-        notifyObservers();
+        if (listeners.hasListeners())
+            listeners.dispatch(listener -> listener.dimensionChanged(this, newGridDimension));
     }
 
     /**
-     * Returns the grid square at location x,y
+     * Returns the grid square at location x,y. Squares are shared immutable snapshots, so the square does not change
+     * when the board does
      * @param x X coordinate where grid square is
      * @param y Y coordinate where grid square is
      *
-     * @return Grid square at location x,y
+     * @return Grid square at location x,y, null if the square is empty and has not been guessed
      */
     public GridSquare getGridSquare(final int x, final int y) {
-        return grid[y][x];
+        final int square = toSquare(x, y);
+        if (isSet(missedSquares, square))
+            return GridSquare.missed(isPlayer);
+        if (!isSet(shipSquares, square))
+            return null;
+
+        final int boatId = squareBoatIds[square];
+        return GridSquare.ofShip(isPlayer, boatSizes[boatId], boatHealths[boatId], isSet(hitSquares, square));
     }
 
     /**
-     * Marks itself as changed and notifies any observers. Overridden to bundle setChanged() with notify observers
+     * Returns the status of the square at location x,y without creating a grid square
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Status of the square, null if the square is empty and has not been guessed
      */
     @Override
-    public void notifyObservers() {
-        setChanged();
-        super.notifyObservers();
+    public GridSquareStatus getSquareStatus(final int x, final int y) {
+        final int square = toSquare(x, y);
+        if (isSet(missedSquares, square))
+            return GridSquareStatus.MISSED;
+        if (!isSet(shipSquares, square))
+            return null;
+        return isSet(hitSquares, square) ? GridSquareStatus.HIT : GridSquareStatus.ALIVE;
     }
 
     /**
-     * Creates one random boat of a given size on the grid
+     * Gets the pool of squares that have not been guessed yet, used to choose guesses without retrying squares that
+     * were already tried
      *
-     * @param boatSize Size of the boat to be created
+     * @return Untried squares of the board, kept up to date as guesses are made
      */
-    private void createRandomBoat(final int boatSize) {
-        final boolean HORIZONTAL = true;
-        final boolean VERTICAL = false;
-        boolean boatCreated = false;
+    public UntriedCells getUntriedCells() {
+        return untriedCells;
+    }
 
-        while (!boatCreated) {
-            final int randomRow = ThreadLocalRandom.current().nextInt(0, gridDimension);
-            final int randomCol = ThreadLocalRandom.current().nextInt(0, gridDimension);
+    /**
+     * Registers a listener that is notified synchronously whenever the board changes
+     *
+     * @param listener Listener being registered
+     */
+    public void addBoardListener(final BoardListener listener) {
+        listeners.addListener(listener);
+    }
 
-            if (isLocationValid(randomRow, randomCol, boatSize, HORIZONTAL)) {
-                createBoat(randomRow, randomCol, boatSize, HORIZONTAL);
-                boatCreated = true;
-            } else if (isLocationValid(randomRow, randomCol, boatSize, VERTICAL)) {
-                createBoat(randomRow, randomCol, boatSize, VERTICAL);
-                boatCreated = true;
-            }
-        }
+    /**
+     * Registers a listener that is notified through an executor whenever the board changes
+     *
+     * @param listener Listener being registered
+     * @param executor Executor the listener is called through
+     */
+    public void addBoardListener(final BoardListener listener, final Executor executor) {
+        listeners.addListener(listener, executor);
+    }
+
+    /**
+     * Removes a listener so that it is no longer notified of changes
+     *
+     * @param listener Listener being removed
+     */
+    public void removeBoardListener(final BoardListener listener) {
+        listeners.removeListener(listener);
+    }
+
+    /**
+     * Notifies listeners that a boat has been placed on the board
+     *
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     */
+    private void fireShipPlaced(final int row, final int column, final int boatSize, final boolean isHorizontal) {
+        if (listeners.hasListeners())
+            listeners.dispatch(listener -> listener.shipPlaced(this, row, column, boatSize, isHorizontal));
     }
 
     /**
@@ -295,14 +668,14 @@ public class BoardState extends Observable {
      * @param isHorizontal True if ship is horizontal (left to right), false if vertical (top to bottom)
      * @return true if ship can be placed, false otherwise
      */
-    private boolean isLocationValid(final int row, final int column, final int boatSize, final boolean isHorizontal) {
+    public boolean isLocationValid(final int row, final int column, final int boatSize, final boolean isHorizontal) {
         if (isHorizontal) {
             if (column + boatSize > gridDimension) {
                 return false;
             }
 
             for (int i = column; i < column + boatSize; i++) {
-                if (grid[row][i] != null) {
+                if (isOccupied(toSquare(i, row))) {
                     return false;
                 }
             }
@@ -312,7 +685,7 @@ public class BoardState extends Observable {
             }
 
             for (int i = row; i < row + boatSize; i++) {
-                if (grid[i][column] != null) {
+                if (isOccupied(toSquare(column, i))) {
                     return false;
                 }
             }
@@ -329,19 +702,31 @@ public class BoardState extends Observable {
      * @param isHorizontal True if ship is horizontal (left to right), false if vertical (top to bottom)
      */
     private void createBoat(final int row, final int column, final int boatSize, final boolean isHorizontal) {
-        GridBoat gridBoat = new GridBoat(boatSize);
-        boatsOnBoard.add(gridBoat);
-        if (isHorizontal) {
-            for (int i = 0; i < boatSize; i++) {
-                grid[row][column + i] = new GridSquare(gridBoat, boatSize, isPlayer, GridSquareStatus.ALIVE);
-            }
-        } else {
-            for (int i = 0; i < boatSize; i++) {
-                grid[row + i][column] = new GridSquare(gridBoat, boatSize, isPlayer, GridSquareStatus.ALIVE);
-            }
+        if (boatCount == boatSizes.length) {
+            boatSizes = Arrays.copyOf(boatSizes, boatCount * 2);
+            boatHealths = Arrays.copyOf(boatHealths, boatCount * 2);
+            boatPlacements = Arrays.copyOf(boatPlacements, boatCount * 2);
+        }
+        final int boatId = boatCount++;
+        boatSizes[boatId] = boatSize;
+        boatHealths[boatId] = boatSize;
+        boatPlacements[boatId] = FleetGenerator.encode(toSquare(column, row), isHorizontal);
+        hitPointsRemaining += boatSize;
+        totalHitPoints += boatSize;
+        shipsAfloat++;
+        if (boatSize >= shipsRemainingBySize.length)
+            shipsRemainingBySize = Arrays.copyOf(shipsRemainingBySize, boatSize + 1);
+        shipsRemainingBySize[boatSize]++;
+
+        final int firstSquare = toSquare(column, row);
+        final int step = isHorizontal ? 1 : gridDimension;
+        for (int i = 0, square = firstSquare; i < boatSize; i++, square += step) {
+            set(shipSquares, square);
+            squareBoatIds[square] = boatId;
         }
-        System.out.printf("[DEBUG] %s %s boat of size %d was created at (%dx%d)%n", isPlayer ? "Player" : "System"
-                , isHorizontal ? "Horizontal" : "Vertical", boatSize, row + 1, column + 1);
+        if (Log.isDebugEnabled())
+            Log.debug("%s %s boat of size %d was created at %s%d", isPlayer ? "Player" : "System",
+                    isHorizontal ? "Horizontal" : "Vertical", boatSize, Utils.getLetterCoordinate(column), row + 1);
     }
 
     /**
@@ -349,26 +734,187 @@ public class BoardState extends Observable {
      *
      * @param x X where the boat is located
      * @param y Y where the boat is located
-     * @return Health of the boat at X,Y
+     * @return Health of the boat at X,Y, -1 if there is no boat there
      */
+    @Override
     public int getGridBoatHealth(final int x, final int y) {
-        return grid[y][x].getGridBoat().getBoatHealth();
+        final int square = toSquare(x, y);
+        return isSet(shipSquares, square) && !isSet(missedSquares, square) ? boatHealths[squareBoatIds[square]] : -1;
+    }
+
+    /**
+     * Checks if a square has been shot at
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return True if the square was hit or missed, false otherwise
+     */
+    @Override
+    public boolean isTried(final int x, final int y) {
+        final int square = toSquare(x, y);
+        return isSet(hitSquares, square) || isSet(missedSquares, square);
+    }
+
+    /**
+     * Gets the size of the boat at a certain square
+     *
+     * @param x X where the boat is located
+     * @param y Y where the boat is located
+     * @return Size of the boat at X,Y, 0 if there is no boat there
+     */
+    @Override
+    public int getShipSize(final int x, final int y) {
+        final int square = toSquare(x, y);
+        return isSet(shipSquares, square) && !isSet(missedSquares, square) ? boatSizes[squareBoatIds[square]] : 0;
+    }
+
+    /**
+     * Gets the number of boats placed on the board, which are numbered from 0 in the order they were placed
+     *
+     * @return Number of boats on the board
+     */
+    @Override
+    public int getBoatCount() {
+        return boatCount;
+    }
+
+    /**
+     * Gets the size of a boat by its number
+     *
+     * @param boatId Number of the boat, from 0 to getBoatCount() - 1
+     * @return Size of the boat
+     */
+    public int getBoatSize(final int boatId) {
+        return boatSizes[boatId];
+    }
+
+    /**
+     * Gets where a boat was placed by its number
+     *
+     * @param boatId Number of the boat, from 0 to getBoatCount() - 1
+     * @return Placement of the boat, decoded by {@link FleetGenerator#squareOf(int)} and
+     * {@link FleetGenerator#isHorizontal(int)}
+     */
+    public int getBoatPlacement(final int boatId) {
+        return boatPlacements[boatId];
     }
 
+    /**
+     * Gets the number of squares across all boats on the board that have not been hit
+     *
+     * @return Hit points remaining on the board
+     */
+    @Override
     public int getHitPointsRemaining() {
-        int hitPointsRemaining = 0;
-        for (GridBoat boat : boatsOnBoard) {
-            if (boat.getBoatHealth() > 0)
-                hitPointsRemaining += boat.getBoatHealth();
-        }
         return hitPointsRemaining;
     }
 
+    /**
+     * Gets the total number of squares occupied by boats on the board
+     *
+     * @return Total hit points of all boats on the board
+     */
+    @Override
     public int getTotalHitPoints() {
-        int totalHitPoints = 0;
-        for (GridBoat boat : boatsOnBoard) {
-            totalHitPoints += boat.getBoatSize();
-        }
         return totalHitPoints;
     }
+
+    /**
+     * Gets the number of boats on the board that have not been sunk
+     *
+     * @return Number of boats afloat
+     */
+    @Override
+    public int getShipsAfloat() {
+        return shipsAfloat;
+    }
+
+    /**
+     * Gets the number of boats of a given size that have not been sunk
+     *
+     * @param boatSize Size of the boats
+     * @return Number of boats of boatSize afloat
+     */
+    @Override
+    public int getShipsRemaining(final int boatSize) {
+        return boatSize > 0 && boatSize < shipsRemainingBySize.length ? shipsRemainingBySize[boatSize] : 0;
+    }
+
+    /**
+     * Gets the number of boats of every size that have not been sunk
+     *
+     * @return Copy of the histogram of boats afloat, indexed by boat size
+     */
+    public int[] getShipsRemainingBySize() {
+        return shipsRemainingBySize.clone();
+    }
+
+    /**
+     * Removes all boats, hits and misses from the grid, keeping its current dimension
+     */
+    private void clearSquares() {
+        final int words = (gridDimension * gridDimension + Long.SIZE - 1) / Long.SIZE;
+        if (shipSquares == null || shipSquares.length != words || squareBoatIds.length != gridDimension * gridDimension) {
+            shipSquares = new long[words];
+            hitSquares = new long[words];
+            missedSquares = new long[words];
+            squareBoatIds = new int[gridDimension * gridDimension];
+            boatSizes = new int[Math.max(gridDimension, 1)];
+            boatHealths = new int[boatSizes.length];
+            boatPlacements = new int[boatSizes.length];
+            shipsRemainingBySize = new int[getLargestBoatSize() + 1];
+        } else {
+            Arrays.fill(shipSquares, 0);
+            Arrays.fill(hitSquares, 0);
+            Arrays.fill(missedSquares, 0);
+            Arrays.fill(shipsRemainingBySize, 0);
+        }
+        boatCount = 0;
+        hitPointsRemaining = 0;
+        totalHitPoints = 0;
+        shipsAfloat = 0;
+        untriedCells.reset(gridDimension * gridDimension);
+    }
+
+    /**
+     * Checks if a square already contains a boat or a marker and cannot have a boat placed on it
+     *
+     * @param square Index of the square
+     * @return True if the square is occupied, false otherwise
+     */
+    private boolean isOccupied(final int square) {
+        return isSet(shipSquares, square) || isSet(missedSquares, square);
+    }
+
+    /**
+     * Converts (x,y) coordinates into the index of the square's bit
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Index of the square
+     */
+    private int toSquare(final int x, final int y) {
+        return y * gridDimension + x;
+    }
+
+    /**
+     * Checks if a square's bit is set in a bit set
+     *
+     * @param bits   Bit set being checked
+     * @param square Index of the square
+     * @return True if the bit is set, false otherwise
+     */
+    private static boolean isSet(final long[] bits, final int square) {
+        return (bits[square >>> 6] & (1L << square)) != 0;
+    }
+
+    /**
+     * Sets a square's bit in a bit set
+     *
+     * @param bits   Bit set being modified
+     * @param square Index of the square
+     */
+    private static void set(final long[] bits, final int square) {
+        bits[square >>> 6] |= 1L << square;
+    }
 }
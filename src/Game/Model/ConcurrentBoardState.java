@@ -0,0 +1,578 @@
+package Game.Model;
+
+import Game.Model.Enums.GridSquareStatus;
+import Game.Util.Log;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static Game.Util.Constants.DEFAULT_GRID_DIMENSION;
+
+/**
+ * A board that any number of threads can shoot at and read from at once. Every square is one int in an
+ * {@link AtomicIntegerArray} packing the boat occupying it with whether it was hit or missed, so a shot claims its
+ * square with a single compare-and-set and is counted exactly once however many threads fire at the square. The health
+ * of every boat and the totals of the board are decremented atomically by the shot that claimed the square.
+ * <p>
+ * Reads are wait-free: every getter is a plain volatile read of a square or a counter. Placing boats, clearing the
+ * board and resetting its shots are rare and serialized with each other. A placement reserves its squares with the
+ * same compare-and-set, so a boat is never placed on a square that a concurrent shot already missed, then commits the
+ * boat with one compare-and-set on its state. Shots never wait for a placement: a shot at a square reserved by a
+ * placement that has not committed cancels the placement and misses, as if it had landed before the boat was placed.
+ * Randomizing, clearing or resetting builds a fresh grid privately and swaps it in one step, so readers never see a
+ * half built board.
+ * <p>
+ * Unlike {@link BoardState} a repeated shot changes nothing, and the board does not notify listeners, concurrent
+ * readers poll it instead.
+ */
+public class ConcurrentBoardState implements Board {
+    /**
+     * Square state of a square that has not been shot at
+     */
+    private static final int UNTRIED = 0;
+
+    /**
+     * Square state of a boat square that was hit
+     */
+    private static final int HIT = 1;
+
+    /**
+     * Square state of an empty square that was missed
+     */
+    private static final int MISSED = 2;
+
+    /**
+     * Square state of a square being claimed by a boat placement that has not finished
+     */
+    private static final int PENDING = 3;
+
+    /**
+     * Bits of a square holding its state, the bits above hold the boat's index plus one, 0 if the square is empty
+     */
+    private static final int STATE_MASK = 3;
+
+    /**
+     * Number of bits the boat's reference is shifted by in a square
+     */
+    private static final int BOAT_SHIFT = 2;
+
+    /**
+     * State of a boat whose placement has reserved its squares but not committed
+     */
+    private static final int BOAT_PENDING = 0;
+
+    /**
+     * State of a boat whose placement has committed
+     */
+    private static final int BOAT_PLACED = 1;
+
+    /**
+     * State of a boat whose placement was rolled back or cancelled by a shot
+     */
+    private static final int BOAT_CANCELLED = 2;
+
+    /**
+     * Grid currently in play, replaced as a whole when the board is cleared, resized or its shots are reset
+     */
+    private volatile Grid grid;
+
+    /**
+     * Generates the random placements of the fleet
+     */
+    private final FleetGenerator fleetGenerator = new FleetGenerator();
+
+    /**
+     * Creates an empty board of the default dimension
+     */
+    public ConcurrentBoardState() {
+        this(DEFAULT_GRID_DIMENSION);
+    }
+
+    /**
+     * Creates an empty board
+     *
+     * @param gridDimension Dimension of one side of the board
+     */
+    public ConcurrentBoardState(final int gridDimension) {
+        grid = new Grid(gridDimension, new Boat[Math.max(gridDimension, 1)]);
+    }
+
+    /**
+     * Creates a board holding the same boats, hits and misses as a board that is not shared between threads
+     *
+     * @param boardState Board to copy, it must not change while it is copied
+     * @return New concurrent board
+     */
+    public static ConcurrentBoardState copyOf(final BoardState boardState) {
+        final int dimension = boardState.getGridDimension();
+        final ConcurrentBoardState board = new ConcurrentBoardState(dimension);
+        for (int boatId = 0; boatId < boardState.getBoatCount(); boatId++) {
+            final int placement = boardState.getBoatPlacement(boatId);
+            final int square = FleetGenerator.squareOf(placement);
+            board.placeShipOnBoard(square / dimension, square % dimension, boardState.getBoatSize(boatId),
+                    FleetGenerator.isHorizontal(placement));
+        }
+        for (int square = 0; square < dimension * dimension; square++) {
+            if (!boardState.getUntriedCells().contains(square))
+                board.validateGuess(square % dimension, square / dimension);
+        }
+        return board;
+    }
+
+    /**
+     * Fires a shot at a square. Exactly one of any number of concurrent shots at the same square is taken. The shot
+     * never waits for a placement in progress, it cancels the placement unless the boat was already committed
+     *
+     * @param x X coordinate of the guess on the grid
+     * @param y Y coordinate of the guess on the grid
+     * @return True if this shot hit a boat, false if it missed or the square had already been shot at
+     */
+    @Override
+    public boolean validateGuess(final int x, final int y) {
+        final Grid current = grid;
+        final int square = current.toSquare(x, y);
+        Boat boat;
+        while (true) {
+            final int value = current.squares.get(square);
+            final int state = value & STATE_MASK;
+            if (state == HIT || state == MISSED)
+                return false;
+
+            final int boatReference = value >>> BOAT_SHIFT;
+            boat = boatReference == 0 ? null : current.boats[boatReference - 1];
+            if (state == PENDING && boat.state.get() != BOAT_PLACED) {
+                // The placement has not committed, so the boat is not on the board yet
+                boat.state.compareAndSet(BOAT_PENDING, BOAT_CANCELLED);
+                if (boat.state.get() == BOAT_CANCELLED)
+                    boat = null;
+            }
+            if (current.squares.compareAndSet(square, value, boat == null ? MISSED : value & ~STATE_MASK | HIT))
+                break;
+        }
+        if (boat == null)
+            return false;
+
+        current.hitPointsRemaining.decrementAndGet();
+        if (boat.health.decrementAndGet() == 0) {
+            current.shipsAfloat.decrementAndGet();
+            current.shipsRemainingBySize.decrementAndGet(boat.size);
+        }
+        return true;
+    }
+
+    /**
+     * Places a boat with its first square at the provided coordinates
+     *
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     * @return True if the boat has been placed, false if it does not fit or one of its squares is taken or was shot at
+     */
+    @Override
+    public synchronized boolean placeShipOnBoard(final int row, final int column, final int boatSize,
+                                                 final boolean isHorizontal) {
+        return place(grid, row, column, boatSize, isHorizontal);
+    }
+
+    /**
+     * Clears the board and places the fleet for its dimension in random locations
+     *
+     * @return True if the whole fleet was placed, false if no placement was found and the board was left empty
+     */
+    @Override
+    public synchronized boolean randomizeShipLocations() {
+        final int dimension = grid.dimension;
+        final int largestBoatSize = BoardState.getLargestBoatSize(dimension);
+        final int[] fleet = new int[largestBoatSize * (largestBoatSize + 1) / 2];
+        int boat = 0;
+        for (int boatSize = largestBoatSize; boatSize > 0; boatSize--) {
+            for (int numberOfBoats = 1; numberOfBoats <= largestBoatSize - boatSize + 1; numberOfBoats++)
+                fleet[boat++] = boatSize;
+        }
+
+        final int[] placements = fleetGenerator.generate(dimension, fleet);
+        // The fleet is placed on a grid no other thread can see yet and published whole
+        final Grid placed = new Grid(dimension, new Boat[Math.max(fleet.length, 1)]);
+        boolean isPlaced = placements != null;
+        for (int i = 0; isPlaced && i < fleet.length; i++) {
+            final int square = FleetGenerator.squareOf(placements[i]);
+            isPlaced = place(placed, square / dimension, square % dimension, fleet[i],
+                    FleetGenerator.isHorizontal(placements[i]));
+        }
+        if (!isPlaced) {
+            Log.warn("Unable to place a fleet of %d ships", fleet.length);
+            grid = new Grid(dimension, new Boat[Math.max(dimension, 1)]);
+            return false;
+        }
+        grid = placed;
+        return true;
+    }
+
+    /**
+     * Removes every boat, hit and miss from the board, keeping its dimension
+     */
+    @Override
+    public synchronized void clearBoard() {
+        resizeGrid(grid.dimension);
+    }
+
+    /**
+     * Replaces the board with an empty one of a new dimension
+     *
+     * @param newGridDimension New dimension of the board
+     */
+    @Override
+    public synchronized void resizeGrid(final int newGridDimension) {
+        grid = new Grid(newGridDimension, new Boat[Math.max(newGridDimension, 1)]);
+    }
+
+    /**
+     * Removes every hit and miss from the board and restores the health of its boats, keeping the boats where they are.
+     * Shots still being resolved on the previous grid do not affect the new one
+     */
+    @Override
+    public synchronized void resetShots() {
+        final Grid current = grid;
+        final Grid reset = new Grid(current.dimension, new Boat[current.boats.length]);
+        for (int i = 0; i < current.boatSlots; i++) {
+            final Boat boat = current.boats[i];
+            reset.boats[i] = new Boat(boat.size, boat.placement, boat.state.get());
+            if (boat.state.get() == BOAT_PLACED) {
+                reset.totalHitPoints += boat.size;
+                reset.shipsRemainingBySize.incrementAndGet(boat.size);
+            }
+        }
+        for (int square = 0; square < current.squares.length(); square++)
+            reset.squares.set(square, current.squares.get(square) & ~STATE_MASK);
+        reset.boatSlots = current.boatSlots;
+        reset.boatCount = current.boatCount;
+        reset.hitPointsRemaining.set(reset.totalHitPoints);
+        reset.shipsAfloat.set(current.boatCount);
+        grid = reset;
+    }
+
+    /**
+     * Gets the dimension of one side of the board
+     *
+     * @return Dimension of one side of the board
+     */
+    @Override
+    public int getGridDimension() {
+        return grid.dimension;
+    }
+
+    /**
+     * Returns the status of the square at location x,y
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Status of the square, null if the square is empty and has not been guessed
+     */
+    @Override
+    public GridSquareStatus getSquareStatus(final int x, final int y) {
+        final Grid current = grid;
+        final int value = current.squares.get(current.toSquare(x, y));
+        switch (value & STATE_MASK) {
+            case HIT:
+                return GridSquareStatus.HIT;
+            case MISSED:
+                return GridSquareStatus.MISSED;
+            case PENDING:
+                return boatAt(current, x, y) == null ? null : GridSquareStatus.ALIVE;
+            default:
+                return value == 0 ? null : GridSquareStatus.ALIVE;
+        }
+    }
+
+    /**
+     * Checks if a square has been shot at
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return True if the square was hit or missed, false otherwise
+     */
+    @Override
+    public boolean isTried(final int x, final int y) {
+        final Grid current = grid;
+        final int state = current.squares.get(current.toSquare(x, y)) & STATE_MASK;
+        return state == HIT || state == MISSED;
+    }
+
+    /**
+     * Gets the size of the boat at a certain square
+     *
+     * @param x X where the boat is located
+     * @param y Y where the boat is located
+     * @return Size of the boat at X,Y, 0 if there is no boat there
+     */
+    @Override
+    public int getShipSize(final int x, final int y) {
+        final Boat boat = boatAt(grid, x, y);
+        return boat == null ? 0 : boat.size;
+    }
+
+    /**
+     * Gets the health of the boat at a certain square
+     *
+     * @param x X where the boat is located
+     * @param y Y where the boat is located
+     * @return Health of the boat at X,Y, -1 if there is no boat there
+     */
+    @Override
+    public int getGridBoatHealth(final int x, final int y) {
+        final Boat boat = boatAt(grid, x, y);
+        return boat == null ? -1 : boat.health.get();
+    }
+
+    /**
+     * Gets the number of boats on the board
+     *
+     * @return Number of boats placed
+     */
+    @Override
+    public int getBoatCount() {
+        return grid.boatCount;
+    }
+
+    /**
+     * Gets the number of squares across all boats on the board that have not been hit
+     *
+     * @return Hit points remaining on the board
+     */
+    @Override
+    public int getHitPointsRemaining() {
+        return grid.hitPointsRemaining.get();
+    }
+
+    /**
+     * Gets the total number of squares occupied by boats on the board
+     *
+     * @return Total hit points of all boats on the board
+     */
+    @Override
+    public int getTotalHitPoints() {
+        return grid.totalHitPoints;
+    }
+
+    /**
+     * Gets the number of boats on the board that have not been sunk
+     *
+     * @return Number of boats afloat
+     */
+    @Override
+    public int getShipsAfloat() {
+        return grid.shipsAfloat.get();
+    }
+
+    /**
+     * Gets the number of boats of a given size that have not been sunk
+     *
+     * @param boatSize Size of the boats
+     * @return Number of boats of boatSize afloat
+     */
+    @Override
+    public int getShipsRemaining(final int boatSize) {
+        final AtomicIntegerArray shipsRemainingBySize = grid.shipsRemainingBySize;
+        return boatSize > 0 && boatSize < shipsRemainingBySize.length() ? shipsRemainingBySize.get(boatSize) : 0;
+    }
+
+    /**
+     * Places a boat on a grid. The boat first reserves its squares, then commits unless a shot cancelled it meanwhile
+     *
+     * @param current      Grid the boat is placed on
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     * @return True if the boat has been placed, false if it does not fit, one of its squares is taken or was shot at
+     */
+    private static boolean place(final Grid current, final int row, final int column, final int boatSize,
+                                 final boolean isHorizontal) {
+        final int dimension = current.dimension;
+        if (boatSize <= 0 || row < 0 || column < 0 || (isHorizontal ? column : row) + boatSize > dimension
+                || (isHorizontal ? row : column) >= dimension)
+            return false;
+
+        // A slot is never reused, so a shot holding a stale reference can only ever see the boat it refers to
+        final int slot = current.boatSlots;
+        final int value = (slot + 1) << BOAT_SHIFT;
+        final int step = isHorizontal ? 1 : dimension;
+        final int firstSquare = row * dimension + column;
+        final Boat boat = new Boat(boatSize, FleetGenerator.encode(firstSquare, isHorizontal), BOAT_PENDING);
+        final Boat[] boats = slot < current.boats.length ? current.boats : Arrays.copyOf(current.boats, slot * 2);
+        boats[slot] = boat;
+        current.boats = boats;
+        current.boatSlots = slot + 1;
+        for (int i = 0; i < boatSize; i++) {
+            if (!current.squares.compareAndSet(firstSquare + i * step, 0, value | PENDING)) {
+                boat.state.set(BOAT_CANCELLED);
+                release(current, firstSquare, step, i, value);
+                return false;
+            }
+        }
+
+        // The totals are counted before the boat commits, so a shot that hits it never takes them below zero
+        current.totalHitPoints += boatSize;
+        current.hitPointsRemaining.addAndGet(boatSize);
+        current.shipsAfloat.incrementAndGet();
+        current.shipsRemainingBySize.incrementAndGet(boatSize);
+        if (!boat.state.compareAndSet(BOAT_PENDING, BOAT_PLACED)) {
+            current.totalHitPoints -= boatSize;
+            current.hitPointsRemaining.addAndGet(-boatSize);
+            current.shipsAfloat.decrementAndGet();
+            current.shipsRemainingBySize.decrementAndGet(boatSize);
+            release(current, firstSquare, step, boatSize, value);
+            return false;
+        }
+        current.boatCount++;
+        // Squares a shot already hit since the commit keep their hit
+        for (int i = 0; i < boatSize; i++)
+            current.squares.compareAndSet(firstSquare + i * step, value | PENDING, value);
+        return true;
+    }
+
+    /**
+     * Frees the squares reserved by a placement that did not commit, leaving the squares shots missed meanwhile
+     *
+     * @param current     Grid holding the squares
+     * @param firstSquare First square of the boat
+     * @param step        Distance between the squares of the boat
+     * @param count       Number of squares reserved
+     * @param value       Reference of the boat in its reserved squares
+     */
+    private static void release(final Grid current, final int firstSquare, final int step, final int count,
+                                final int value) {
+        for (int i = 0; i < count; i++)
+            current.squares.compareAndSet(firstSquare + i * step, value | PENDING, 0);
+    }
+
+    /**
+     * Finds the boat occupying a square
+     *
+     * @param current Grid holding the square
+     * @param x       X coordinate of the square
+     * @param y       Y coordinate of the square
+     * @return Boat at the square, null if the square is empty or its boat has not committed
+     */
+    private static Boat boatAt(final Grid current, final int x, final int y) {
+        final int boatReference = current.squares.get(current.toSquare(x, y)) >>> BOAT_SHIFT;
+        final Boat boat = boatReference == 0 ? null : current.boats[boatReference - 1];
+        return boat == null || boat.state.get() != BOAT_PLACED ? null : boat;
+    }
+
+    /**
+     * A boat on a concurrent board
+     */
+    private static final class Boat {
+        /**
+         * Size of the boat
+         */
+        private final int size;
+
+        /**
+         * Placement of the boat encoded by {@link FleetGenerator#encode(int, boolean)}
+         */
+        private final int placement;
+
+        /**
+         * Squares of the boat that have not been hit
+         */
+        private final AtomicInteger health;
+
+        /**
+         * Whether the placement of the boat is pending, committed or cancelled
+         */
+        private final AtomicInteger state;
+
+        /**
+         * Creates an unharmed boat
+         *
+         * @param size      Size of the boat
+         * @param placement Placement of the boat
+         * @param state     Initial state of the boat's placement
+         */
+        private Boat(final int size, final int placement, final int state) {
+            this.size = size;
+            this.placement = placement;
+            this.health = new AtomicInteger(size);
+            this.state = new AtomicInteger(state);
+        }
+    }
+
+    /**
+     * Squares, boats and totals of one generation of the board
+     */
+    private static final class Grid {
+        /**
+         * Dimension of one side of the grid
+         */
+        private final int dimension;
+
+        /**
+         * Boat reference and shot state of every square
+         */
+        private final AtomicIntegerArray squares;
+
+        /**
+         * Boats on the grid by index, replaced when it grows and written before any square refers to a new boat
+         */
+        private volatile Boat[] boats;
+
+        /**
+         * Number of slots in boats used by placements, including cancelled ones, only written while the board's lock is
+         * held
+         */
+        private volatile int boatSlots;
+
+        /**
+         * Number of boats on the grid, only written while the board's lock is held
+         */
+        private volatile int boatCount;
+
+        /**
+         * Number of squares occupied by boats, only written while the board's lock is held
+         */
+        private volatile int totalHitPoints;
+
+        /**
+         * Number of squares across all boats that have not been hit
+         */
+        private final AtomicInteger hitPointsRemaining = new AtomicInteger();
+
+        /**
+         * Number of boats that have not been sunk
+         */
+        private final AtomicInteger shipsAfloat = new AtomicInteger();
+
+        /**
+         * Number of boats of each size that have not been sunk, indexed by boat size
+         */
+        private final AtomicIntegerArray shipsRemainingBySize;
+
+        /**
+         * Creates an empty grid
+         *
+         * @param dimension Dimension of one side of the grid
+         * @param boats     Table the boats are placed in
+         */
+        private Grid(final int dimension, final Boat[] boats) {
+            this.dimension = dimension;
+            this.squares = new AtomicIntegerArray(dimension * dimension);
+            this.boats = boats;
+            this.shipsRemainingBySize = new AtomicIntegerArray(dimension + 1);
+        }
+
+        /**
+         * Converts (x,y) coordinates into the index of the square
+         *
+         * @param x X coordinate of the square
+         * @param y Y coordinate of the square
+         * @return Index of the square
+         */
+        private int toSquare(final int x, final int y) {
+            return y * dimension + x;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package Game.Model.Events;
+
+import Game.Model.BoardState;
+import Game.Model.Enums.GridSquareStatus;
+
+/**
+ * Receives the changes made to a board. Every event carries the squares and values affected, so listeners only need to
+ * update what changed. All methods do nothing by default.
+ */
+public interface BoardListener {
+    /**
+     * Called when a square has been guessed and its status changed
+     *
+     * @param boardState Board that changed
+     * @param x          X coordinate of the square
+     * @param y          Y coordinate of the square
+     * @param status     New status of the square, HIT or MISSED
+     */
+    default void squareChanged(BoardState boardState, int x, int y, GridSquareStatus status) {
+    }
+
+    /**
+     * Called once when a volley of guesses has been resolved, instead of a squareChanged and shipSunk event per shot
+     *
+     * @param boardState Board that changed
+     * @param squares    Squares guessed, encoded as {@code y * gridDimension + x}, in the order they were resolved
+     * @param results    Result of each shot, a combination of {@link BoardState#SHOT_HIT} and
+     *                   {@link BoardState#SHOT_SUNK}, 0 for a miss
+     */
+    default void volleyResolved(BoardState boardState, int[] squares, byte[] results) {
+    }
+
+    /**
+     * Called when a boat has been placed on the board
+     *
+     * @param boardState   Board that changed
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     */
+    default void shipPlaced(BoardState boardState, int row, int column, int boatSize, boolean isHorizontal) {
+    }
+
+    /**
+     * Called when a guess sinks a boat, after the square that sunk it has changed
+     *
+     * @param boardState Board that changed
+     * @param x          X coordinate of the guess that sunk the boat
+     * @param y          Y coordinate of the guess that sunk the boat
+     * @param boatSize   Size of the boat that was sunk
+     */
+    default void shipSunk(BoardState boardState, int x, int y, int boatSize) {
+    }
+
+    /**
+     * Called when every boat has been removed from the board
+     *
+     * @param boardState Board that changed
+     */
+    default void boardCleared(BoardState boardState) {
+    }
+
+    /**
+     * Called when every hit and miss has been removed from the board, leaving its boats in place
+     *
+     * @param boardState Board that changed
+     */
+    default void shotsReset(BoardState boardState) {
+    }
+
+    /**
+     * Called when the whole board has been replaced by a snapshot, which may also have changed its dimension
+     *
+     * @param boardState Board that changed
+     */
+    default void boardRestored(BoardState boardState) {
+    }
+
+    /**
+     * Called when the board has been resized, which also removes every boat, hit and miss from it
+     *
+     * @param boardState    Board that changed
+     * @param gridDimension New dimension of one side of the board
+     */
+    default void dimensionChanged(BoardState boardState, int gridDimension) {
+    }
+}
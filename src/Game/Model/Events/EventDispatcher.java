@@ -0,0 +1,139 @@
+package Game.Model.Events;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Delivers events to a set of listeners. Each listener is either called synchronously on the thread publishing the
+ * event or asynchronously through the executor it was registered with, e.g. {@code SwingUtilities::invokeLater}.
+ * Listeners can be added and removed while events are being delivered.
+ * <p>
+ * Registrations are kept in an array that is copied whenever a listener is added or removed, so delivering an event
+ * reads a snapshot without locking or creating an iterator.
+ *
+ * @param <L> Type of listener events are delivered to
+ */
+public class EventDispatcher<L> {
+    /**
+     * Registered listeners and the executors they are called through, replaced rather than modified
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private volatile Registration<L>[] registrations = new Registration[0];
+
+    /**
+     * Registers a listener that is called synchronously when an event is published
+     *
+     * @param listener Listener being registered
+     */
+    public void addListener(final L listener) {
+        register(new Registration<>(listener, null));
+    }
+
+    /**
+     * Registers a listener that is called through an executor when an event is published. Events are delivered in the
+     * order they were published as long as the executor runs tasks in order
+     *
+     * @param listener Listener being registered
+     * @param executor Executor the listener is called through
+     */
+    public void addListener(final L listener, final Executor executor) {
+        register(new Registration<>(listener, executor));
+    }
+
+    /**
+     * Removes every registration of a listener
+     *
+     * @param listener Listener being removed
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void removeListener(final L listener) {
+        registrations = Arrays.stream(registrations)
+                .filter(registration -> registration.listener != listener)
+                .toArray(Registration[]::new);
+    }
+
+    /**
+     * Checks if any listeners are registered, used to avoid creating events nobody will receive
+     *
+     * @return True if at least one listener is registered, false otherwise
+     */
+    public boolean hasListeners() {
+        return registrations.length > 0;
+    }
+
+    /**
+     * Delivers an event to every registered listener
+     *
+     * @param event Calls the listener method for the event
+     */
+    public void dispatch(final Consumer<L> event) {
+        for (Registration<L> registration : registrations) {
+            if (registration.executor == null)
+                event.accept(registration.listener);
+            else
+                registration.executor.execute(() -> event.accept(registration.listener));
+        }
+    }
+
+    /**
+     * Delivers an event on a square to every registered listener. Delivery to synchronous listeners does not allocate
+     * when the event does not capture anything
+     *
+     * @param event  Calls the listener method for the event
+     * @param source Object the event happened on
+     * @param x      X coordinate of the square
+     * @param y      Y coordinate of the square
+     * @param value  Value carried by the event
+     * @param <S>    Type of the object the event happened on
+     * @param <V>    Type of the value carried by the event
+     */
+    public <S, V> void dispatch(final SquareEvent<L, S, V> event, final S source, final int x, final int y,
+                                final V value) {
+        for (Registration<L> registration : registrations) {
+            if (registration.executor == null)
+                event.deliver(registration.listener, source, x, y, value);
+            else
+                registration.executor.execute(() -> event.deliver(registration.listener, source, x, y, value));
+        }
+    }
+
+    /**
+     * Adds a registration by replacing the array of registrations with a longer copy
+     *
+     * @param registration Registration being added
+     */
+    private synchronized void register(final Registration<L> registration) {
+        final Registration<L>[] updated = Arrays.copyOf(registrations, registrations.length + 1);
+        updated[registrations.length] = registration;
+        registrations = updated;
+    }
+
+    /**
+     * A listener and the executor it is called through, null if it is called synchronously
+     *
+     * @param <L> Type of listener
+     */
+    private static class Registration<L> {
+        /**
+         * Listener receiving events
+         */
+        private final L listener;
+
+        /**
+         * Executor the listener is called through, null if it is called synchronously
+         */
+        private final Executor executor;
+
+        /**
+         * Creates a registration
+         *
+         * @param listener Listener receiving events
+         * @param executor Executor the listener is called through, null if it is called synchronously
+         */
+        private Registration(final L listener, final Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+    }
+}
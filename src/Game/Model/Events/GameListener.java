@@ -0,0 +1,27 @@
+package Game.Model.Events;
+
+import Game.Model.Enums.GameStatus;
+import Game.Model.GameState;
+
+/**
+ * Receives the changes made to the state of the game. All methods do nothing by default.
+ */
+public interface GameListener {
+    /**
+     * Called when the game's status has been set
+     *
+     * @param gameState Game that changed
+     * @param oldStatus Status of the game before the change, null if it had none
+     * @param newStatus Status of the game after the change
+     */
+    default void statusChanged(GameState gameState, GameStatus oldStatus, GameStatus newStatus) {
+    }
+
+    /**
+     * Called when the game's language has been changed
+     *
+     * @param gameState Game that changed
+     */
+    default void localeChanged(GameState gameState) {
+    }
+}
@@ -0,0 +1,24 @@
+package Game.Model.Events;
+
+/**
+ * Calls a listener method for an event that happened on one square of a board. Events are passed their arguments
+ * rather than capturing them, so an implementation that captures nothing is a single shared instance and delivering it
+ * to synchronous listeners does not allocate.
+ *
+ * @param <L> Type of listener the event is delivered to
+ * @param <S> Type of the object the event happened on
+ * @param <V> Type of the value carried by the event
+ */
+@FunctionalInterface
+public interface SquareEvent<L, S, V> {
+    /**
+     * Calls the listener method for the event
+     *
+     * @param listener Listener receiving the event
+     * @param source   Object the event happened on
+     * @param x        X coordinate of the square
+     * @param y        Y coordinate of the square
+     * @param value    Value carried by the event
+     */
+    void deliver(L listener, S source, int x, int y, V value);
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the typed events published by the model when the state of a board or the game changes
+ */
+package Game.Model.Events;
@@ -0,0 +1,334 @@
+package Game.Model;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random, non-overlapping placements for a fleet of boats on an empty square board.
+ * <p>
+ * Boats are placed largest first. Each boat is given a placement chosen uniformly at random from the placements that
+ * fit: a few random placements are tried first, and if none fit every valid placement is counted from tables of how
+ * many free squares run right and down from each square and one of them is chosen. When a boat has nowhere to go the
+ * generator backtracks, undoing the previous boat and excluding the placement it had used. Backtracking is limited to a
+ * budget proportional to the size of the fleet and the search restarts a bounded number of times, so generating a fleet
+ * always takes at most O(restarts * budget * dimension^2) time, and fleets that cannot fit are rejected before searching.
+ */
+public final class FleetGenerator {
+    /**
+     * Number of times the search starts over from an empty board before giving up
+     */
+    private static final int MAX_RESTARTS = 16;
+
+    /**
+     * Random placements tried for a boat before counting every placement, enough to place boats on sparse boards without
+     * scanning the whole board
+     */
+    private static final int RANDOM_PROBES = 32;
+
+    /**
+     * Backtracks allowed per boat in the fleet before the search starts over
+     */
+    private static final int BACKTRACKS_PER_BOAT = 4;
+
+    /**
+     * Dimension of one side of the board the tables were built for
+     */
+    private int gridDimension;
+
+    /**
+     * Squares occupied by boats placed so far
+     */
+    private boolean[] occupied = new boolean[0];
+
+    /**
+     * Number of free squares from each square to the right edge before reaching an occupied square, itself included
+     */
+    private int[] freeRight = new int[0];
+
+    /**
+     * Number of free squares from each square to the bottom edge before reaching an occupied square, itself included
+     */
+    private int[] freeDown = new int[0];
+
+    /**
+     * Placements rejected for each boat since the boats before it last changed, indexed by boat
+     */
+    private int[][] rejected = new int[0][];
+
+    /**
+     * Number of rejected placements for each boat
+     */
+    private int[] rejectedCount = new int[0];
+
+    /**
+     * Encodes a placement as a single int
+     *
+     * @param square       Index of the boat's first square, y * dimension + x
+     * @param isHorizontal True if the boat runs left to right, false if it runs top to bottom
+     * @return Encoded placement
+     */
+    public static int encode(final int square, final boolean isHorizontal) {
+        return square << 1 | (isHorizontal ? 1 : 0);
+    }
+
+    /**
+     * Gets the first square of an encoded placement
+     *
+     * @param placement Encoded placement
+     * @return Index of the boat's first square, y * dimension + x
+     */
+    public static int squareOf(final int placement) {
+        return placement >>> 1;
+    }
+
+    /**
+     * Gets the orientation of an encoded placement
+     *
+     * @param placement Encoded placement
+     * @return True if the boat runs left to right, false if it runs top to bottom
+     */
+    public static boolean isHorizontal(final int placement) {
+        return (placement & 1) != 0;
+    }
+
+    /**
+     * Checks conditions every placeable fleet satisfies: each boat fits along a side, the boats do not cover more
+     * squares than the board has, and no more than one boat longer than half the board shares a row or column
+     *
+     * @param gridDimension Dimension of one side of the board
+     * @param boatSizes     Size of every boat in the fleet
+     * @return False if the fleet can never be placed, true if it may be placeable
+     */
+    public static boolean isFeasible(final int gridDimension, final int[] boatSizes) {
+        long totalSquares = 0;
+        int longBoats = 0;
+        for (int boatSize : boatSizes) {
+            if (boatSize < 1 || boatSize > gridDimension)
+                return false;
+            totalSquares += boatSize;
+            if (2 * boatSize > gridDimension)
+                longBoats++;
+        }
+        return totalSquares <= (long) gridDimension * gridDimension && longBoats <= 2 * gridDimension;
+    }
+
+    /**
+     * Generates placements for a fleet on an empty board
+     *
+     * @param gridDimension Dimension of one side of the board
+     * @param boatSizes     Size of every boat in the fleet, placed in decreasing order of size
+     * @return Encoded placement of every boat in decreasing order of size, or null if the fleet is not feasible or no
+     * placement was found within the search's budget
+     */
+    public int[] generate(final int gridDimension, final int[] boatSizes) {
+        if (!isFeasible(gridDimension, boatSizes))
+            return null;
+
+        final int[] fleet = boatSizes.clone();
+        Arrays.sort(fleet);
+        for (int i = 0, j = fleet.length - 1; i < j; i++, j--) {
+            final int size = fleet[i];
+            fleet[i] = fleet[j];
+            fleet[j] = size;
+        }
+
+        prepare(gridDimension, fleet.length);
+        final int[] placements = new int[fleet.length];
+        for (int attempt = 0; attempt < MAX_RESTARTS; attempt++) {
+            if (search(fleet, placements, BACKTRACKS_PER_BOAT * fleet.length + 1))
+                return placements;
+        }
+        return null;
+    }
+
+    /**
+     * Places every boat of the fleet, backtracking on dead ends until the budget runs out
+     *
+     * @param fleet      Size of every boat, largest first
+     * @param placements Receives the placement chosen for each boat
+     * @param budget     Number of backtracks allowed
+     * @return True if every boat was placed, false if the budget ran out or the search was exhausted
+     */
+    private boolean search(final int[] fleet, final int[] placements, int budget) {
+        clear();
+        int boat = 0;
+        while (boat < fleet.length) {
+            final int placement = choosePlacement(fleet[boat], boat);
+            if (placement >= 0) {
+                placements[boat] = placement;
+                occupy(placement, fleet[boat], true);
+                boat++;
+                if (boat < fleet.length)
+                    rejectedCount[boat] = 0;
+                continue;
+            }
+
+            if (boat == 0 || budget-- == 0)
+                return false;
+
+            boat--;
+            occupy(placements[boat], fleet[boat], false);
+            reject(boat, placements[boat]);
+        }
+        return true;
+    }
+
+    /**
+     * Chooses a random placement for a boat among those that fit and have not been rejected
+     *
+     * @param boatSize Size of the boat
+     * @param boat     Index of the boat in the fleet
+     * @return Encoded placement, -1 if the boat has nowhere to go
+     */
+    private int choosePlacement(final int boatSize, final int boat) {
+        final int squares = gridDimension * gridDimension;
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int probe = 0; probe < RANDOM_PROBES; probe++) {
+            final int square = random.nextInt(squares);
+            final boolean isHorizontal = boatSize == 1 || random.nextBoolean();
+            final int freeSquares = isHorizontal ? freeRight[square] : freeDown[square];
+            if (freeSquares >= boatSize && !isRejected(boat, encode(square, isHorizontal)))
+                return encode(square, isHorizontal);
+        }
+
+        int count = 0;
+        for (int square = 0; square < squares; square++) {
+            if (freeRight[square] >= boatSize)
+                count++;
+            if (boatSize > 1 && freeDown[square] >= boatSize)
+                count++;
+        }
+        count -= rejectedCount[boat];
+        if (count <= 0)
+            return -1;
+
+        int remaining = random.nextInt(count);
+        for (int square = 0; square < squares; square++) {
+            if (freeRight[square] >= boatSize && !isRejected(boat, encode(square, true)) && remaining-- == 0)
+                return encode(square, true);
+            if (boatSize > 1 && freeDown[square] >= boatSize && !isRejected(boat, encode(square, false))
+                    && remaining-- == 0)
+                return encode(square, false);
+        }
+        return -1;
+    }
+
+    /**
+     * Marks the squares of a placement as occupied or free and updates the free run tables for the rows and columns
+     * it crosses
+     *
+     * @param placement  Encoded placement
+     * @param boatSize   Size of the boat
+     * @param isOccupied True if the boat is being placed, false if it is being removed
+     */
+    private void occupy(final int placement, final int boatSize, final boolean isOccupied) {
+        final int square = squareOf(placement);
+        final int x = square % gridDimension;
+        final int y = square / gridDimension;
+        if (isHorizontal(placement)) {
+            for (int i = x; i < x + boatSize; i++) {
+                occupied[y * gridDimension + i] = isOccupied;
+                updateColumn(i);
+            }
+            updateRow(y);
+        } else {
+            for (int i = y; i < y + boatSize; i++) {
+                occupied[i * gridDimension + x] = isOccupied;
+                updateRow(i);
+            }
+            updateColumn(x);
+        }
+    }
+
+    /**
+     * Rebuilds the free run lengths to the right for a row
+     *
+     * @param y Row being rebuilt
+     */
+    private void updateRow(final int y) {
+        int run = 0;
+        for (int x = gridDimension - 1; x >= 0; x--) {
+            final int square = y * gridDimension + x;
+            run = occupied[square] ? 0 : run + 1;
+            freeRight[square] = run;
+        }
+    }
+
+    /**
+     * Rebuilds the free run lengths downwards for a column
+     *
+     * @param x Column being rebuilt
+     */
+    private void updateColumn(final int x) {
+        int run = 0;
+        for (int y = gridDimension - 1; y >= 0; y--) {
+            final int square = y * gridDimension + x;
+            run = occupied[square] ? 0 : run + 1;
+            freeDown[square] = run;
+        }
+    }
+
+    /**
+     * Excludes a placement from being chosen again for a boat until the boats before it change
+     *
+     * @param boat      Index of the boat in the fleet
+     * @param placement Encoded placement being excluded
+     */
+    private void reject(final int boat, final int placement) {
+        if (rejected[boat] == null)
+            rejected[boat] = new int[4];
+        else if (rejectedCount[boat] == rejected[boat].length)
+            rejected[boat] = Arrays.copyOf(rejected[boat], rejectedCount[boat] * 2);
+        rejected[boat][rejectedCount[boat]++] = placement;
+    }
+
+    /**
+     * Checks if a placement has been excluded for a boat
+     *
+     * @param boat      Index of the boat in the fleet
+     * @param placement Encoded placement
+     * @return True if the placement was excluded, false otherwise
+     */
+    private boolean isRejected(final int boat, final int placement) {
+        for (int i = 0; i < rejectedCount[boat]; i++) {
+            if (rejected[boat][i] == placement)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sizes the tables for a board and fleet, reusing them when they are already large enough
+     *
+     * @param gridDimension Dimension of one side of the board
+     * @param fleetSize     Number of boats in the fleet
+     */
+    private void prepare(final int gridDimension, final int fleetSize) {
+        this.gridDimension = gridDimension;
+        final int squares = gridDimension * gridDimension;
+        if (occupied.length != squares) {
+            occupied = new boolean[squares];
+            freeRight = new int[squares];
+            freeDown = new int[squares];
+        }
+        if (rejected.length < fleetSize) {
+            rejected = new int[fleetSize][];
+            rejectedCount = new int[fleetSize];
+        }
+    }
+
+    /**
+     * Empties the board and resets the free run tables and rejected placements
+     */
+    private void clear() {
+        Arrays.fill(occupied, false);
+        for (int y = 0; y < gridDimension; y++) {
+            for (int x = 0; x < gridDimension; x++) {
+                final int square = y * gridDimension + x;
+                freeRight[square] = gridDimension - x;
+                freeDown[square] = gridDimension - y;
+            }
+        }
+        Arrays.fill(rejectedCount, 0);
+    }
+}
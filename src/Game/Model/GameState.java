@@ -1,15 +1,18 @@
 package Game.Model;
 
 import Game.Model.Enums.GameStatus;
+import Game.Model.Events.EventDispatcher;
+import Game.Model.Events.GameListener;
+import Game.Util.Log;
 
-import java.util.Observable;
 import java.util.Random;
+import java.util.concurrent.Executor;
 
 /**
- * This class represents the current state of the game and tracks turns, score, and current status/phase of the game
+ * This class represents the current state of the game and tracks turns, score, and current status/phase of the game.
+ * Changes are published to {@link GameListener}s.
  */
-@SuppressWarnings("deprecation")
-public class GameState extends Observable {
+public class GameState {
 
     /**
      * Tracks if locale was recently changed, true if yes false if no
@@ -35,11 +38,21 @@ public class GameState extends Observable {
      */
     private boolean didPlayerWin;
 
+    /**
+     * True if each side fires one shot per boat it has afloat every turn, false if it fires a single shot
+     */
+    private boolean isSalvo;
+
     /**
      * Current status of the game
      */
     private GameStatus status;
 
+    /**
+     * Listeners notified when the state of the game changes
+     */
+    private final EventDispatcher<GameListener> listeners = new EventDispatcher<>();
+
     /**
      * Creates a new GameState and randomly picks who go first
      */
@@ -78,6 +91,18 @@ public class GameState extends Observable {
             systemGamesWon++;
     }
 
+    /**
+     * Replaces the number of games won by the player and the system, used when statistics are loaded from a previous
+     * session
+     *
+     * @param playerGamesWon Number of games won by the player
+     * @param systemGamesWon Number of games won by the system
+     */
+    public void setGamesWon(final int playerGamesWon, final int systemGamesWon) {
+        this.playerGamesWon = playerGamesWon;
+        this.systemGamesWon = systemGamesWon;
+    }
+
     /**
      * Cycles the turn to the next player
      */
@@ -85,6 +110,15 @@ public class GameState extends Observable {
         isPlayersTurn = !isPlayersTurn;
     }
 
+    /**
+     * Gives the turn to the player or the system, used when a saved game is loaded
+     *
+     * @param isPlayersTurn True if it is the player's turn, false if it is the system's
+     */
+    public void setPlayersTurn(final boolean isPlayersTurn) {
+        this.isPlayersTurn = isPlayersTurn;
+    }
+
     /**
      * Gets current status of the game
      *
@@ -121,6 +155,24 @@ public class GameState extends Observable {
         this.didPlayerWin = didPlayerWin;
     }
 
+    /**
+     * Checks if the game is played in salvo mode, where each side fires one shot per boat it has afloat every turn
+     *
+     * @return True if the game is played in salvo mode, false if each side fires a single shot per turn
+     */
+    public boolean isSalvo() {
+        return isSalvo;
+    }
+
+    /**
+     * Switches the game between salvo mode and a single shot per turn
+     *
+     * @param isSalvo True to play in salvo mode, false to fire a single shot per turn
+     */
+    public void setSalvo(final boolean isSalvo) {
+        this.isSalvo = isSalvo;
+    }
+
     /**
      * Checks if locale has recently changed
      * @return True if locale has recently changed
@@ -130,13 +182,14 @@ public class GameState extends Observable {
     }
 
     /**
-     * Modifies the status of the locale changing flag. True if it has recently been changed and false otherwise
+     * Modifies the status of the locale changing flag. True if it has recently been changed and false otherwise.
+     * Listeners are notified when the flag is set
      * @param hasLocaleChanged True if recently changed, false otherwise
      */
     public void setHasLocaleChanged(boolean hasLocaleChanged) {
         this.hasLocaleChanged = hasLocaleChanged;
-        setChanged();
-        notifyObservers();
+        if (hasLocaleChanged && listeners.hasListeners())
+            listeners.dispatch(listener -> listener.localeChanged(this));
     }
 
     /**
@@ -145,9 +198,38 @@ public class GameState extends Observable {
      * @param gameStatus New status game is being changed to
      */
     public void setStatus(GameStatus gameStatus) {
-        System.out.println("[DEBUG] Game status is being set to " + gameStatus);
+        Log.debug("Game status is being set to %s", gameStatus);
+        final GameStatus oldStatus = status;
         this.status = gameStatus;
-        setChanged();
-        notifyObservers();
+        if (listeners.hasListeners())
+            listeners.dispatch(listener -> listener.statusChanged(this, oldStatus, gameStatus));
+    }
+
+    /**
+     * Registers a listener that is notified synchronously whenever the state of the game changes
+     *
+     * @param listener Listener being registered
+     */
+    public void addGameListener(final GameListener listener) {
+        listeners.addListener(listener);
+    }
+
+    /**
+     * Registers a listener that is notified through an executor whenever the state of the game changes
+     *
+     * @param listener Listener being registered
+     * @param executor Executor the listener is called through
+     */
+    public void addGameListener(final GameListener listener, final Executor executor) {
+        listeners.addListener(listener, executor);
+    }
+
+    /**
+     * Removes a listener so that it is no longer notified of changes
+     *
+     * @param listener Listener being removed
+     */
+    public void removeGameListener(final GameListener listener) {
+        listeners.removeListener(listener);
     }
 }
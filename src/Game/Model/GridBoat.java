@@ -1,9 +1,29 @@
 package Game.Model;
 
+import static Game.Util.Constants.MAX_BOAT_SIZE;
+
 /**
- * Represents a boat of a given size during the design phase
+ * Represents a boat of a given size during the design phase. Boats are immutable, so the boats returned by
+ * {@link #of(int, int)} are shared
  */
 public class GridBoat {
+    /**
+     * Placeholder boat of grid squares that do not belong to a boat, e.g. missed guesses
+     */
+    public static final GridBoat NONE = new GridBoat(-1);
+
+    /**
+     * Shared boat of every size and health up to the largest boat size, indexed by [boatSize][boatHealth]
+     */
+    private static final GridBoat[][] BOATS = new GridBoat[MAX_BOAT_SIZE + 1][];
+
+    static {
+        for (int boatSize = 0; boatSize <= MAX_BOAT_SIZE; boatSize++) {
+            BOATS[boatSize] = new GridBoat[boatSize + 1];
+            for (int boatHealth = 0; boatHealth <= boatSize; boatHealth++)
+                BOATS[boatSize][boatHealth] = new GridBoat(boatSize, boatHealth);
+        }
+    }
 
     /**
      * Size of the boat
@@ -13,7 +33,7 @@ public class GridBoat {
     /**
      * Health of the boat
      */
-    private int boatHealth;
+    private final int boatHealth;
 
     /**
      * Creates a boat of a given size
@@ -25,6 +45,30 @@ public class GridBoat {
         this.boatHealth = boatSize;
     }
 
+    /**
+     * Creates a boat of a given size that has already taken some hits
+     *
+     * @param boatSize   Size of the boat
+     * @param boatHealth Health of the boat (number of squares that have not been hit)
+     */
+    public GridBoat(final int boatSize, final int boatHealth) {
+        this.boatSize = boatSize;
+        this.boatHealth = boatHealth;
+    }
+
+    /**
+     * Gets a boat of a given size and health, shared with every other caller asking for the same one
+     *
+     * @param boatSize   Size of the boat
+     * @param boatHealth Health of the boat (number of squares that have not been hit)
+     * @return Boat of the given size and health
+     */
+    public static GridBoat of(final int boatSize, final int boatHealth) {
+        if (boatSize >= 0 && boatSize <= MAX_BOAT_SIZE && boatHealth >= 0 && boatHealth <= boatSize)
+            return BOATS[boatSize][boatHealth];
+        return new GridBoat(boatSize, boatHealth);
+    }
+
     /**
      * Gets the size of the boat
      *
@@ -42,11 +86,4 @@ public class GridBoat {
     public int getBoatHealth() {
         return boatHealth;
     }
-
-    /**
-     * Decrements the boat's health by 1 and returns its new health points
-     */
-    public void takeHit() {
-        boatHealth--;
-    }
 }
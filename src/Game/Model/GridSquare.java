@@ -2,10 +2,39 @@ package Game.Model;
 
 import Game.Model.Enums.GridSquareStatus;
 
+import static Game.Util.Constants.MAX_BOAT_SIZE;
+
 /**
- * Represents a square on the battleship grid
+ * Represents a square on the battleship grid. Squares are immutable snapshots, so the squares returned by the static
+ * factory methods are shared instead of being created for every lookup
  */
 public class GridSquare {
+    /**
+     * Shared missed squares of the system's and the player's boards, indexed by isPlayer
+     */
+    private static final GridSquare[] MISSED_SQUARES = {
+            new GridSquare(GridBoat.NONE, 0, false, GridSquareStatus.MISSED),
+            new GridSquare(GridBoat.NONE, 0, true, GridSquareStatus.MISSED)};
+
+    /**
+     * Shared ship squares, indexed by [isPlayer][boatSize][boatHealth * 2 + (isHit ? 1 : 0)]
+     */
+    private static final GridSquare[][][] SHIP_SQUARES = new GridSquare[2][MAX_BOAT_SIZE + 1][];
+
+    static {
+        for (int player = 0; player < 2; player++) {
+            for (int boatSize = 0; boatSize <= MAX_BOAT_SIZE; boatSize++) {
+                final GridSquare[] squares = new GridSquare[(boatSize + 1) * 2];
+                for (int boatHealth = 0; boatHealth <= boatSize; boatHealth++) {
+                    final GridBoat boat = GridBoat.of(boatSize, boatHealth);
+                    squares[boatHealth * 2] = new GridSquare(boat, boatSize, player == 1, GridSquareStatus.ALIVE);
+                    squares[boatHealth * 2 + 1] = new GridSquare(boat, boatSize, player == 1, GridSquareStatus.HIT);
+                }
+                SHIP_SQUARES[player][boatSize] = squares;
+            }
+        }
+    }
+
     /**
      * Boat that this square belongs to
      */
@@ -13,7 +42,7 @@ public class GridSquare {
     /**
      * Status if the ship piece on (x,y) is a ive or not, true if the ship is alive and false if not
      */
-    private GridSquareStatus status;
+    private final GridSquareStatus status;
 
     /**
      * True if square belongs to player, false if belongs to system
@@ -40,6 +69,33 @@ public class GridSquare {
         this.status = status;
     }
 
+    /**
+     * Gets the shared square marking a missed guess
+     *
+     * @param isPlayer True if the square belongs to the player, false otherwise
+     * @return Missed square
+     */
+    public static GridSquare missed(final boolean isPlayer) {
+        return MISSED_SQUARES[isPlayer ? 1 : 0];
+    }
+
+    /**
+     * Gets the shared square for part of a ship
+     *
+     * @param isPlayer   True if the square belongs to the player, false otherwise
+     * @param boatSize   Size of the ship the square belongs to
+     * @param boatHealth Health of the ship the square belongs to
+     * @param isHit      True if this part of the ship has been hit, false otherwise
+     * @return Ship square
+     */
+    public static GridSquare ofShip(final boolean isPlayer, final int boatSize, final int boatHealth,
+                                    final boolean isHit) {
+        final GridSquareStatus status = isHit ? GridSquareStatus.HIT : GridSquareStatus.ALIVE;
+        if (boatSize < 0 || boatSize > MAX_BOAT_SIZE || boatHealth < 0 || boatHealth > boatSize)
+            return new GridSquare(GridBoat.of(boatSize, boatHealth), boatSize, isPlayer, status);
+        return SHIP_SQUARES[isPlayer ? 1 : 0][boatSize][boatHealth * 2 + (isHit ? 1 : 0)];
+    }
+
     /**
      * Gets the size of the ship this square belongs to
      *
@@ -58,15 +114,6 @@ public class GridSquare {
         return status;
     }
 
-    /**
-     * Changes the status of the grid square
-     *
-     * @param status New status of the grid square
-     */
-    public void setStatus(GridSquareStatus status) {
-        this.status = status;
-    }
-
     /**
      * Returns true if square belongs to the player, false if belongs to system
      *
@@ -0,0 +1,441 @@
+package Game.Model;
+
+import Game.Model.Enums.GridSquareStatus;
+import Game.Util.Log;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static Game.Util.Constants.DEFAULT_GRID_DIMENSION;
+
+/**
+ * A board that only stores the squares holding a boat or shot at, for experiments on very large boards with small
+ * fleets. Squares are kept in a {@link SquareTable} packing the boat occupying a square with whether it was hit or
+ * missed, so the memory a board takes grows with its boats and shots rather than with the square of its dimension: a
+ * 10,000x10,000 board with its fleet placed takes a few kilobytes where a dense board would take gigabytes.
+ * <p>
+ * Unlike {@link BoardState} a repeated shot changes nothing, there is no pool of untried squares, use
+ * {@link #randomUntriedSquare()} instead, and the board does not notify listeners.
+ */
+public class SparseBoardState implements Board {
+    /**
+     * Largest dimension of a board, the index of every square must fit in an int
+     */
+    public static final int MAX_DIMENSION = 46340;
+
+    /**
+     * Square state of a boat square that was hit
+     */
+    private static final int HIT = 1;
+
+    /**
+     * Square state of an empty square that was missed
+     */
+    private static final int MISSED = 2;
+
+    /**
+     * Bits of a square holding its state, the bits above hold the boat's index plus one, 0 if the square is empty
+     */
+    private static final int STATE_MASK = 3;
+
+    /**
+     * Number of bits the boat's reference is shifted by in a square
+     */
+    private static final int BOAT_SHIFT = 2;
+
+    /**
+     * Random placements tried for each boat before the fleet is given up on
+     */
+    private static final int MAX_PLACEMENT_ATTEMPTS = 10_000;
+
+    /**
+     * Random squares tried before {@link #randomUntriedSquare()} scans for one instead
+     */
+    private static final int MAX_RANDOM_SQUARE_ATTEMPTS = 64;
+
+    /**
+     * Squares holding a boat or shot at, by index
+     */
+    private final SquareTable squares = new SquareTable();
+
+    /**
+     * Dimension of one side of the board
+     */
+    private int gridDimension;
+
+    /**
+     * Size of each boat on the board, indexed by boat id
+     */
+    private int[] boatSizes = new int[0];
+
+    /**
+     * Health of each boat on the board, indexed by boat id
+     */
+    private int[] boatHealths = new int[0];
+
+    /**
+     * Number of boats currently on the board
+     */
+    private int boatCount;
+
+    /**
+     * Number of squares across all boats that have not been hit
+     */
+    private int hitPointsRemaining;
+
+    /**
+     * Number of squares occupied by boats
+     */
+    private int totalHitPoints;
+
+    /**
+     * Number of boats that have not been sunk
+     */
+    private int shipsAfloat;
+
+    /**
+     * Number of boats of each size that have not been sunk, indexed by boat size
+     */
+    private int[] shipsRemainingBySize = new int[1];
+
+    /**
+     * Number of squares that were shot at
+     */
+    private int shotCount;
+
+    /**
+     * Creates an empty board of the default dimension
+     */
+    public SparseBoardState() {
+        this(DEFAULT_GRID_DIMENSION);
+    }
+
+    /**
+     * Creates an empty board
+     *
+     * @param gridDimension Dimension of one side of the board
+     */
+    public SparseBoardState(final int gridDimension) {
+        resizeGrid(gridDimension);
+    }
+
+    /**
+     * Fires a shot at a square
+     *
+     * @param x X coordinate of the guess on the grid
+     * @param y Y coordinate of the guess on the grid
+     * @return True if the shot hit a boat, false if it missed or the square had already been shot at
+     */
+    @Override
+    public boolean validateGuess(final int x, final int y) {
+        final int square = toSquare(x, y);
+        final int value = squares.get(square);
+        if ((value & STATE_MASK) != 0)
+            return false;
+
+        shotCount++;
+        if (value == 0) {
+            squares.put(square, MISSED);
+            return false;
+        }
+        squares.put(square, value | HIT);
+        final int boatId = (value >>> BOAT_SHIFT) - 1;
+        hitPointsRemaining--;
+        if (--boatHealths[boatId] == 0) {
+            shipsAfloat--;
+            shipsRemainingBySize[boatSizes[boatId]]--;
+        }
+        return true;
+    }
+
+    /**
+     * Places a boat with its first square at the provided coordinates
+     *
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     * @return True if the boat has been placed, false if it does not fit or one of its squares is taken or was shot at
+     */
+    @Override
+    public boolean placeShipOnBoard(final int row, final int column, final int boatSize, final boolean isHorizontal) {
+        if (boatSize <= 0 || row < 0 || column < 0 || (isHorizontal ? column : row) + boatSize > gridDimension
+                || (isHorizontal ? row : column) >= gridDimension)
+            return false;
+
+        final int step = isHorizontal ? 1 : gridDimension;
+        final int firstSquare = row * gridDimension + column;
+        for (int i = 0; i < boatSize; i++) {
+            if (squares.get(firstSquare + i * step) != 0)
+                return false;
+        }
+
+        final int boatId = boatCount++;
+        if (boatId == boatSizes.length) {
+            boatSizes = Arrays.copyOf(boatSizes, Math.max(8, boatId * 2));
+            boatHealths = Arrays.copyOf(boatHealths, boatSizes.length);
+        }
+        if (boatSize >= shipsRemainingBySize.length)
+            shipsRemainingBySize = Arrays.copyOf(shipsRemainingBySize, boatSize + 1);
+        boatSizes[boatId] = boatSize;
+        boatHealths[boatId] = boatSize;
+        totalHitPoints += boatSize;
+        hitPointsRemaining += boatSize;
+        shipsAfloat++;
+        shipsRemainingBySize[boatSize]++;
+
+        final int value = (boatId + 1) << BOAT_SHIFT;
+        for (int i = 0; i < boatSize; i++)
+            squares.put(firstSquare + i * step, value);
+        return true;
+    }
+
+    /**
+     * Clears the board and places the fleet for its dimension in random locations, largest boats first. The fleet is
+     * the same as on a {@link BoardState} of the same dimension
+     *
+     * @return True if the whole fleet was placed, false if no placement was found and the board was left empty
+     */
+    @Override
+    public boolean randomizeShipLocations() {
+        clearBoard();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int largestBoatSize = BoardState.getLargestBoatSize(gridDimension);
+        for (int boatSize = largestBoatSize; boatSize > 0; boatSize--) {
+            for (int numberOfBoats = 1; numberOfBoats <= largestBoatSize - boatSize + 1; numberOfBoats++) {
+                int attempts = 0;
+                while (!placeRandomly(random, boatSize)) {
+                    if (++attempts == MAX_PLACEMENT_ATTEMPTS) {
+                        Log.warn("Unable to place a fleet on a sparse board of dimension %d", gridDimension);
+                        clearBoard();
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes every boat, hit and miss from the board, keeping its dimension
+     */
+    @Override
+    public void clearBoard() {
+        resizeGrid(gridDimension);
+    }
+
+    /**
+     * Replaces the board with an empty one of a new dimension
+     *
+     * @param newGridDimension New dimension of the board
+     * @throws IllegalArgumentException If the dimension is not between 1 and {@link #MAX_DIMENSION}
+     */
+    @Override
+    public void resizeGrid(final int newGridDimension) {
+        if (newGridDimension < 1 || newGridDimension > MAX_DIMENSION)
+            throw new IllegalArgumentException("Invalid sparse board dimension " + newGridDimension);
+        gridDimension = newGridDimension;
+        squares.clear();
+        boatCount = 0;
+        hitPointsRemaining = 0;
+        totalHitPoints = 0;
+        shipsAfloat = 0;
+        shotCount = 0;
+        Arrays.fill(shipsRemainingBySize, 0);
+    }
+
+    /**
+     * Removes every hit and miss from the board and restores the health of its boats, keeping the boats where they are
+     */
+    @Override
+    public void resetShots() {
+        final int capacity = squares.capacity();
+        final int[] boatSquares = new int[totalHitPoints];
+        final int[] boatValues = new int[totalHitPoints];
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            final int value = squares.valueAt(slot);
+            if (squares.keyAt(slot) >= 0 && value >>> BOAT_SHIFT != 0) {
+                boatSquares[count] = squares.keyAt(slot);
+                boatValues[count++] = value & ~STATE_MASK;
+            }
+        }
+        squares.clear();
+        for (int i = 0; i < count; i++)
+            squares.put(boatSquares[i], boatValues[i]);
+
+        Arrays.fill(shipsRemainingBySize, 0);
+        for (int boatId = 0; boatId < boatCount; boatId++) {
+            boatHealths[boatId] = boatSizes[boatId];
+            shipsRemainingBySize[boatSizes[boatId]]++;
+        }
+        hitPointsRemaining = totalHitPoints;
+        shipsAfloat = boatCount;
+        shotCount = 0;
+    }
+
+    /**
+     * Chooses a random square that has not been shot at. Random squares are tried first, which finds one almost at
+     * once while most of the board is untried, then the board is scanned from a random square
+     *
+     * @return Index of the square, y * gridDimension + x, -1 if every square was shot at
+     */
+    public int randomUntriedSquare() {
+        final int squareCount = gridDimension * gridDimension;
+        if (shotCount >= squareCount)
+            return -1;
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < MAX_RANDOM_SQUARE_ATTEMPTS; i++) {
+            final int square = random.nextInt(squareCount);
+            if ((squares.get(square) & STATE_MASK) == 0)
+                return square;
+        }
+        final int start = random.nextInt(squareCount);
+        for (int i = 0; i < squareCount; i++) {
+            final int square = start + i < squareCount ? start + i : start + i - squareCount;
+            if ((squares.get(square) & STATE_MASK) == 0)
+                return square;
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGridDimension() {
+        return gridDimension;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GridSquareStatus getSquareStatus(final int x, final int y) {
+        final int value = squares.get(toSquare(x, y));
+        switch (value & STATE_MASK) {
+            case HIT:
+                return GridSquareStatus.HIT;
+            case MISSED:
+                return GridSquareStatus.MISSED;
+            default:
+                return value == 0 ? null : GridSquareStatus.ALIVE;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTried(final int x, final int y) {
+        return (squares.get(toSquare(x, y)) & STATE_MASK) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getShipSize(final int x, final int y) {
+        final int boatReference = squares.get(toSquare(x, y)) >>> BOAT_SHIFT;
+        return boatReference == 0 ? 0 : boatSizes[boatReference - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGridBoatHealth(final int x, final int y) {
+        final int boatReference = squares.get(toSquare(x, y)) >>> BOAT_SHIFT;
+        return boatReference == 0 ? -1 : boatHealths[boatReference - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBoatCount() {
+        return boatCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHitPointsRemaining() {
+        return hitPointsRemaining;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTotalHitPoints() {
+        return totalHitPoints;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getShipsAfloat() {
+        return shipsAfloat;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getShipsRemaining(final int boatSize) {
+        return boatSize > 0 && boatSize < shipsRemainingBySize.length ? shipsRemainingBySize[boatSize] : 0;
+    }
+
+    /**
+     * Gets the number of squares that were shot at
+     *
+     * @return Number of hits and misses on the board
+     */
+    public int getShotCount() {
+        return shotCount;
+    }
+
+    /**
+     * Gets the memory taken by the stored squares, which grows with the boats and shots rather than the dimension
+     *
+     * @return Size of the stored squares in bytes
+     */
+    public long getStoredSizeInBytes() {
+        return squares.getSizeInBytes();
+    }
+
+    /**
+     * Tries to place a boat at a random location
+     *
+     * @param random   Source of the location
+     * @param boatSize Size of the boat
+     * @return True if the boat was placed, false if the location was invalid
+     */
+    private boolean placeRandomly(final ThreadLocalRandom random, final int boatSize) {
+        final boolean isHorizontal = random.nextBoolean();
+        final int length = gridDimension - boatSize + 1;
+        if (length <= 0)
+            return false;
+        final int row = random.nextInt(isHorizontal ? gridDimension : length);
+        final int column = random.nextInt(isHorizontal ? length : gridDimension);
+        return placeShipOnBoard(row, column, boatSize, isHorizontal);
+    }
+
+    /**
+     * Converts coordinates to the index of their square
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Index of the square, y * gridDimension + x
+     * @throws IndexOutOfBoundsException If the coordinates are outside of the board
+     */
+    private int toSquare(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= gridDimension || y >= gridDimension)
+            throw new IndexOutOfBoundsException("Square " + x + "," + y + " is outside of the board");
+        return y * gridDimension + x;
+    }
+}
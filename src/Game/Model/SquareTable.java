@@ -0,0 +1,184 @@
+package Game.Model;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table from a square's index to an int value, with primitive keys and values so that storing a
+ * square costs two ints rather than boxed objects. A value of 0 is never stored, it is returned for squares that are
+ * not in the table. Squares cannot be removed one at a time, only all at once.
+ */
+final class SquareTable {
+    /**
+     * Key of a slot that holds no square
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * Fewest slots a table has
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Square held by each slot, EMPTY if the slot is free
+     */
+    private int[] keys;
+
+    /**
+     * Value of the square held by each slot
+     */
+    private int[] values;
+
+    /**
+     * Number of squares in the table
+     */
+    private int size;
+
+    /**
+     * Creates an empty table
+     */
+    SquareTable() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Gets the value of a square
+     *
+     * @param square Index of the square
+     * @return Value of the square, 0 if the square is not in the table
+     */
+    int get(final int square) {
+        final int mask = keys.length - 1;
+        for (int slot = hash(square) & mask; ; slot = (slot + 1) & mask) {
+            final int key = keys[slot];
+            if (key == square)
+                return values[slot];
+            if (key == EMPTY)
+                return 0;
+        }
+    }
+
+    /**
+     * Sets the value of a square, adding the square if it is not in the table
+     *
+     * @param square Index of the square, not negative
+     * @param value  New value of the square, not 0
+     */
+    void put(final int square, final int value) {
+        final int mask = keys.length - 1;
+        int slot = hash(square) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != square)
+            slot = (slot + 1) & mask;
+        if (keys[slot] == EMPTY) {
+            keys[slot] = square;
+            // Kept at most half full so that probes stay short
+            if (++size * 2 > keys.length) {
+                values[slot] = value;
+                grow();
+                return;
+            }
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Gets the number of squares in the table
+     *
+     * @return Number of squares stored
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of slots in the table, used to visit every square with {@link #keyAt(int)}
+     *
+     * @return Number of slots
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the square held by a slot
+     *
+     * @param slot Index of the slot
+     * @return Square held by the slot, -1 if the slot is free
+     */
+    int keyAt(final int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Gets the value of the square held by a slot
+     *
+     * @param slot Index of a slot that holds a square
+     * @return Value of the square
+     */
+    int valueAt(final int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Removes every square, shrinking the table back to its smallest size
+     */
+    void clear() {
+        if (keys.length == MIN_CAPACITY) {
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        } else {
+            allocate(MIN_CAPACITY);
+        }
+    }
+
+    /**
+     * Gets the memory taken by the table's slots
+     *
+     * @return Size of the table in bytes
+     */
+    long getSizeInBytes() {
+        return (long) keys.length * 2 * Integer.BYTES;
+    }
+
+    /**
+     * Doubles the number of slots and re-inserts every square
+     */
+    private void grow() {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        final int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY)
+                continue;
+            int slot = hash(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            size++;
+        }
+    }
+
+    /**
+     * Replaces the slots with empty ones
+     *
+     * @param capacity Number of slots, a power of two
+     */
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Spreads the bits of a square so that neighbouring squares land in distant slots
+     *
+     * @param square Index of the square
+     * @return Hash of the square
+     */
+    private static int hash(final int square) {
+        final int h = square * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
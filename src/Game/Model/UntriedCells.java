@@ -0,0 +1,109 @@
+package Game.Model;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Pool of the squares on a board that have not been guessed yet. Squares are kept packed at the front of an array with
+ * each square's position recorded alongside, so removing a guessed square swaps it with the last one and choosing a
+ * random untried square is a single array read, both in constant time however few squares are left.
+ * <p>
+ * The pool is maintained by its {@link BoardState}, other classes can only read it.
+ */
+public final class UntriedCells {
+    /**
+     * Untried squares, packed into the first size entries
+     */
+    private int[] cells = new int[0];
+
+    /**
+     * Position of each square in cells, -1 once the square has been tried
+     */
+    private int[] positions = new int[0];
+
+    /**
+     * Number of untried squares
+     */
+    private int size;
+
+    /**
+     * Fills the pool with every square of a board
+     *
+     * @param squareCount Number of squares on the board
+     */
+    void reset(final int squareCount) {
+        if (cells.length != squareCount) {
+            cells = new int[squareCount];
+            positions = new int[squareCount];
+        }
+        for (int square = 0; square < squareCount; square++) {
+            cells[square] = square;
+            positions[square] = square;
+        }
+        size = squareCount;
+    }
+
+    /**
+     * Removes a square from the pool, does nothing if it was already removed
+     *
+     * @param square Index of the square, y * dimension + x
+     */
+    void remove(final int square) {
+        final int position = positions[square];
+        if (position < 0)
+            return;
+
+        final int last = cells[--size];
+        cells[position] = last;
+        positions[last] = position;
+        positions[square] = -1;
+    }
+
+    /**
+     * Gets the number of squares that have not been guessed yet
+     *
+     * @return Number of untried squares
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if every square has been guessed
+     *
+     * @return True if no squares are left untried, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if a square has not been guessed yet
+     *
+     * @param square Index of the square, y * dimension + x
+     * @return True if the square is untried, false otherwise
+     */
+    public boolean contains(final int square) {
+        return positions[square] >= 0;
+    }
+
+    /**
+     * Gets an untried square by its position in the pool, positions change as squares are removed
+     *
+     * @param index Position in the pool, from 0 to size() - 1
+     * @return Index of the square, y * dimension + x
+     */
+    public int get(final int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return cells[index];
+    }
+
+    /**
+     * Chooses an untried square uniformly at random
+     *
+     * @return Index of the square, y * dimension + x, or -1 if every square has been guessed
+     */
+    public int randomCell() {
+        return size == 0 ? -1 : cells[ThreadLocalRandom.current().nextInt(size)];
+    }
+}
@@ -0,0 +1,383 @@
+package Game.Network;
+
+import Game.Util.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hosts head-to-head games over TCP. A single thread runs a selector event loop that accepts clients, reads their
+ * messages, plays their games on {@link Game.Model.BoardState} boards and writes the replies, so no state is shared
+ * between threads and no thread is held per client. Replies produced while handling a batch of input are buffered and
+ * written once per turn of the loop, and a client is only watched for writability while its replies back up. The
+ * messages are described by {@link Protocol}.
+ *
+ * @see LoadGenerator
+ */
+public final class GameServer implements Closeable {
+    /**
+     * Port listened on when none is given
+     */
+    public static final int DEFAULT_PORT = 7373;
+
+    /**
+     * Number of connections the operating system queues before they are accepted
+     */
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    /**
+     * Selector of the event loop
+     */
+    private final Selector selector;
+
+    /**
+     * Channel accepting clients
+     */
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * Client waiting for an opponent, indexed by board dimension
+     */
+    private final ServerConnection[] waiting = new ServerConnection[Protocol.MAX_DIMENSION + 1];
+
+    /**
+     * Clients with replies to write before the loop waits again
+     */
+    private final List<ServerConnection> dirtyConnections = new ArrayList<>();
+
+    /**
+     * Thread running the event loop
+     */
+    private final Thread loopThread = new Thread(this::run, "battleship-server");
+
+    /**
+     * True until the server is closed
+     */
+    private volatile boolean isRunning = true;
+
+    /**
+     * Number of clients connected, only written by the event loop
+     */
+    private volatile int connectionCount;
+
+    /**
+     * Number of games started, only written by the event loop
+     */
+    private volatile long gamesStarted;
+
+    /**
+     * Number of games finished or abandoned, only written by the event loop
+     */
+    private volatile long gamesFinished;
+
+    /**
+     * Opens a server listening on an address. Clients are not accepted until the server is started
+     *
+     * @param address Address listened on, a port of 0 picks a free port
+     * @throws IOException If the address cannot be listened on
+     */
+    public GameServer(final InetSocketAddress address) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(address, ACCEPT_BACKLOG);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the server on a port given as the only argument, or the default port
+     *
+     * @param args Optional port to listen on
+     * @throws IOException If the port cannot be listened on
+     */
+    public static void main(String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final GameServer server = new GameServer(new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "battleship-server-shutdown"));
+        server.start();
+        Log.info("Battleship server listening on port %d", server.getPort());
+    }
+
+    /**
+     * Starts the event loop on its own thread
+     */
+    public void start() {
+        loopThread.start();
+    }
+
+    /**
+     * Gets the port the server listens on
+     *
+     * @return Port listened on
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of clients connected
+     *
+     * @return Number of clients connected
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * Gets the number of games started since the server started
+     *
+     * @return Number of games started
+     */
+    public long getGamesStarted() {
+        return gamesStarted;
+    }
+
+    /**
+     * Gets the number of games that ended since the server started, abandoned games included
+     *
+     * @return Number of games that ended
+     */
+    public long getGamesFinished() {
+        return gamesFinished;
+    }
+
+    /**
+     * Stops the event loop and disconnects every client
+     */
+    @Override
+    public void close() {
+        isRunning = false;
+        selector.wakeup();
+        if (loopThread.isAlive() && Thread.currentThread() != loopThread) {
+            try {
+                loopThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!loopThread.isAlive())
+            closeChannels();
+    }
+
+    /**
+     * Runs the event loop until the server is closed
+     */
+    private void run() {
+        try {
+            while (isRunning) {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid())
+                        continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    final ServerConnection connection = (ServerConnection) key.attachment();
+                    if (key.isReadable())
+                        read(connection);
+                    if (key.isValid() && key.isWritable())
+                        write(connection);
+                }
+                flushDirtyConnections();
+            }
+        } catch (IOException e) {
+            Log.error("Battleship server stopped", e);
+        } finally {
+            closeChannels();
+        }
+    }
+
+    /**
+     * Accepts every client waiting to connect
+     *
+     * @throws IOException If the server channel fails
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final ServerConnection connection = new ServerConnection(channel, dirtyConnections);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connectionCount++;
+        }
+    }
+
+    /**
+     * Reads what a client sent and handles every complete message
+     *
+     * @param connection Client to read from
+     */
+    private void read(final ServerConnection connection) {
+        final ByteBuffer input = connection.input;
+        try {
+            if (connection.channel.read(input) < 0) {
+                disconnect(connection);
+                return;
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+            return;
+        }
+
+        input.flip();
+        while (input.hasRemaining()) {
+            final int length = input.get(input.position()) & 0xFF;
+            if (length == 0 || length >= Protocol.MAX_FRAME_SIZE) {
+                disconnect(connection);
+                return;
+            }
+            if (input.remaining() < length + 1)
+                break;
+            final int end = input.position() + length + 1;
+            input.get();
+            handle(connection, input.get(), length - 1, input);
+            input.position(end);
+        }
+        input.compact();
+    }
+
+    /**
+     * Handles one message from a client
+     *
+     * @param connection Client who sent the message
+     * @param type       Type of the message
+     * @param length     Number of bytes of fields
+     * @param fields     Buffer positioned at the fields
+     */
+    private void handle(final ServerConnection connection, final byte type, final int length,
+                        final ByteBuffer fields) {
+        final ServerConnection.Stage stage = connection.stage;
+        if (type == Protocol.JOIN && length == Short.BYTES && stage == ServerConnection.Stage.IDLE) {
+            join(connection, fields.getShort());
+        } else if (type == Protocol.PLACE && length == Integer.BYTES && stage == ServerConnection.Stage.PLACING) {
+            connection.match.place(connection, fields.getInt());
+        } else if (type == Protocol.RANDOM && length == 0 && stage == ServerConnection.Stage.PLACING) {
+            connection.match.placeRandomly(connection);
+        } else if (type == Protocol.READY && length == 0 && stage == ServerConnection.Stage.PLACING) {
+            connection.match.ready(connection);
+        } else if (type == Protocol.GUESS && length == Integer.BYTES && stage == ServerConnection.Stage.PLAYING) {
+            if (connection.match.guess(connection, fields.getInt()))
+                gamesFinished++;
+        } else {
+            connection.sendByte(Protocol.ERROR, Protocol.ERROR_BAD_MESSAGE);
+        }
+    }
+
+    /**
+     * Matches a client with the client waiting on the same dimension, or makes it wait for one
+     *
+     * @param connection Client joining
+     * @param dimension  Dimension of the boards the client wants to play on
+     */
+    private void join(final ServerConnection connection, final int dimension) {
+        if (dimension < Protocol.MIN_DIMENSION || dimension > Protocol.MAX_DIMENSION) {
+            connection.sendByte(Protocol.ERROR, Protocol.ERROR_BAD_DIMENSION);
+            return;
+        }
+        final ServerConnection opponent = waiting[dimension];
+        if (opponent == null) {
+            waiting[dimension] = connection;
+            connection.waitingDimension = dimension;
+            connection.stage = ServerConnection.Stage.WAITING;
+        } else {
+            waiting[dimension] = null;
+            new Match(opponent, connection, dimension);
+            gamesStarted++;
+        }
+    }
+
+    /**
+     * Writes the replies of a client that could not be written earlier
+     *
+     * @param connection Client whose channel is writable
+     */
+    private void write(final ServerConnection connection) {
+        try {
+            if (connection.flush())
+                connection.key.interestOps(SelectionKey.OP_READ);
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    /**
+     * Writes the replies buffered this turn of the loop. Clients whose replies do not fit in their socket are watched for
+     * writability until they do
+     */
+    private void flushDirtyConnections() {
+        // Disconnecting a client can queue a reply to its opponent, so the list may grow while it is walked
+        for (int i = 0; i < dirtyConnections.size(); i++) {
+            final ServerConnection connection = dirtyConnections.get(i);
+            connection.isDirty = false;
+            if (!connection.key.isValid() || (connection.key.interestOps() & SelectionKey.OP_WRITE) != 0)
+                continue;
+            try {
+                if (!connection.flush())
+                    connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } catch (IOException e) {
+                disconnect(connection);
+            }
+        }
+        dirtyConnections.clear();
+    }
+
+    /**
+     * Disconnects a client, giving any game it was playing to its opponent
+     *
+     * @param connection Client to disconnect
+     */
+    private void disconnect(final ServerConnection connection) {
+        if (!connection.key.isValid())
+            return;
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            Log.debug("Unable to close client channel: %s", e.getMessage());
+        }
+        connectionCount--;
+        if (connection.stage == ServerConnection.Stage.WAITING && waiting[connection.waitingDimension] == connection)
+            waiting[connection.waitingDimension] = null;
+        if (connection.match != null) {
+            connection.match.abandon(connection);
+            gamesFinished++;
+        }
+    }
+
+    /**
+     * Closes the selector and every channel registered with it
+     */
+    private void closeChannels() {
+        if (!selector.isOpen())
+            return;
+        try {
+            for (SelectionKey key : selector.keys())
+                key.channel().close();
+            selector.close();
+        } catch (IOException e) {
+            Log.error("Unable to close the Battleship server", e);
+        }
+    }
+}
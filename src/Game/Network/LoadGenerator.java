@@ -0,0 +1,331 @@
+package Game.Network;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays many games against a {@link GameServer} at once to measure how many it sustains. Every connection is a client
+ * that joins a game, places its fleet randomly and guesses squares in a random order, then joins another game when one
+ * ends. All connections are driven by one selector thread. Without a host, a server is started on the loopback address
+ * for the run.
+ */
+public final class LoadGenerator {
+    /**
+     * Clients driven by the generator
+     */
+    private final Client[] clients;
+
+    /**
+     * Dimension of the boards played on
+     */
+    private final int dimension;
+
+    /**
+     * Number of games to finish before the run stops
+     */
+    private final long gamesToPlay;
+
+    /**
+     * Selector driving every client
+     */
+    private final Selector selector;
+
+    /**
+     * Number of games finished, counted by the winner
+     */
+    private long gamesPlayed;
+
+    /**
+     * Number of guesses taken
+     */
+    private long shotsTaken;
+
+    /**
+     * Sum of the times between a guess and its result, in nanoseconds
+     */
+    private long totalRoundTripNanos;
+
+    /**
+     * Number of errors the server sent
+     */
+    private long errors;
+
+    /**
+     * A connection to the server playing one game at a time
+     */
+    private final class Client {
+        /**
+         * Channel of the client
+         */
+        private final SocketChannel channel;
+
+        /**
+         * Bytes received and not handled yet
+         */
+        private final ByteBuffer input = ByteBuffer.allocate(256);
+
+        /**
+         * Bytes waiting to be written
+         */
+        private final ByteBuffer output = ByteBuffer.allocate(256);
+
+        /**
+         * Squares of the opponent's board in the order they are guessed
+         */
+        private final int[] guesses = new int[dimension * dimension];
+
+        /**
+         * Index of the next square guessed
+         */
+        private int nextGuess;
+
+        /**
+         * Time the last guess was sent, in nanoseconds
+         */
+        private long guessSentNanos;
+
+        /**
+         * Key of the channel with the selector
+         */
+        private SelectionKey key;
+
+        /**
+         * Creates a client on a connected channel
+         *
+         * @param channel Channel connected to the server
+         */
+        private Client(final SocketChannel channel) {
+            this.channel = channel;
+            for (int i = 0; i < guesses.length; i++)
+                guesses[i] = i;
+        }
+    }
+
+    /**
+     * Connects every client to the server
+     *
+     * @param address         Address of the server
+     * @param connectionCount Number of clients
+     * @param dimension       Dimension of the boards played on
+     * @param gamesToPlay     Number of games to finish before the run stops
+     * @throws IOException If a client cannot connect
+     */
+    private LoadGenerator(final InetSocketAddress address, final int connectionCount, final int dimension,
+                          final long gamesToPlay) throws IOException {
+        this.dimension = dimension;
+        this.gamesToPlay = gamesToPlay;
+        selector = Selector.open();
+        clients = new Client[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            final SocketChannel channel = SocketChannel.open(address);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            clients[i] = new Client(channel);
+            clients[i].key = channel.register(selector, SelectionKey.OP_READ, clients[i]);
+        }
+    }
+
+    /**
+     * Runs a load test and prints its results
+     *
+     * @param args Number of connections, number of games, board dimension and optionally the host and port of the
+     *             server
+     * @throws IOException If the server cannot be started or reached
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3 && args.length != 5) {
+            System.err.println("Usage: LoadGenerator <connections> <games> <dimension> [host port]");
+            System.exit(2);
+        }
+        final int connectionCount = Integer.parseInt(args[0]);
+        final long gamesToPlay = Long.parseLong(args[1]);
+        final int dimension = Integer.parseInt(args[2]);
+
+        GameServer server = null;
+        final InetSocketAddress address;
+        if (args.length == 5) {
+            address = new InetSocketAddress(args[3], Integer.parseInt(args[4]));
+        } else {
+            server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            server.start();
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        }
+
+        try {
+            final LoadGenerator generator = new LoadGenerator(address, connectionCount, dimension, gamesToPlay);
+            final long start = System.nanoTime();
+            generator.run();
+            final double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+
+            System.out.printf("Connections:         %d (%dx%d)%n", connectionCount, dimension, dimension);
+            System.out.printf("Games played:        %d%n", generator.gamesPlayed);
+            System.out.printf("Elapsed:             %.3f s%n", seconds);
+            System.out.printf("Games/sec:           %.1f%n", generator.gamesPlayed / seconds);
+            System.out.printf("Shots/sec:           %.1f%n", generator.shotsTaken / seconds);
+            System.out.printf("Mean round trip:     %.1f us%n",
+                    generator.totalRoundTripNanos / 1_000D / Math.max(1, generator.shotsTaken));
+            System.out.printf("Errors:              %d%n", generator.errors);
+        } finally {
+            if (server != null)
+                server.close();
+        }
+    }
+
+    /**
+     * Plays games until enough have finished, then disconnects every client
+     *
+     * @throws IOException If the selector fails
+     */
+    private void run() throws IOException {
+        try {
+            for (Client client : clients)
+                join(client);
+            flushAll();
+            while (gamesPlayed < gamesToPlay) {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    final Client client = (Client) key.attachment();
+                    if (key.isReadable())
+                        read(client);
+                    flush(client);
+                }
+            }
+        } finally {
+            for (Client client : clients)
+                client.channel.close();
+            selector.close();
+        }
+    }
+
+    /**
+     * Reads what the server sent a client and answers every complete message
+     *
+     * @param client Client to read for
+     * @throws IOException If the server closed the connection
+     */
+    private void read(final Client client) throws IOException {
+        final ByteBuffer input = client.input;
+        if (client.channel.read(input) < 0)
+            throw new IOException("Server closed the connection");
+        input.flip();
+        while (input.remaining() > 0 && input.remaining() > (input.get(input.position()) & 0xFF)) {
+            final int end = input.position() + 1 + (input.get() & 0xFF);
+            handle(client, input.get(), input);
+            input.position(end);
+        }
+        input.compact();
+    }
+
+    /**
+     * Answers one message from the server
+     *
+     * @param client Client the message was sent to
+     * @param type   Type of the message
+     * @param fields Buffer positioned at the fields of the message
+     */
+    private void handle(final Client client, final byte type, final ByteBuffer fields) {
+        switch (type) {
+            case Protocol.MATCHED:
+                shuffle(client.guesses);
+                client.nextGuess = 0;
+                client.output.put((byte) 1).put(Protocol.RANDOM).put((byte) 1).put(Protocol.READY);
+                break;
+            case Protocol.START:
+                if ((fields.get() & Protocol.FLAG_YOUR_TURN) != 0)
+                    guess(client);
+                break;
+            case Protocol.RESULT:
+                fields.getInt();
+                final int flags = fields.get();
+                if ((flags & Protocol.FLAG_BY_YOU) != 0) {
+                    shotsTaken++;
+                    totalRoundTripNanos += System.nanoTime() - client.guessSentNanos;
+                }
+                if ((flags & Protocol.FLAG_YOUR_TURN) != 0)
+                    guess(client);
+                break;
+            case Protocol.GAME_OVER:
+                if (fields.get() == 1)
+                    gamesPlayed++;
+                join(client);
+                break;
+            case Protocol.ERROR:
+                errors++;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Queues a request for a new game
+     *
+     * @param client Client joining
+     */
+    private void join(final Client client) {
+        client.output.put((byte) 3).put(Protocol.JOIN).putShort((short) dimension);
+    }
+
+    /**
+     * Queues a guess of the next square in the client's order
+     *
+     * @param client Client guessing
+     */
+    private void guess(final Client client) {
+        client.guessSentNanos = System.nanoTime();
+        client.output.put((byte) 5).put(Protocol.GUESS).putInt(client.guesses[client.nextGuess++]);
+    }
+
+    /**
+     * Writes what every client queued
+     *
+     * @throws IOException If a channel cannot be written
+     */
+    private void flushAll() throws IOException {
+        for (Client client : clients)
+            flush(client);
+    }
+
+    /**
+     * Writes what a client queued, watching its channel for writability if some could not be written
+     *
+     * @param client Client to write for
+     * @throws IOException If the channel cannot be written
+     */
+    private void flush(final Client client) throws IOException {
+        final ByteBuffer output = client.output;
+        if (output.position() == 0)
+            return;
+        output.flip();
+        client.channel.write(output);
+        output.compact();
+        client.key.interestOps(output.position() == 0 ? SelectionKey.OP_READ
+                : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Shuffles squares into a random order
+     *
+     * @param squares Squares to shuffle
+     */
+    private static void shuffle(final int[] squares) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = squares.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int square = squares[i];
+            squares[i] = squares[j];
+            squares[j] = square;
+        }
+    }
+}
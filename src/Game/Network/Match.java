@@ -0,0 +1,210 @@
+package Game.Network;
+
+import Game.Model.BoardState;
+import Game.Model.FleetGenerator;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A game between two clients of the {@link GameServer}. Each side's fleet is placed on its own {@link BoardState}, which
+ * validates every boat placed and every guess taken, so clients are never trusted with the state of the game. Only used
+ * by the server's event loop thread.
+ */
+final class Match {
+    /**
+     * Client who joined first
+     */
+    private final ServerConnection first;
+
+    /**
+     * Client who joined second
+     */
+    private final ServerConnection second;
+
+    /**
+     * Board holding the first client's fleet
+     */
+    private final BoardState firstBoard = new BoardState(true);
+
+    /**
+     * Board holding the second client's fleet
+     */
+    private final BoardState secondBoard = new BoardState(true);
+
+    /**
+     * True if the first client's whole fleet was placed randomly
+     */
+    private boolean isFirstRandom;
+
+    /**
+     * True if the second client's whole fleet was placed randomly
+     */
+    private boolean isSecondRandom;
+
+    /**
+     * True if it is the first client's turn to guess
+     */
+    private boolean isFirstsTurn;
+
+    /**
+     * Creates a match between two clients and tells them to place their fleets
+     *
+     * @param first     Client who joined first
+     * @param second    Client who joined second
+     * @param dimension Dimension of both boards
+     */
+    Match(final ServerConnection first, final ServerConnection second, final int dimension) {
+        this.first = first;
+        this.second = second;
+        firstBoard.resizeGrid(dimension);
+        secondBoard.resizeGrid(dimension);
+        for (ServerConnection connection : new ServerConnection[]{first, second}) {
+            connection.match = this;
+            connection.stage = ServerConnection.Stage.PLACING;
+            connection.sendShort(Protocol.MATCHED, dimension);
+        }
+    }
+
+    /**
+     * Places a boat on a client's board. A boat is only placed if it fits and the fleet still has a boat of its size
+     *
+     * @param connection Client placing the boat
+     * @param boat       Boat packed as size &lt;&lt; 24 | square &lt;&lt; 1 | horizontal
+     */
+    void place(final ServerConnection connection, final int boat) {
+        final BoardState board = boardOf(connection);
+        final int boatSize = boat >>> 24;
+        final int square = FleetGenerator.squareOf(boat & 0xFFFFFF);
+        final int dimension = board.getGridDimension();
+        final boolean isPlaced = !isRandom(connection) && boatSize > 0 && square < dimension * dimension
+                && board.numberOfBoatSizesRemaining(boatSize) > 0
+                && board.placeShipOnBoard(square / dimension, square % dimension, boatSize,
+                FleetGenerator.isHorizontal(boat));
+        connection.sendByte(Protocol.PLACED, isPlaced ? 1 : 0);
+    }
+
+    /**
+     * Places a client's whole fleet randomly, replacing any boat it placed
+     *
+     * @param connection Client whose fleet is placed
+     */
+    void placeRandomly(final ServerConnection connection) {
+        final boolean isPlaced = boardOf(connection).randomizeShipLocations();
+        if (connection == first)
+            isFirstRandom = isPlaced;
+        else
+            isSecondRandom = isPlaced;
+        connection.sendByte(Protocol.PLACED, isPlaced ? 1 : 0);
+    }
+
+    /**
+     * Marks a client's fleet as complete, and starts the game once both fleets are
+     *
+     * @param connection Client whose fleet is complete
+     */
+    void ready(final ServerConnection connection) {
+        if (!isRandom(connection) && !boardOf(connection).isDesignBoatsEmpty()) {
+            connection.sendByte(Protocol.ERROR, Protocol.ERROR_FLEET_INCOMPLETE);
+            return;
+        }
+        connection.stage = ServerConnection.Stage.READY;
+        if (opponentOf(connection).stage != ServerConnection.Stage.READY)
+            return;
+
+        isFirstsTurn = ThreadLocalRandom.current().nextBoolean();
+        first.stage = ServerConnection.Stage.PLAYING;
+        second.stage = ServerConnection.Stage.PLAYING;
+        first.sendByte(Protocol.START, isFirstsTurn ? Protocol.FLAG_YOUR_TURN : 0);
+        second.sendByte(Protocol.START, isFirstsTurn ? 0 : Protocol.FLAG_YOUR_TURN);
+    }
+
+    /**
+     * Takes a client's guess on its opponent's board and reports the result to both sides
+     *
+     * @param connection Client guessing
+     * @param square     Square guessed
+     * @return True if the guess won the game, false otherwise
+     */
+    boolean guess(final ServerConnection connection, final int square) {
+        if ((connection == first) != isFirstsTurn) {
+            connection.sendByte(Protocol.ERROR, Protocol.ERROR_NOT_YOUR_TURN);
+            return false;
+        }
+        final ServerConnection opponent = opponentOf(connection);
+        final BoardState target = boardOf(opponent);
+        final int dimension = target.getGridDimension();
+        if (square < 0 || square >= dimension * dimension || !target.getUntriedCells().contains(square)) {
+            connection.sendByte(Protocol.ERROR, Protocol.ERROR_INVALID_SQUARE);
+            return false;
+        }
+
+        final int x = square % dimension;
+        final int y = square / dimension;
+        final boolean isHit = target.validateGuess(x, y);
+        final boolean isWon = target.getHitPointsRemaining() == 0;
+        int flags = 0;
+        int boatSize = 0;
+        if (isHit) {
+            flags = Protocol.FLAG_HIT | (target.getGridBoatHealth(x, y) == 0 ? Protocol.FLAG_SUNK : 0);
+            boatSize = target.getShipSize(x, y);
+        }
+        isFirstsTurn = !isFirstsTurn;
+        connection.sendResult(square, flags | Protocol.FLAG_BY_YOU, boatSize);
+        opponent.sendResult(square, flags | (isWon ? 0 : Protocol.FLAG_YOUR_TURN), boatSize);
+        if (isWon)
+            end(connection);
+        return isWon;
+    }
+
+    /**
+     * Ends the match when a client leaves it, giving the game to its opponent
+     *
+     * @param connection Client who left
+     */
+    void abandon(final ServerConnection connection) {
+        end(opponentOf(connection));
+    }
+
+    /**
+     * Tells both clients who won and frees them to join another game
+     *
+     * @param winner Client who won
+     */
+    private void end(final ServerConnection winner) {
+        for (ServerConnection connection : new ServerConnection[]{first, second}) {
+            connection.sendByte(Protocol.GAME_OVER, connection == winner ? 1 : 0);
+            connection.match = null;
+            connection.stage = ServerConnection.Stage.IDLE;
+        }
+    }
+
+    /**
+     * Checks if a client's fleet was placed randomly
+     *
+     * @param connection Client to check
+     * @return True if the client's whole fleet was placed randomly, false otherwise
+     */
+    private boolean isRandom(final ServerConnection connection) {
+        return connection == first ? isFirstRandom : isSecondRandom;
+    }
+
+    /**
+     * Gets the board holding a client's fleet
+     *
+     * @param connection Client whose board is returned
+     * @return Board of the client
+     */
+    private BoardState boardOf(final ServerConnection connection) {
+        return connection == first ? firstBoard : secondBoard;
+    }
+
+    /**
+     * Gets the other client of the match
+     *
+     * @param connection One client of the match
+     * @return Other client of the match
+     */
+    private ServerConnection opponentOf(final ServerConnection connection) {
+        return connection == first ? second : first;
+    }
+}
@@ -0,0 +1,145 @@
+package Game.Network;
+
+/**
+ * Binary protocol spoken between the game server and its clients. Every message is a frame of one byte holding the
+ * number of bytes that follow, one byte holding the message type and the message's fields, all big endian:
+ * <pre>
+ * client to server
+ *   JOIN        short dimension            wait for an opponent on boards of this dimension
+ *   PLACE       int   size &lt;&lt; 24 | square &lt;&lt; 1 | horizontal
+ *   RANDOM      -                          place the whole fleet randomly
+ *   READY       -                          the fleet is complete
+ *   GUESS       int   square               y * dimension + x on the opponent's board
+ * server to client
+ *   MATCHED     short dimension            an opponent was found, place the fleet
+ *   PLACED      byte  1 if the boat was placed, 0 if it was rejected
+ *   START       byte  flags, FLAG_YOUR_TURN
+ *   RESULT      int   square, byte flags, byte size of the boat hit or 0
+ *   GAME_OVER   byte  1 if the receiver won, 0 if it lost
+ *   ERROR       byte  error code
+ * </pre>
+ * A RESULT is sent to both sides after every guess, and its FLAG_YOUR_TURN tells the receiver whether to guess next.
+ * After GAME_OVER a client can JOIN again.
+ */
+final class Protocol {
+    /**
+     * Client joins the queue for an opponent
+     */
+    static final byte JOIN = 1;
+
+    /**
+     * Client places a boat
+     */
+    static final byte PLACE = 2;
+
+    /**
+     * Client asks for its fleet to be placed randomly
+     */
+    static final byte RANDOM = 3;
+
+    /**
+     * Client has placed its whole fleet
+     */
+    static final byte READY = 4;
+
+    /**
+     * Client guesses a square on its opponent's board
+     */
+    static final byte GUESS = 5;
+
+    /**
+     * Server found an opponent for the client
+     */
+    static final byte MATCHED = 16;
+
+    /**
+     * Server accepted or rejected a placed boat
+     */
+    static final byte PLACED = 17;
+
+    /**
+     * Server started the game
+     */
+    static final byte START = 18;
+
+    /**
+     * Server reports the result of a guess
+     */
+    static final byte RESULT = 19;
+
+    /**
+     * Server reports the end of the game
+     */
+    static final byte GAME_OVER = 20;
+
+    /**
+     * Server rejected a message
+     */
+    static final byte ERROR = 21;
+
+    /**
+     * Result flag set when the guess hit a boat
+     */
+    static final int FLAG_HIT = 1;
+
+    /**
+     * Result flag set when the guess sunk a boat
+     */
+    static final int FLAG_SUNK = 1 << 1;
+
+    /**
+     * Result flag set when the receiver took the guess
+     */
+    static final int FLAG_BY_YOU = 1 << 2;
+
+    /**
+     * Start and result flag set when the receiver guesses next
+     */
+    static final int FLAG_YOUR_TURN = 1 << 3;
+
+    /**
+     * Error sent for a message that is malformed or not expected at this point
+     */
+    static final byte ERROR_BAD_MESSAGE = 1;
+
+    /**
+     * Error sent for a guess made during the opponent's turn
+     */
+    static final byte ERROR_NOT_YOUR_TURN = 2;
+
+    /**
+     * Error sent for a guess outside the board or on a square already guessed
+     */
+    static final byte ERROR_INVALID_SQUARE = 3;
+
+    /**
+     * Error sent when READY is received before the whole fleet was placed
+     */
+    static final byte ERROR_FLEET_INCOMPLETE = 4;
+
+    /**
+     * Error sent for a JOIN with a dimension the server does not host
+     */
+    static final byte ERROR_BAD_DIMENSION = 5;
+
+    /**
+     * Smallest board dimension hosted
+     */
+    static final int MIN_DIMENSION = 2;
+
+    /**
+     * Largest board dimension hosted
+     */
+    static final int MAX_DIMENSION = 200;
+
+    /**
+     * Largest frame in bytes, length byte included
+     */
+    static final int MAX_FRAME_SIZE = 8;
+
+    /**
+     * Utility class, not instantiated
+     */
+    private Protocol() {
+    }
+}
@@ -0,0 +1,181 @@
+package Game.Network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+/**
+ * A client connected to the {@link GameServer}. Outgoing messages are appended to a buffer and written once per turn of
+ * the server's event loop, so the many messages produced while handling a batch of input cost one write per client.
+ * Only used by the server's event loop thread.
+ */
+final class ServerConnection {
+    /**
+     * Most unwritten output in bytes held for a client before it is disconnected for not reading
+     */
+    private static final int MAX_PENDING_OUTPUT = 64 * 1024;
+
+    /**
+     * Stage of the game a connection is at
+     */
+    enum Stage {
+        /**
+         * Connected and not in a game
+         */
+        IDLE,
+
+        /**
+         * Waiting for an opponent
+         */
+        WAITING,
+
+        /**
+         * Matched and placing boats
+         */
+        PLACING,
+
+        /**
+         * Fleet placed and waiting for the opponent's
+         */
+        READY,
+
+        /**
+         * Playing the game
+         */
+        PLAYING
+    }
+
+    /**
+     * Channel of the client
+     */
+    final SocketChannel channel;
+
+    /**
+     * Key of the channel with the server's selector
+     */
+    SelectionKey key;
+
+    /**
+     * Connections of the server with output to write this turn of the event loop
+     */
+    private final List<ServerConnection> dirtyConnections;
+
+    /**
+     * Bytes received and not handled yet
+     */
+    final ByteBuffer input = ByteBuffer.allocate(256);
+
+    /**
+     * Bytes waiting to be written
+     */
+    private ByteBuffer output = ByteBuffer.allocate(256);
+
+    /**
+     * Stage of the game the client is at
+     */
+    Stage stage = Stage.IDLE;
+
+    /**
+     * Match the client is in, null if it is not in one
+     */
+    Match match;
+
+    /**
+     * Dimension the client is waiting for an opponent on, only meaningful while WAITING
+     */
+    int waitingDimension;
+
+    /**
+     * True if the connection has output that has not been written this turn of the event loop
+     */
+    boolean isDirty;
+
+    /**
+     * Creates a connection for a client
+     *
+     * @param channel          Channel of the client
+     * @param dirtyConnections Connections of the server with output to write, this one is added when it queues output
+     */
+    ServerConnection(final SocketChannel channel, final List<ServerConnection> dirtyConnections) {
+        this.channel = channel;
+        this.dirtyConnections = dirtyConnections;
+    }
+
+    /**
+     * Queues a message with no fields
+     *
+     * @param type Type of the message
+     */
+    void send(final byte type) {
+        reserve(2).put((byte) 1).put(type);
+    }
+
+    /**
+     * Queues a message with one byte field
+     *
+     * @param type  Type of the message
+     * @param value Value of the field
+     */
+    void sendByte(final byte type, final int value) {
+        reserve(3).put((byte) 2).put(type).put((byte) value);
+    }
+
+    /**
+     * Queues a message with one short field
+     *
+     * @param type  Type of the message
+     * @param value Value of the field
+     */
+    void sendShort(final byte type, final int value) {
+        reserve(4).put((byte) 3).put(type).putShort((short) value);
+    }
+
+    /**
+     * Queues the result of a guess
+     *
+     * @param square   Square guessed
+     * @param flags    Result flags
+     * @param boatSize Size of the boat hit, 0 on a miss
+     */
+    void sendResult(final int square, final int flags, final int boatSize) {
+        reserve(8).put((byte) 7).put(Protocol.RESULT).putInt(square).put((byte) flags).put((byte) boatSize);
+    }
+
+    /**
+     * Writes as much of the queued output as the channel accepts
+     *
+     * @return True if every queued byte was written, false if some are left for when the channel is writable
+     * @throws IOException If the channel cannot be written or the client is not reading its messages
+     */
+    boolean flush() throws IOException {
+        output.flip();
+        channel.write(output);
+        final boolean isFlushed = !output.hasRemaining();
+        output.compact();
+        if (output.position() > MAX_PENDING_OUTPUT)
+            throw new IOException("Client is not reading its messages");
+        return isFlushed;
+    }
+
+    /**
+     * Makes room in the output buffer for a message, growing it if needed, and marks the connection for flushing
+     *
+     * @param bytes Size of the message
+     * @return Output buffer with at least bytes remaining
+     */
+    private ByteBuffer reserve(final int bytes) {
+        if (!isDirty) {
+            isDirty = true;
+            dirtyConnections.add(this);
+        }
+        if (output.remaining() < bytes) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(output.capacity() * 2, output.position() + bytes));
+            output.flip();
+            grown.put(output);
+            output = grown;
+        }
+        return output;
+    }
+}
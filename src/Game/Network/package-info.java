@@ -0,0 +1,5 @@
+/**
+ * Hosts head-to-head games over TCP on a non-blocking event loop speaking a compact binary protocol, with a load
+ * generator that plays many games against it at once
+ */
+package Game.Network;
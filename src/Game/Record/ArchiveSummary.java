@@ -0,0 +1,67 @@
+package Game.Record;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Reads game archives and prints a summary of the games recorded in them
+ */
+public class ArchiveSummary {
+    /**
+     * Entry point for the summary
+     *
+     * @param args Archive files to be read
+     * @throws IOException If an archive cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: ArchiveSummary <archive>...");
+            return;
+        }
+
+        long games = 0;
+        long firstWins = 0;
+        long firstMovedFirst = 0;
+        long shots = 0;
+        long hits = 0;
+        long sinks = 0;
+        long bytes = 0;
+        final long start = System.nanoTime();
+        for (String name : args) {
+            final Path file = Paths.get(name);
+            bytes += Files.size(file);
+            try (GameArchiveReader reader = new GameArchiveReader(file)) {
+                final GameRecord record = reader.getRecord();
+                while (reader.next()) {
+                    games++;
+                    if (record.didFirstWin())
+                        firstWins++;
+                    if (record.didFirstMoveFirst())
+                        firstMovedFirst++;
+                    final int shotCount = record.getShotCount();
+                    shots += shotCount;
+                    for (int shot = 0; shot < shotCount; shot++) {
+                        if (record.isShotHit(shot))
+                            hits++;
+                        if (record.isShotSunk(shot))
+                            sinks++;
+                    }
+                }
+            }
+        }
+        final double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000D;
+
+        System.out.printf("Games read:          %d (%d bytes)%n", games, bytes);
+        System.out.printf("Elapsed:             %.3f s%n", elapsedSeconds);
+        System.out.printf("Games/sec:           %.1f%n", games / elapsedSeconds);
+        if (games == 0)
+            return;
+        System.out.printf("First side wins:     %.2f%%%n", firstWins * 100D / games);
+        System.out.printf("First side started:  %.2f%%%n", firstMovedFirst * 100D / games);
+        System.out.printf("Mean shots per game: %.2f%n", (double) shots / games);
+        System.out.printf("Hit rate:            %.2f%%%n", shots == 0 ? 0 : hits * 100D / shots);
+        System.out.printf("Boats sunk per game: %.2f%n", (double) sinks / games);
+    }
+}
@@ -0,0 +1,145 @@
+package Game.Record;
+
+import Game.Util.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File that recorded games are appended to. Games are recorded by {@link GameRecorder}s, one per thread, which buffer
+ * complete records and hand them to the archive in large blocks, so threads only share the archive when a buffer is
+ * written. Appending to an existing archive keeps the games already in it, and discards a record left partly written
+ * by a process that stopped while writing it, so new records follow the last complete one.
+ */
+public final class GameArchive implements Closeable {
+    /**
+     * Channel of the archive's file, positioned at its end
+     */
+    private final FileChannel channel;
+
+    /**
+     * Recorders created for the archive, flushed when it is closed
+     */
+    private final List<GameRecorder> recorders = new ArrayList<>();
+
+    /**
+     * True once the archive has been closed
+     */
+    private boolean isClosed;
+
+    /**
+     * Opens an archive for appending, creating it if it does not exist. A partly written record at the end of the archive
+     * is discarded
+     *
+     * @param file Archive file
+     * @throws IOException If the file cannot be opened or is not a game archive
+     */
+    public GameArchive(final Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(RecordFormat.FILE_HEADER_SIZE).order(RecordFormat.ORDER);
+            if (channel.size() == 0) {
+                header.putInt(RecordFormat.MAGIC).putShort(RecordFormat.VERSION).putShort((short) 0).flip();
+                writeFully(header);
+            } else {
+                GameArchiveReader.checkHeader(channel, file);
+                final long end = findEndOfRecords();
+                if (end != channel.size()) {
+                    Log.warn("Discarding %d bytes at the end of the game archive", channel.size() - end);
+                    channel.truncate(end);
+                    channel.force(false);
+                }
+                channel.position(end);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a recorder writing to the archive. Each recorder must only be used by one thread at a time
+     *
+     * @return New recorder
+     */
+    public synchronized GameRecorder newRecorder() {
+        final GameRecorder recorder = new GameRecorder(this);
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * Appends complete records to the archive
+     *
+     * @param records Buffer holding the records between its position and limit
+     * @throws IOException If the records cannot be written
+     */
+    synchronized void write(final ByteBuffer records) throws IOException {
+        if (isClosed)
+            throw new IOException("The game archive is closed");
+        writeFully(records);
+    }
+
+    /**
+     * Flushes the games buffered by every recorder, writes them to disk and closes the archive. Recorders must not be
+     * in use while the archive is being closed
+     *
+     * @throws IOException If the games cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (isClosed)
+            return;
+
+        try {
+            for (GameRecorder recorder : recorders)
+                recorder.flush();
+            channel.force(false);
+        } finally {
+            isClosed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * Walks the records of the archive by their lengths to find where the last complete one ends
+     *
+     * @return Offset in the archive just past its last complete record
+     * @throws IOException If the archive cannot be read
+     */
+    private long findEndOfRecords() throws IOException {
+        final long size = channel.size();
+        final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).order(RecordFormat.ORDER);
+        long position = RecordFormat.FILE_HEADER_SIZE;
+        while (size - position >= RecordFormat.RECORD_HEADER_SIZE) {
+            length.clear();
+            while (length.hasRemaining()) {
+                if (channel.read(length, position + RecordFormat.LENGTH_OFFSET + length.position()) < 0)
+                    return position;
+            }
+            final int recordLength = length.getInt(0);
+            if (recordLength < RecordFormat.RECORD_HEADER_SIZE || recordLength > size - position)
+                break;
+            position += recordLength;
+        }
+        return position;
+    }
+
+    /**
+     * Writes the whole content of a buffer to the archive's file
+     *
+     * @param buffer Buffer being written
+     * @throws IOException If the buffer cannot be written
+     */
+    private void writeFully(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+}
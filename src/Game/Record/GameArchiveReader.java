@@ -0,0 +1,164 @@
+package Game.Record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the games of an archive in the order they were recorded. The archive is memory-mapped in large windows and
+ * every game is read through the same {@link GameRecord} view, so iterating an archive allocates nothing per game and
+ * leaves paging the file in to the operating system. A record that was only partly written, as when the recording
+ * process was killed, ends the iteration.
+ * <p>
+ * A reader is not thread-safe, threads reading the same archive need their own readers.
+ */
+public final class GameArchiveReader implements Closeable {
+    /**
+     * Largest part of the archive mapped at once in bytes, larger than any record
+     */
+    private static final int MAX_WINDOW_SIZE = 1 << 28;
+
+    /**
+     * Channel of the archive's file
+     */
+    private final FileChannel channel;
+
+    /**
+     * Size of the archive when it was opened, games appended later are not read
+     */
+    private final long fileSize;
+
+    /**
+     * View moved from game to game
+     */
+    private final GameRecord record = new GameRecord();
+
+    /**
+     * Mapped part of the archive
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * Offset of the mapped part in the archive
+     */
+    private long windowStart;
+
+    /**
+     * Offset in the window of the next record
+     */
+    private int nextRecord;
+
+    /**
+     * Opens an archive and maps its beginning
+     *
+     * @param file Archive file
+     * @throws IOException If the file cannot be opened or is not a game archive
+     */
+    public GameArchiveReader(final Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            checkHeader(channel, file);
+            fileSize = channel.size();
+            mapWindow(0);
+            nextRecord = RecordFormat.FILE_HEADER_SIZE;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next game in the archive
+     *
+     * @return True if there was another complete game, false if the end of the archive was reached
+     * @throws IOException If the next part of the archive cannot be mapped or the archive is corrupt
+     */
+    public boolean next() throws IOException {
+        final long recordStart = windowStart + nextRecord;
+        if (fileSize - recordStart < RecordFormat.RECORD_HEADER_SIZE)
+            return false;
+        if (nextRecord + RecordFormat.RECORD_HEADER_SIZE > window.limit())
+            mapWindow(recordStart);
+
+        final int length = window.getInt(nextRecord + RecordFormat.LENGTH_OFFSET);
+        if (length < RecordFormat.RECORD_HEADER_SIZE || length > MAX_WINDOW_SIZE)
+            throw new IOException("Corrupt game record at offset " + recordStart);
+        if (recordStart + length > fileSize)
+            return false;
+        if (nextRecord + length > window.limit())
+            mapWindow(recordStart);
+
+        record.moveTo(window, nextRecord);
+        if (record.getShotCount() < 0 || record.getEncodedLength() > length)
+            throw new IOException("Corrupt game record at offset " + recordStart);
+        nextRecord += length;
+        return true;
+    }
+
+    /**
+     * Gets the game the reader is on. The same view is returned for every game and only describes the current one
+     *
+     * @return View of the current game, only valid after next() returned true
+     */
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * Moves the reader back to before the first game
+     *
+     * @throws IOException If the beginning of the archive cannot be mapped
+     */
+    public void rewind() throws IOException {
+        if (windowStart != 0)
+            mapWindow(0);
+        nextRecord = RecordFormat.FILE_HEADER_SIZE;
+    }
+
+    /**
+     * Closes the archive. The mapped windows are released once they are no longer referenced
+     *
+     * @throws IOException If the archive cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Checks that a file starts with the header of a game archive in a version that can be read
+     *
+     * @param channel Channel of the file, its position is left unchanged
+     * @param file    Path of the file, used in error messages
+     * @throws IOException If the file cannot be read or is not a game archive
+     */
+    static void checkHeader(final FileChannel channel, final Path file) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(RecordFormat.FILE_HEADER_SIZE).order(RecordFormat.ORDER);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0)
+                break;
+        }
+        if (header.hasRemaining() || header.getInt(0) != RecordFormat.MAGIC)
+            throw new IOException(file + " is not a game archive");
+        if (header.getShort(4) != RecordFormat.VERSION)
+            throw new IOException(file + " is a game archive of unsupported version " + header.getShort(4));
+    }
+
+    /**
+     * Maps the part of the archive starting at an offset
+     *
+     * @param start Offset in the archive of the first byte mapped
+     * @throws IOException If the archive cannot be mapped
+     */
+    private void mapWindow(final long start) throws IOException {
+        final long size = Math.min(MAX_WINDOW_SIZE, fileSize - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        window.order(RecordFormat.ORDER);
+        windowStart = start;
+        nextRecord = 0;
+    }
+}
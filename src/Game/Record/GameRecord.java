@@ -0,0 +1,225 @@
+package Game.Record;
+
+import java.nio.ByteBuffer;
+
+/**
+ * View of one recorded game inside a memory-mapped archive. The view holds no data of its own, every value is read
+ * from the archive when asked for, and a {@link GameArchiveReader} moves the same view from game to game, so it is only
+ * valid until the reader advances.
+ * <p>
+ * The first side's fleet is on the first board and it shoots at the second board, and the other way around for the
+ * second side.
+ */
+public final class GameRecord {
+    /**
+     * Mapped region of the archive holding the game
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Offset of the game's record in the buffer
+     */
+    private int offset;
+
+    /**
+     * Offset of the game's first shot in the buffer
+     */
+    private int shotsOffset;
+
+    /**
+     * Number of boats on the first board
+     */
+    private int firstBoatCount;
+
+    /**
+     * True if the game's shots take 4 bytes
+     */
+    private boolean hasWideShots;
+
+    /**
+     * Created by its reader
+     */
+    GameRecord() {
+    }
+
+    /**
+     * Points the view at a record
+     *
+     * @param buffer Mapped region of the archive holding the record
+     * @param offset Offset of the record in the buffer
+     */
+    void moveTo(final ByteBuffer buffer, final int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        firstBoatCount = Short.toUnsignedInt(buffer.getShort(offset + RecordFormat.FIRST_BOATS_OFFSET));
+        final int boatCount = firstBoatCount
+                + Short.toUnsignedInt(buffer.getShort(offset + RecordFormat.SECOND_BOATS_OFFSET));
+        shotsOffset = offset + RecordFormat.RECORD_HEADER_SIZE + Integer.BYTES * boatCount;
+        hasWideShots = (buffer.get(offset + RecordFormat.FLAGS_OFFSET) & RecordFormat.FLAG_WIDE_SHOTS) != 0;
+    }
+
+    /**
+     * Computes the number of bytes the game's boats and shots take up, which a valid record is at least as long as
+     *
+     * @return Number of bytes needed by the record's content
+     */
+    long getEncodedLength() {
+        return (long) shotsOffset - offset + (long) getShotCount() * (hasWideShots ? Integer.BYTES : Short.BYTES);
+    }
+
+    /**
+     * Gets the size of the game's record in the archive
+     *
+     * @return Length of the record in bytes
+     */
+    public int getLength() {
+        return buffer.getInt(offset + RecordFormat.LENGTH_OFFSET);
+    }
+
+    /**
+     * Gets the dimension of the boards the game was played on
+     *
+     * @return Dimension of one side of the boards
+     */
+    public int getGridDimension() {
+        return Short.toUnsignedInt(buffer.getShort(offset + RecordFormat.DIMENSION_OFFSET));
+    }
+
+    /**
+     * Checks which side took the first shot
+     *
+     * @return True if the first side moved first, false if the second side did
+     */
+    public boolean didFirstMoveFirst() {
+        return (buffer.get(offset + RecordFormat.FLAGS_OFFSET) & RecordFormat.FLAG_FIRST_MOVED_FIRST) != 0;
+    }
+
+    /**
+     * Checks which side won the game
+     *
+     * @return True if the first side won, false if the second side did
+     */
+    public boolean didFirstWin() {
+        return (buffer.get(offset + RecordFormat.FLAGS_OFFSET) & RecordFormat.FLAG_FIRST_WON) != 0;
+    }
+
+    /**
+     * Gets the number of boats in a side's fleet
+     *
+     * @param isFirstBoard True for the first side's board, false for the second side's
+     * @return Number of boats on the board
+     */
+    public int getBoatCount(final boolean isFirstBoard) {
+        return Short.toUnsignedInt(buffer.getShort(offset
+                + (isFirstBoard ? RecordFormat.FIRST_BOATS_OFFSET : RecordFormat.SECOND_BOATS_OFFSET)));
+    }
+
+    /**
+     * Gets the size of a boat
+     *
+     * @param isFirstBoard True for the first side's board, false for the second side's
+     * @param boat         Number of the boat, from 0 to getBoatCount(isFirstBoard) - 1
+     * @return Size of the boat
+     */
+    public int getBoatSize(final boolean isFirstBoard, final int boat) {
+        return boat(isFirstBoard, boat) >>> 24;
+    }
+
+    /**
+     * Gets the first square of a boat
+     *
+     * @param isFirstBoard True for the first side's board, false for the second side's
+     * @param boat         Number of the boat, from 0 to getBoatCount(isFirstBoard) - 1
+     * @return Index of the boat's top left square, y * dimension + x
+     */
+    public int getBoatSquare(final boolean isFirstBoard, final int boat) {
+        return (boat(isFirstBoard, boat) & 0xFFFFFF) >>> 1;
+    }
+
+    /**
+     * Gets the orientation of a boat
+     *
+     * @param isFirstBoard True for the first side's board, false for the second side's
+     * @param boat         Number of the boat, from 0 to getBoatCount(isFirstBoard) - 1
+     * @return True if the boat runs left to right, false if it runs top to bottom
+     */
+    public boolean isBoatHorizontal(final boolean isFirstBoard, final int boat) {
+        return (boat(isFirstBoard, boat) & 1) != 0;
+    }
+
+    /**
+     * Gets the number of shots taken by both sides
+     *
+     * @return Number of shots in the game
+     */
+    public int getShotCount() {
+        return buffer.getInt(offset + RecordFormat.SHOTS_OFFSET);
+    }
+
+    /**
+     * Gets the square a shot was taken at
+     *
+     * @param shot Number of the shot in the order they were taken, from 0 to getShotCount() - 1
+     * @return Index of the square guessed on the opposing board, y * dimension + x
+     */
+    public int getShotSquare(final int shot) {
+        return shot(shot) >>> RecordFormat.SHOT_OUTCOME_BITS;
+    }
+
+    /**
+     * Checks which side took a shot
+     *
+     * @param shot Number of the shot in the order they were taken, from 0 to getShotCount() - 1
+     * @return True if the first side took the shot, false if the second side did
+     */
+    public boolean isShotByFirst(final int shot) {
+        return (shot(shot) & RecordFormat.SHOT_BY_SECOND) == 0;
+    }
+
+    /**
+     * Checks if a shot hit a boat
+     *
+     * @param shot Number of the shot in the order they were taken, from 0 to getShotCount() - 1
+     * @return True if the shot hit, false if it missed
+     */
+    public boolean isShotHit(final int shot) {
+        return (shot(shot) & RecordFormat.SHOT_HIT) != 0;
+    }
+
+    /**
+     * Checks if a shot sunk a boat
+     *
+     * @param shot Number of the shot in the order they were taken, from 0 to getShotCount() - 1
+     * @return True if the shot sunk a boat, false otherwise
+     */
+    public boolean isShotSunk(final int shot) {
+        return (shot(shot) & RecordFormat.SHOT_SUNK) != 0;
+    }
+
+    /**
+     * Reads the packed form of a boat
+     *
+     * @param isFirstBoard True for the first side's board, false for the second side's
+     * @param boat         Number of the boat
+     * @return Packed boat
+     */
+    private int boat(final boolean isFirstBoard, final int boat) {
+        if (boat < 0 || boat >= getBoatCount(isFirstBoard))
+            throw new IndexOutOfBoundsException("Boat: " + boat + ", Boats: " + getBoatCount(isFirstBoard));
+        final int index = isFirstBoard ? boat : firstBoatCount + boat;
+        return buffer.getInt(offset + RecordFormat.RECORD_HEADER_SIZE + Integer.BYTES * index);
+    }
+
+    /**
+     * Reads the packed form of a shot
+     *
+     * @param shot Number of the shot
+     * @return Packed shot
+     */
+    private int shot(final int shot) {
+        if (shot < 0 || shot >= getShotCount())
+            throw new IndexOutOfBoundsException("Shot: " + shot + ", Shots: " + getShotCount());
+        return hasWideShots ? buffer.getInt(shotsOffset + Integer.BYTES * shot)
+                : Short.toUnsignedInt(buffer.getShort(shotsOffset + Short.BYTES * shot));
+    }
+}
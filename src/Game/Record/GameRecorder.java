@@ -0,0 +1,204 @@
+package Game.Record;
+
+import Game.Model.BoardState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Records games into a {@link GameArchive}. A game is started with both fleets, receives every shot as it is taken and
+ * is ended with its winner, at which point its record is complete. Records are buffered and written to the archive in
+ * blocks, and the buffer is reused, so recording a game does not allocate once the buffer has grown to fit it.
+ * <p>
+ * A recorder is not thread-safe, each thread recording games needs its own.
+ */
+public final class GameRecorder {
+    /**
+     * Initial size of the buffer in bytes
+     */
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Amount of buffered records in bytes past which they are written to the archive
+     */
+    private static final int FLUSH_THRESHOLD = 48 * 1024;
+
+    /**
+     * Archive the games are written to
+     */
+    private final GameArchive archive;
+
+    /**
+     * Complete records waiting to be written, followed by the game being recorded
+     */
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE).order(RecordFormat.ORDER);
+
+    /**
+     * Offset in the buffer of the game being recorded, -1 if no game is being recorded
+     */
+    private int gameStart = -1;
+
+    /**
+     * Number of shots recorded for the game being recorded
+     */
+    private int shotCount;
+
+    /**
+     * True if the shots of the game being recorded take 4 bytes
+     */
+    private boolean hasWideShots;
+
+    /**
+     * Creates a recorder for an archive
+     *
+     * @param archive Archive the games are written to
+     */
+    GameRecorder(final GameArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Starts recording a game, discarding any game that was started and not ended
+     *
+     * @param firstBoard       Board of the first side, with its fleet placed
+     * @param secondBoard      Board of the second side, with its fleet placed
+     * @param didFirstMoveFirst True if the first side takes the first shot
+     */
+    public void beginGame(final BoardState firstBoard, final BoardState secondBoard, final boolean didFirstMoveFirst) {
+        final int gridDimension = firstBoard.getGridDimension();
+        if (gridDimension > RecordFormat.MAX_DIMENSION || secondBoard.getGridDimension() != gridDimension)
+            throw new IllegalArgumentException("Unable to record a game on a " + gridDimension + "x" + gridDimension
+                    + " board");
+
+        abandonGame();
+        gameStart = buffer.position();
+        shotCount = 0;
+        hasWideShots = gridDimension > RecordFormat.MAX_NARROW_DIMENSION;
+        ensureCapacity(RecordFormat.RECORD_HEADER_SIZE
+                + Integer.BYTES * (firstBoard.getBoatCount() + secondBoard.getBoatCount()));
+
+        buffer.putInt(0)
+                .putShort((short) gridDimension)
+                .put((byte) ((didFirstMoveFirst ? RecordFormat.FLAG_FIRST_MOVED_FIRST : 0)
+                        | (hasWideShots ? RecordFormat.FLAG_WIDE_SHOTS : 0)))
+                .put((byte) 0)
+                .putShort((short) firstBoard.getBoatCount())
+                .putShort((short) secondBoard.getBoatCount())
+                .putInt(0);
+        putFleet(firstBoard);
+        putFleet(secondBoard);
+    }
+
+    /**
+     * Records a shot of the game being recorded
+     *
+     * @param isByFirst True if the first side took the shot, false if the second side did
+     * @param square    Index of the square guessed, y * dimension + x
+     * @param isHit     True if the shot hit a boat
+     * @param isSunk    True if the shot sunk a boat
+     */
+    public void recordShot(final boolean isByFirst, final int square, final boolean isHit, final boolean isSunk) {
+        if (gameStart < 0)
+            throw new IllegalStateException("No game is being recorded");
+
+        final int shot = square << RecordFormat.SHOT_OUTCOME_BITS
+                | (isSunk ? RecordFormat.SHOT_SUNK : 0)
+                | (isHit ? RecordFormat.SHOT_HIT : 0)
+                | (isByFirst ? 0 : RecordFormat.SHOT_BY_SECOND);
+        if (hasWideShots) {
+            ensureCapacity(Integer.BYTES);
+            buffer.putInt(shot);
+        } else {
+            ensureCapacity(Short.BYTES);
+            buffer.putShort((short) shot);
+        }
+        shotCount++;
+    }
+
+    /**
+     * Completes the game being recorded, writing the buffered games to the archive once enough have built up
+     *
+     * @param didFirstWin True if the first side won the game
+     * @throws IOException If the buffered games cannot be written
+     */
+    public void endGame(final boolean didFirstWin) throws IOException {
+        if (gameStart < 0)
+            throw new IllegalStateException("No game is being recorded");
+
+        buffer.putInt(gameStart + RecordFormat.LENGTH_OFFSET, buffer.position() - gameStart);
+        buffer.putInt(gameStart + RecordFormat.SHOTS_OFFSET, shotCount);
+        if (didFirstWin) {
+            final int flags = buffer.get(gameStart + RecordFormat.FLAGS_OFFSET) | RecordFormat.FLAG_FIRST_WON;
+            buffer.put(gameStart + RecordFormat.FLAGS_OFFSET, (byte) flags);
+        }
+        gameStart = -1;
+
+        if (buffer.position() >= FLUSH_THRESHOLD)
+            flush();
+    }
+
+    /**
+     * Discards the game being recorded, if any, without writing it
+     */
+    public void abandonGame() {
+        if (gameStart < 0)
+            return;
+
+        buffer.position(gameStart);
+        gameStart = -1;
+    }
+
+    /**
+     * Checks if a game has been started and not ended
+     *
+     * @return True if a game is being recorded, false otherwise
+     */
+    public boolean isRecording() {
+        return gameStart >= 0;
+    }
+
+    /**
+     * Writes every complete game buffered to the archive, keeping the game being recorded in the buffer
+     *
+     * @throws IOException If the games cannot be written
+     */
+    public void flush() throws IOException {
+        final int completeEnd = gameStart < 0 ? buffer.position() : gameStart;
+        if (completeEnd == 0)
+            return;
+
+        final int end = buffer.position();
+        buffer.position(0).limit(completeEnd);
+        archive.write(buffer);
+        buffer.limit(end).position(completeEnd);
+        buffer.compact();
+        if (gameStart >= 0)
+            gameStart = 0;
+    }
+
+    /**
+     * Writes the placement of every boat on a board
+     *
+     * @param board Board whose fleet is being written
+     */
+    private void putFleet(final BoardState board) {
+        for (int boatId = 0; boatId < board.getBoatCount(); boatId++)
+            buffer.putInt(board.getBoatSize(boatId) << 24 | board.getBoatPlacement(boatId));
+    }
+
+    /**
+     * Grows the buffer if it cannot fit more bytes, keeping its content
+     *
+     * @param bytes Number of bytes about to be written
+     */
+    private void ensureCapacity(final int bytes) {
+        if (buffer.remaining() >= bytes)
+            return;
+
+        final ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+                .order(RecordFormat.ORDER);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
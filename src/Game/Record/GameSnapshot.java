@@ -0,0 +1,229 @@
+package Game.Record;
+
+import Game.Model.BoardState;
+import Game.Model.DesignState;
+import Game.Model.Enums.GameStatus;
+import Game.Model.GameState;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Saves and loads games in progress as compact versioned binary snapshots. A snapshot holds the status of the game, whose
+ * turn it is, the design selections and both boards written by {@link BoardState#writeSnapshot(ByteBuffer)}, after a
+ * header with its version, length and checksum:
+ * <pre>
+ * header int MAGIC, short VERSION, short reserved, int length of the body, int CRC32 of the body
+ * body   byte status, byte flags, short selected boat size, player's board, system's board
+ * </pre>
+ * Games won are not part of a snapshot, they are kept by the {@link StatisticsStore}.
+ */
+public final class GameSnapshot {
+    /**
+     * Identifies a snapshot, "BSSV" read as a little endian int
+     */
+    private static final int MAGIC = 0x56535342;
+
+    /**
+     * Version of the layout written
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Size of the header in bytes
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * Size of the body before the boards in bytes
+     */
+    private static final int STATE_SIZE = 4;
+
+    /**
+     * Flag set when it is the player's turn
+     */
+    private static final int FLAG_PLAYERS_TURN = 1;
+
+    /**
+     * Flag set when the player won the game
+     */
+    private static final int FLAG_PLAYER_WON = 1 << 1;
+
+    /**
+     * Flag set when the selected boat is horizontal
+     */
+    private static final int FLAG_HORIZONTAL = 1 << 2;
+
+    /**
+     * Flag set when the game is played in salvo mode
+     */
+    private static final int FLAG_SALVO = 1 << 3;
+
+    /**
+     * Utility class, not instantiated
+     */
+    private GameSnapshot() {
+    }
+
+    /**
+     * Gets the number of bytes a snapshot of a game takes
+     *
+     * @param playerBoard Player's board
+     * @param systemBoard System's board
+     * @return Size of the snapshot in bytes
+     */
+    public static int size(final BoardState playerBoard, final BoardState systemBoard) {
+        return HEADER_SIZE + STATE_SIZE + playerBoard.getSnapshotSize() + systemBoard.getSnapshotSize();
+    }
+
+    /**
+     * Writes a snapshot of a game to a buffer
+     *
+     * @param buffer      Buffer the snapshot is written to, with at least size() bytes remaining
+     * @param gameState   State of the game
+     * @param designState Design selections
+     * @param playerBoard Player's board
+     * @param systemBoard System's board
+     */
+    public static void write(final ByteBuffer buffer, final GameState gameState, final DesignState designState,
+                             final BoardState playerBoard, final BoardState systemBoard) {
+        final ByteBuffer snapshot = buffer.slice().order(RecordFormat.ORDER);
+        snapshot.position(HEADER_SIZE);
+        snapshot.put((byte) gameState.getStatus().ordinal())
+                .put((byte) ((gameState.isPlayersTurn() ? FLAG_PLAYERS_TURN : 0)
+                        | (gameState.didPlayerWin() ? FLAG_PLAYER_WON : 0)
+                        | (designState.getIsHorizontal() ? FLAG_HORIZONTAL : 0)
+                        | (gameState.isSalvo() ? FLAG_SALVO : 0)))
+                .putShort((short) designState.getBoatSize());
+        playerBoard.writeSnapshot(snapshot);
+        systemBoard.writeSnapshot(snapshot);
+
+        final int bodyLength = snapshot.position() - HEADER_SIZE;
+        snapshot.putInt(0, MAGIC)
+                .putShort(4, VERSION)
+                .putShort(6, (short) 0)
+                .putInt(8, bodyLength)
+                .putInt(12, checksum(snapshot, HEADER_SIZE, bodyLength));
+        buffer.position(buffer.position() + snapshot.position());
+    }
+
+    /**
+     * Reads a snapshot from a buffer into a game. The header, the checksum and both boards are checked before anything
+     * is changed, so a snapshot that cannot be read leaves the game as it was
+     *
+     * @param buffer      Buffer the snapshot is read from
+     * @param gameState   State of the game being restored
+     * @param designState Design selections being restored
+     * @param playerBoard Player's board being restored
+     * @param systemBoard System's board being restored
+     * @throws IOException If the buffer does not hold a valid snapshot in a version that can be read
+     */
+    public static void read(final ByteBuffer buffer, final GameState gameState, final DesignState designState,
+                            final BoardState playerBoard, final BoardState systemBoard) throws IOException {
+        final ByteBuffer snapshot = buffer.slice().order(RecordFormat.ORDER);
+        if (snapshot.remaining() < HEADER_SIZE + STATE_SIZE || snapshot.getInt(0) != MAGIC)
+            throw new IOException("Not a saved game");
+        if (snapshot.getShort(4) != VERSION)
+            throw new IOException("Unsupported saved game version " + snapshot.getShort(4));
+        final int bodyLength = snapshot.getInt(8);
+        if (bodyLength < STATE_SIZE || bodyLength > snapshot.remaining() - HEADER_SIZE
+                || snapshot.getInt(12) != checksum(snapshot, HEADER_SIZE, bodyLength))
+            throw new IOException("Corrupt saved game");
+
+        snapshot.position(HEADER_SIZE).limit(HEADER_SIZE + bodyLength);
+        final int statusOrdinal = snapshot.get();
+        final int flags = snapshot.get();
+        final int boatSize = snapshot.getShort();
+        if (statusOrdinal < 0 || statusOrdinal >= GameStatus.values().length)
+            throw new IOException("Corrupt saved game: unknown status " + statusOrdinal);
+        final int boardsPosition = snapshot.position();
+        try {
+            // Both boards are decoded on a scratch board first, so the game's boards are only replaced by valid ones
+            final BoardState scratchBoard = new BoardState(false);
+            scratchBoard.readSnapshot(snapshot);
+            final int gridDimension = scratchBoard.getGridDimension();
+            scratchBoard.readSnapshot(snapshot);
+            if (scratchBoard.getGridDimension() != gridDimension)
+                throw new IOException("Corrupt saved game: boards of dimensions " + gridDimension + " and "
+                        + scratchBoard.getGridDimension());
+            snapshot.position(boardsPosition);
+            playerBoard.readSnapshot(snapshot);
+            systemBoard.readSnapshot(snapshot);
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IOException("Corrupt saved game", e);
+        }
+
+        designState.setIsHorizontal((flags & FLAG_HORIZONTAL) != 0);
+        designState.setBoatSize(boatSize);
+        gameState.setPlayersTurn((flags & FLAG_PLAYERS_TURN) != 0);
+        gameState.setDidPlayerWin((flags & FLAG_PLAYER_WON) != 0);
+        gameState.setSalvo((flags & FLAG_SALVO) != 0);
+        gameState.setStatus(GameStatus.values()[statusOrdinal]);
+        buffer.position(buffer.position() + HEADER_SIZE + bodyLength);
+    }
+
+    /**
+     * Saves a game to a file. The snapshot is written to a temporary file that then replaces the file, so a failed save
+     * leaves any earlier save intact
+     *
+     * @param file        File the game is saved to
+     * @param gameState   State of the game
+     * @param designState Design selections
+     * @param playerBoard Player's board
+     * @param systemBoard System's board
+     * @throws IOException If the file cannot be written
+     */
+    public static void save(final Path file, final GameState gameState, final DesignState designState,
+                            final BoardState playerBoard, final BoardState systemBoard) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(size(playerBoard, systemBoard));
+        write(buffer, gameState, designState, playerBoard, systemBoard);
+        buffer.flip();
+
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(false);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a game saved to a file
+     *
+     * @param file        File the game was saved to
+     * @param gameState   State of the game being restored
+     * @param designState Design selections being restored
+     * @param playerBoard Player's board being restored
+     * @param systemBoard System's board being restored
+     * @throws IOException If the file cannot be read or does not hold a valid saved game
+     */
+    public static void load(final Path file, final GameState gameState, final DesignState designState,
+                            final BoardState playerBoard, final BoardState systemBoard) throws IOException {
+        read(ByteBuffer.wrap(Files.readAllBytes(file)), gameState, designState, playerBoard, systemBoard);
+    }
+
+    /**
+     * Computes the checksum of part of a buffer without moving it
+     *
+     * @param buffer Buffer holding the bytes
+     * @param offset Offset of the first byte
+     * @param length Number of bytes
+     * @return CRC32 of the bytes
+     */
+    private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+        final ByteBuffer bytes = buffer.duplicate();
+        bytes.limit(offset + length).position(offset);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
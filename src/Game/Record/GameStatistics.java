@@ -0,0 +1,124 @@
+package Game.Record;
+
+/**
+ * Totals of every game result kept by a {@link StatisticsStore}. Statistics are immutable, adding a game creates new
+ * totals.
+ */
+public final class GameStatistics {
+    /**
+     * Statistics before any game has been played
+     */
+    public static final GameStatistics EMPTY = new GameStatistics(0, 0, 0, 0, 0);
+
+    /**
+     * Number of games won by the player
+     */
+    private final long playerGamesWon;
+
+    /**
+     * Number of games won by the system
+     */
+    private final long systemGamesWon;
+
+    /**
+     * Number of shots taken by the player across all games
+     */
+    private final long playerShots;
+
+    /**
+     * Number of shots taken by the system across all games
+     */
+    private final long systemShots;
+
+    /**
+     * Time spent playing across all games, in milliseconds
+     */
+    private final long playingMillis;
+
+    /**
+     * Creates statistics from their totals
+     *
+     * @param playerGamesWon Number of games won by the player
+     * @param systemGamesWon Number of games won by the system
+     * @param playerShots    Number of shots taken by the player
+     * @param systemShots    Number of shots taken by the system
+     * @param playingMillis  Time spent playing in milliseconds
+     */
+    GameStatistics(final long playerGamesWon, final long systemGamesWon, final long playerShots,
+                   final long systemShots, final long playingMillis) {
+        this.playerGamesWon = playerGamesWon;
+        this.systemGamesWon = systemGamesWon;
+        this.playerShots = playerShots;
+        this.systemShots = systemShots;
+        this.playingMillis = playingMillis;
+    }
+
+    /**
+     * Creates the statistics that include one more game
+     *
+     * @param didPlayerWin   True if the player won the game, false if the system did
+     * @param playerShots    Number of shots the player took
+     * @param systemShots    Number of shots the system took
+     * @param durationMillis Length of the game in milliseconds
+     * @return New statistics including the game
+     */
+    GameStatistics withGame(final boolean didPlayerWin, final int playerShots, final int systemShots,
+                            final long durationMillis) {
+        return new GameStatistics(playerGamesWon + (didPlayerWin ? 1 : 0), systemGamesWon + (didPlayerWin ? 0 : 1),
+                this.playerShots + playerShots, this.systemShots + systemShots, playingMillis + durationMillis);
+    }
+
+    /**
+     * Gets the number of games won by the player
+     *
+     * @return Number of games won by the player
+     */
+    public long getPlayerGamesWon() {
+        return playerGamesWon;
+    }
+
+    /**
+     * Gets the number of games won by the system
+     *
+     * @return Number of games won by the system
+     */
+    public long getSystemGamesWon() {
+        return systemGamesWon;
+    }
+
+    /**
+     * Gets the number of games played
+     *
+     * @return Number of games played
+     */
+    public long getGamesPlayed() {
+        return playerGamesWon + systemGamesWon;
+    }
+
+    /**
+     * Gets the number of shots taken by the player across all games
+     *
+     * @return Number of shots taken by the player
+     */
+    public long getPlayerShots() {
+        return playerShots;
+    }
+
+    /**
+     * Gets the number of shots taken by the system across all games
+     *
+     * @return Number of shots taken by the system
+     */
+    public long getSystemShots() {
+        return systemShots;
+    }
+
+    /**
+     * Gets the time spent playing across all games
+     *
+     * @return Time spent playing in milliseconds
+     */
+    public long getPlayingMillis() {
+        return playingMillis;
+    }
+}
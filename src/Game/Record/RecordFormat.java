@@ -0,0 +1,128 @@
+package Game.Record;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of a game archive. An archive starts with a header followed by one record per game, every value stored little
+ * endian:
+ * <pre>
+ * header  int MAGIC, short VERSION, short reserved
+ * record  int   length of the record in bytes, this field included
+ *         short dimension of one side of the boards
+ *         byte  flags, see the FLAG constants
+ *         byte  reserved
+ *         short number of boats on the first board
+ *         short number of boats on the second board
+ *         int   number of shots
+ *         int   one per boat, first board then second board: size &lt;&lt; 24 | square &lt;&lt; 1 | horizontal
+ *         short or int one per shot, see FLAG_WIDE_SHOTS: square &lt;&lt; 3 | sunk &lt;&lt; 2 | hit &lt;&lt; 1 | by second
+ * </pre>
+ * Records are only written once complete, so an archive cut short by a crash ends at the last complete record.
+ */
+final class RecordFormat {
+    /**
+     * Identifies a game archive, "BSGR" read as a little endian int
+     */
+    static final int MAGIC = 0x52475342;
+
+    /**
+     * Version of the layout written
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Byte order of every value in an archive
+     */
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Size of the archive header in bytes
+     */
+    static final int FILE_HEADER_SIZE = 8;
+
+    /**
+     * Size of the fixed part of a record in bytes, before its boats
+     */
+    static final int RECORD_HEADER_SIZE = 16;
+
+    /**
+     * Offset of the record's length
+     */
+    static final int LENGTH_OFFSET = 0;
+
+    /**
+     * Offset of the boards' dimension
+     */
+    static final int DIMENSION_OFFSET = 4;
+
+    /**
+     * Offset of the record's flags
+     */
+    static final int FLAGS_OFFSET = 6;
+
+    /**
+     * Offset of the number of boats on the first board
+     */
+    static final int FIRST_BOATS_OFFSET = 8;
+
+    /**
+     * Offset of the number of boats on the second board
+     */
+    static final int SECOND_BOATS_OFFSET = 10;
+
+    /**
+     * Offset of the number of shots
+     */
+    static final int SHOTS_OFFSET = 12;
+
+    /**
+     * Flag set when the first side took the first shot
+     */
+    static final int FLAG_FIRST_MOVED_FIRST = 1;
+
+    /**
+     * Flag set when the first side won the game
+     */
+    static final int FLAG_FIRST_WON = 1 << 1;
+
+    /**
+     * Flag set when shots take 4 bytes because the board has too many squares to fit in 2
+     */
+    static final int FLAG_WIDE_SHOTS = 1 << 2;
+
+    /**
+     * Largest board dimension whose shots fit in 2 bytes
+     */
+    static final int MAX_NARROW_DIMENSION = 90;
+
+    /**
+     * Largest board dimension whose boats can be recorded
+     */
+    static final int MAX_DIMENSION = 2896;
+
+    /**
+     * Shot bit set when the second side took the shot
+     */
+    static final int SHOT_BY_SECOND = 1;
+
+    /**
+     * Shot bit set when the shot hit a boat
+     */
+    static final int SHOT_HIT = 1 << 1;
+
+    /**
+     * Shot bit set when the shot sunk a boat
+     */
+    static final int SHOT_SUNK = 1 << 2;
+
+    /**
+     * Number of low bits of a shot holding its outcome, the square is stored above them
+     */
+    static final int SHOT_OUTCOME_BITS = 3;
+
+    /**
+     * Utility class, not instantiated
+     */
+    private RecordFormat() {
+    }
+}
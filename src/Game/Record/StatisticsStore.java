@@ -0,0 +1,529 @@
+package Game.Record;
+
+import Game.Util.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the results of every game played on disk. Results are appended to a journal by a background thread, which
+ * groups the results that arrive close together into one write and one sync to disk. Once the journal has grown long
+ * enough, its totals are compacted into a snapshot that replaces the snapshot before it and the journal starts over,
+ * so opening the store only reads the snapshot and the results journaled since it was written.
+ * <p>
+ * Every journal entry and the snapshot carry a checksum. An entry that was only partly written when the game stopped
+ * is discarded, along with anything after it, when the store is next opened.
+ */
+public final class StatisticsStore implements Closeable {
+    /**
+     * Name of the snapshot file in the store's directory
+     */
+    static final String SNAPSHOT_FILE = "statistics.snapshot";
+
+    /**
+     * Name of the journal file in the store's directory
+     */
+    static final String JOURNAL_FILE = "statistics.journal";
+
+    /**
+     * Identifies a snapshot, "BSST" read as a little endian int
+     */
+    private static final int SNAPSHOT_MAGIC = 0x54535342;
+
+    /**
+     * Identifies a journal, "BSJR" read as a little endian int
+     */
+    private static final int JOURNAL_MAGIC = 0x524A5342;
+
+    /**
+     * Version of the files written
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Size of the journal header in bytes: magic, version and 2 reserved bytes
+     */
+    private static final int JOURNAL_HEADER_SIZE = 8;
+
+    /**
+     * Size of a journal entry in bytes: sequence number, flags, reserved byte, grid dimension, player shots, system
+     * shots, duration in milliseconds and checksum
+     */
+    private static final int ENTRY_SIZE = 28;
+
+    /**
+     * Size of the snapshot in bytes: magic, version, 2 reserved bytes, last sequence number, the five totals and
+     * checksum
+     */
+    private static final int SNAPSHOT_SIZE = 8 + 6 * Long.BYTES + Integer.BYTES;
+
+    /**
+     * Entry flag set when the player won the game
+     */
+    private static final int FLAG_PLAYER_WON = 1;
+
+    /**
+     * Longest time in milliseconds the writer waits for more results before syncing a batch
+     */
+    private static final long BATCH_WINDOW_MILLIS = 20;
+
+    /**
+     * Most results written in one batch
+     */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    /**
+     * Number of journal entries past which the journal is compacted into the snapshot
+     */
+    private static final int COMPACTION_THRESHOLD = 4096;
+
+    /**
+     * Queued to stop the writer thread
+     */
+    private static final Result STOP = new Result(0, false, 0, 0, 0, 0);
+
+    /**
+     * Directory holding the snapshot and journal
+     */
+    private final Path directory;
+
+    /**
+     * Channel of the journal file
+     */
+    private final FileChannel journal;
+
+    /**
+     * Results waiting to be journaled
+     */
+    private final BlockingQueue<Result> pendingResults = new LinkedBlockingQueue<>();
+
+    /**
+     * Thread journaling the results
+     */
+    private final Thread writerThread;
+
+    /**
+     * Totals of every game recorded, including games not journaled yet
+     */
+    private GameStatistics statistics;
+
+    /**
+     * Sequence number given to the next result recorded
+     */
+    private long nextSequence;
+
+    /**
+     * Sequence number of the last result synced to disk
+     */
+    private long durableSequence;
+
+    /**
+     * True once the store has been closed or its journal failed, after which results are only kept in memory
+     */
+    private boolean isStopped;
+
+    /**
+     * Totals of every game synced to disk, only used by the writer thread once the store is open
+     */
+    private GameStatistics durableStatistics;
+
+    /**
+     * Offset of the end of the journal, only used by the writer thread once the store is open
+     */
+    private long journalEnd;
+
+    /**
+     * Number of entries in the journal, only used by the writer thread once the store is open
+     */
+    private int journalEntries;
+
+    /**
+     * Opens a store, creating its directory and files if they do not exist, and loads its statistics
+     *
+     * @param directory Directory holding the store's files
+     * @throws IOException If the store cannot be read or created
+     */
+    public StatisticsStore(final Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        final long snapshotSequence = readSnapshot();
+
+        journal = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long lastSequence = readJournal(snapshotSequence);
+            statistics = durableStatistics;
+            nextSequence = Math.max(snapshotSequence, lastSequence) + 1;
+            durableSequence = nextSequence - 1;
+            if (journalEntries >= COMPACTION_THRESHOLD)
+                compact();
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+
+        writerThread = new Thread(this::writeResults, "battleship-statistics-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Gets the totals of every game recorded
+     *
+     * @return Statistics of every game recorded
+     */
+    public synchronized GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Records the result of a game. The statistics include it right away and it is written to disk in the background
+     *
+     * @param didPlayerWin   True if the player won the game, false if the system did
+     * @param gridDimension  Dimension of one side of the boards
+     * @param playerShots    Number of shots the player took
+     * @param systemShots    Number of shots the system took
+     * @param durationMillis Length of the game in milliseconds
+     */
+    public synchronized void recordGame(final boolean didPlayerWin, final int gridDimension, final int playerShots,
+                                        final int systemShots, final long durationMillis) {
+        statistics = statistics.withGame(didPlayerWin, playerShots, systemShots, durationMillis);
+        if (!isStopped)
+            pendingResults.add(new Result(nextSequence++, didPlayerWin, gridDimension, playerShots, systemShots,
+                    durationMillis));
+    }
+
+    /**
+     * Waits until every result recorded before the call has been synced to disk
+     *
+     * @param timeoutMillis Longest time to wait in milliseconds
+     * @return True if every result is on disk, false if the wait timed out or the results cannot be written
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public synchronized boolean sync(final long timeoutMillis) throws InterruptedException {
+        final long target = nextSequence - 1;
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (durableSequence < target && !isStopped) {
+            final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0)
+                return false;
+            wait(remaining);
+        }
+        return durableSequence >= target;
+    }
+
+    /**
+     * Writes every recorded result to disk, compacts the journal into the snapshot and closes the store. Results
+     * recorded afterwards are only kept in memory
+     *
+     * @throws IOException If the store cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (!isStopped)
+                pendingResults.add(STOP);
+            isStopped = true;
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            journal.close();
+        }
+    }
+
+    /**
+     * Journals results as they are recorded until the store is closed, then compacts the journal
+     */
+    private void writeResults() {
+        final List<Result> batch = new ArrayList<>();
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_BATCH_SIZE * ENTRY_SIZE).order(RecordFormat.ORDER);
+        final CRC32 checksum = new CRC32();
+        boolean isStopping = false;
+        try {
+            while (!isStopping) {
+                batch.add(pendingResults.take());
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BATCH_WINDOW_MILLIS);
+                while (batch.size() < MAX_BATCH_SIZE && batch.get(batch.size() - 1) != STOP) {
+                    final Result next = pendingResults.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                }
+                if (batch.get(batch.size() - 1) == STOP) {
+                    batch.remove(batch.size() - 1);
+                    isStopping = true;
+                }
+                if (!batch.isEmpty())
+                    writeBatch(batch, buffer, checksum);
+                batch.clear();
+
+                if (journalEntries >= COMPACTION_THRESHOLD || isStopping)
+                    compact();
+            }
+        } catch (IOException e) {
+            Log.error("Unable to write the game statistics, new results are only kept in memory", e);
+        } catch (InterruptedException e) {
+            Log.warn("The game statistics writer was interrupted");
+        } finally {
+            synchronized (this) {
+                isStopped = true;
+                pendingResults.clear();
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Appends a batch of results to the journal and syncs it to disk
+     *
+     * @param batch    Results being written
+     * @param buffer   Buffer large enough for a whole batch
+     * @param checksum Checksum reused between entries
+     * @throws IOException If the journal cannot be written
+     */
+    private void writeBatch(final List<Result> batch, final ByteBuffer buffer, final CRC32 checksum)
+            throws IOException {
+        buffer.clear();
+        for (Result result : batch) {
+            final int start = buffer.position();
+            buffer.putLong(result.sequence)
+                    .put((byte) (result.didPlayerWin ? FLAG_PLAYER_WON : 0))
+                    .put((byte) 0)
+                    .putShort((short) result.gridDimension)
+                    .putInt(result.playerShots)
+                    .putInt(result.systemShots)
+                    .putInt((int) Math.min(result.durationMillis, Integer.MAX_VALUE));
+            checksum.reset();
+            checksum.update(buffer.array(), start, ENTRY_SIZE - Integer.BYTES);
+            buffer.putInt((int) checksum.getValue());
+            durableStatistics = durableStatistics.withGame(result.didPlayerWin, result.playerShots,
+                    result.systemShots, result.durationMillis);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining())
+            journalEnd += journal.write(buffer, journalEnd);
+        journal.force(false);
+        journalEntries += batch.size();
+
+        synchronized (this) {
+            durableSequence = batch.get(batch.size() - 1).sequence;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Replaces the snapshot with the totals of every journaled result and empties the journal. The new snapshot is
+     * written to a temporary file and moved over the old one, so a crash leaves either snapshot intact, and journal
+     * entries already counted by the snapshot are skipped when it is read
+     *
+     * @throws IOException If the snapshot cannot be written
+     */
+    private void compact() throws IOException {
+        if (journalEntries == 0)
+            return;
+
+        final long lastSequence;
+        synchronized (this) {
+            lastSequence = durableSequence;
+        }
+        final ByteBuffer snapshot = ByteBuffer.allocate(SNAPSHOT_SIZE).order(RecordFormat.ORDER);
+        snapshot.putInt(SNAPSHOT_MAGIC).putShort(VERSION).putShort((short) 0)
+                .putLong(lastSequence)
+                .putLong(durableStatistics.getPlayerGamesWon())
+                .putLong(durableStatistics.getSystemGamesWon())
+                .putLong(durableStatistics.getPlayerShots())
+                .putLong(durableStatistics.getSystemShots())
+                .putLong(durableStatistics.getPlayingMillis());
+        final CRC32 checksum = new CRC32();
+        checksum.update(snapshot.array(), 0, SNAPSHOT_SIZE - Integer.BYTES);
+        snapshot.putInt((int) checksum.getValue()).flip();
+
+        final Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (snapshot.hasRemaining())
+                channel.write(snapshot);
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        journal.truncate(JOURNAL_HEADER_SIZE);
+        journal.force(true);
+        journalEnd = JOURNAL_HEADER_SIZE;
+        journalEntries = 0;
+        Log.debug("Compacted the game statistics at sequence %d", lastSequence);
+    }
+
+    /**
+     * Loads the totals from the snapshot, if there is one
+     *
+     * @return Sequence number of the last result counted by the snapshot, 0 if there is no snapshot
+     * @throws IOException If the snapshot cannot be read or is corrupt
+     */
+    private long readSnapshot() throws IOException {
+        durableStatistics = GameStatistics.EMPTY;
+        final Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file))
+            return 0;
+
+        final byte[] bytes = Files.readAllBytes(file);
+        final ByteBuffer snapshot = ByteBuffer.wrap(bytes).order(RecordFormat.ORDER);
+        final CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, Math.max(0, bytes.length - Integer.BYTES));
+        if (bytes.length != SNAPSHOT_SIZE || snapshot.getInt(0) != SNAPSHOT_MAGIC || snapshot.getShort(4) != VERSION
+                || snapshot.getInt(SNAPSHOT_SIZE - Integer.BYTES) != (int) checksum.getValue())
+            throw new IOException(file + " is not a valid statistics snapshot");
+
+        snapshot.position(8);
+        final long lastSequence = snapshot.getLong();
+        durableStatistics = new GameStatistics(snapshot.getLong(), snapshot.getLong(), snapshot.getLong(),
+                snapshot.getLong(), snapshot.getLong());
+        return lastSequence;
+    }
+
+    /**
+     * Adds the results journaled after the snapshot to the totals, discarding a partly written entry at the end
+     *
+     * @param snapshotSequence Sequence number of the last result counted by the snapshot
+     * @return Sequence number of the last valid entry in the journal, 0 if it has none
+     * @throws IOException If the journal cannot be read or is not a statistics journal
+     */
+    private long readJournal(final long snapshotSequence) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE).order(RecordFormat.ORDER);
+        if (journal.size() < JOURNAL_HEADER_SIZE) {
+            header.putInt(JOURNAL_MAGIC).putShort(VERSION).putShort((short) 0).flip();
+            journal.truncate(0);
+            while (header.hasRemaining())
+                journal.write(header, header.position());
+            journal.force(true);
+            journalEnd = JOURNAL_HEADER_SIZE;
+            return 0;
+        }
+
+        while (header.hasRemaining()) {
+            if (journal.read(header, header.position()) < 0)
+                break;
+        }
+        if (header.getInt(0) != JOURNAL_MAGIC || header.getShort(4) != VERSION)
+            throw new IOException(directory.resolve(JOURNAL_FILE) + " is not a statistics journal");
+
+        final ByteBuffer entries = ByteBuffer.allocate(MAX_BATCH_SIZE * ENTRY_SIZE).order(RecordFormat.ORDER);
+        final CRC32 checksum = new CRC32();
+        final long size = journal.size();
+        long lastSequence = 0;
+        long position = JOURNAL_HEADER_SIZE;
+        boolean isCorrupt = false;
+        while (position + ENTRY_SIZE <= size && !isCorrupt) {
+            entries.clear().limit((int) Math.min(entries.capacity(), (size - position) / ENTRY_SIZE * ENTRY_SIZE));
+            while (entries.hasRemaining()) {
+                if (journal.read(entries, position + entries.position()) < 0)
+                    break;
+            }
+            entries.flip();
+            if (entries.remaining() < ENTRY_SIZE)
+                break;
+            while (entries.remaining() >= ENTRY_SIZE) {
+                final int start = entries.position();
+                checksum.reset();
+                checksum.update(entries.array(), start, ENTRY_SIZE - Integer.BYTES);
+                final long sequence = entries.getLong();
+                final boolean didPlayerWin = (entries.get() & FLAG_PLAYER_WON) != 0;
+                entries.get();
+                entries.getShort();
+                final int playerShots = entries.getInt();
+                final int systemShots = entries.getInt();
+                final int durationMillis = entries.getInt();
+                if (entries.getInt() != (int) checksum.getValue() || sequence <= lastSequence) {
+                    isCorrupt = true;
+                    break;
+                }
+
+                lastSequence = sequence;
+                position += ENTRY_SIZE;
+                journalEntries++;
+                if (sequence > snapshotSequence)
+                    durableStatistics = durableStatistics.withGame(didPlayerWin, playerShots, systemShots,
+                            durationMillis);
+            }
+        }
+
+        if (position != size) {
+            Log.warn("Discarding %d bytes at the end of the game statistics journal", size - position);
+            journal.truncate(position);
+            journal.force(true);
+        }
+        journalEnd = position;
+        return lastSequence;
+    }
+
+    /**
+     * Result of a game waiting to be journaled
+     */
+    private static final class Result {
+        /**
+         * Sequence number of the result, increasing by 1 with every game recorded
+         */
+        private final long sequence;
+
+        /**
+         * True if the player won the game
+         */
+        private final boolean didPlayerWin;
+
+        /**
+         * Dimension of one side of the boards
+         */
+        private final int gridDimension;
+
+        /**
+         * Number of shots the player took
+         */
+        private final int playerShots;
+
+        /**
+         * Number of shots the system took
+         */
+        private final int systemShots;
+
+        /**
+         * Length of the game in milliseconds
+         */
+        private final long durationMillis;
+
+        /**
+         * Creates a result
+         *
+         * @param sequence       Sequence number of the result
+         * @param didPlayerWin   True if the player won the game
+         * @param gridDimension  Dimension of one side of the boards
+         * @param playerShots    Number of shots the player took
+         * @param systemShots    Number of shots the system took
+         * @param durationMillis Length of the game in milliseconds
+         */
+        private Result(final long sequence, final boolean didPlayerWin, final int gridDimension,
+                       final int playerShots, final int systemShots, final long durationMillis) {
+            this.sequence = sequence;
+            this.didPlayerWin = didPlayerWin;
+            this.gridDimension = gridDimension;
+            this.playerShots = playerShots;
+            this.systemShots = systemShots;
+            this.durationMillis = durationMillis;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Records complete games into compact binary archives and reads them back through memory-mapped, allocation-free views
+ * for analysis, and keeps the results of every game played in a durable statistics store
+ */
+package Game.Record;
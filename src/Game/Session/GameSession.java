@@ -0,0 +1,321 @@
+package Game.Session;
+
+import Game.AI.GuessStrategy;
+import Game.AI.ProbabilityDensityStrategy;
+import Game.Model.BoardState;
+import Game.Model.DesignState;
+import Game.Model.Enums.GameStatus;
+import Game.Model.Enums.GridSquareStatus;
+import Game.Model.GameState;
+import Game.Record.GameSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A game between a player and the system with its own boards, turn and guessing strategy, played without a window. A
+ * session is not thread-safe, its {@link SessionManager} runs every task of a session one at a time. An idle session
+ * can be evicted to a snapshot of a few hundred bytes, its boards are rebuilt from the snapshot when it is next used.
+ */
+public final class GameSession {
+    /**
+     * Identifier of the session within its manager
+     */
+    private final long id;
+
+    /**
+     * Runs the tasks of the session one at a time
+     */
+    final SerialExecutor executor;
+
+    /**
+     * Time the session was last used, from {@link System#nanoTime()}
+     */
+    volatile long lastUsedNanos;
+
+    /**
+     * Number of games won by the player in this session
+     */
+    private int playerGamesWon;
+
+    /**
+     * Number of games won by the system in this session
+     */
+    private int systemGamesWon;
+
+    /**
+     * Snapshot of the game while the session is evicted, null while it is live
+     */
+    private volatile byte[] evictedState;
+
+    /**
+     * State of the game, null while the session is evicted
+     */
+    private GameState gameState;
+
+    /**
+     * Design selections, null while the session is evicted
+     */
+    private DesignState designState;
+
+    /**
+     * Player's board, null while the session is evicted
+     */
+    private BoardState playerBoardState;
+
+    /**
+     * System's board, null while the session is evicted
+     */
+    private BoardState systemBoardState;
+
+    /**
+     * Strategy the system uses to choose its guesses, null while the session is evicted
+     */
+    private GuessStrategy systemStrategy;
+
+    /**
+     * Creates a session with a new game on boards of a given dimension
+     *
+     * @param id        Identifier of the session
+     * @param executor  Runs the tasks of the session
+     * @param dimension Dimension of one side of the boards
+     */
+    GameSession(final long id, final SerialExecutor executor, final int dimension) {
+        this.id = id;
+        this.executor = executor;
+        createState();
+        newGame(dimension);
+        lastUsedNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the identifier of the session
+     *
+     * @return Identifier of the session
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Starts a new game, placing the system's fleet randomly and waiting for the player to place theirs
+     *
+     * @param dimension Dimension of one side of the boards
+     * @return True if the system's fleet was placed, false if the game cannot be played until it is
+     */
+    public boolean newGame(final int dimension) {
+        gameState.setStatus(GameStatus.DESIGN);
+        systemBoardState.resizeGrid(dimension);
+        playerBoardState.resizeGrid(dimension);
+        return systemBoardState.randomizeShipLocations();
+    }
+
+    /**
+     * Places one of the player's boats while the game is being designed
+     *
+     * @param x            X coordinate of the first square of the boat
+     * @param y            Y coordinate of the first square of the boat
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     * @return True if the boat was placed, false if it does not fit or no boat of its size is left to place
+     */
+    public boolean placeShip(final int x, final int y, final int boatSize, final boolean isHorizontal) {
+        return gameState.getStatus() == GameStatus.DESIGN && playerBoardState.numberOfBoatSizesRemaining(boatSize) > 0
+                && playerBoardState.placeShipOnBoard(y, x, boatSize, isHorizontal);
+    }
+
+    /**
+     * Places the player's whole fleet randomly while the game is being designed
+     *
+     * @return True if the fleet was placed, false otherwise
+     */
+    public boolean randomizePlayerShipLocations() {
+        if (gameState.getStatus() != GameStatus.DESIGN && gameState.getStatus() != GameStatus.RANDOM)
+            return false;
+        final boolean isPlaced = playerBoardState.randomizeShipLocations();
+        gameState.setStatus(isPlaced ? GameStatus.RANDOM : GameStatus.DESIGN);
+        return isPlaced;
+    }
+
+    /**
+     * Starts the game once the player's fleet is complete. If the system goes first it guesses before this returns
+     *
+     * @return True if the game started, false if the player's fleet is not complete or the system's cannot be placed
+     */
+    public boolean playGame() {
+        if (gameState.getStatus() != GameStatus.RANDOM
+                && !(gameState.getStatus() == GameStatus.DESIGN && playerBoardState.isDesignBoatsEmpty()))
+            return false;
+        // A game against a board without boats would be won on the first shot
+        if (systemBoardState.getBoatCount() == 0 && !systemBoardState.randomizeShipLocations())
+            return false;
+        gameState.setStatus(GameStatus.IN_PROGRESS);
+        systemStrategy.reset(playerBoardState.getGridDimension());
+        if (!gameState.isPlayersTurn())
+            systemGuess();
+        return true;
+    }
+
+    /**
+     * Takes the player's guess on the system's board, then lets the system answer with its own guess unless the game
+     * is over
+     *
+     * @param x X coordinate of the guess
+     * @param y Y coordinate of the guess
+     * @return HIT or MISSED, null if the guess was not taken because it is not the player's turn or the square was
+     * already guessed
+     */
+    public GridSquareStatus guess(final int x, final int y) {
+        final int dimension = systemBoardState.getGridDimension();
+        if (gameState.getStatus() != GameStatus.IN_PROGRESS || !gameState.isPlayersTurn()
+                || x < 0 || y < 0 || x >= dimension || y >= dimension
+                || !systemBoardState.getUntriedCells().contains(y * dimension + x))
+            return null;
+
+        final boolean isHit = systemBoardState.validateGuess(x, y);
+        if (!endTurn())
+            systemGuess();
+        return isHit ? GridSquareStatus.HIT : GridSquareStatus.MISSED;
+    }
+
+    /**
+     * Gets the state of the game
+     *
+     * @return State of the game
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Gets the player's board
+     *
+     * @return Player's board
+     */
+    public BoardState getPlayerBoardState() {
+        return playerBoardState;
+    }
+
+    /**
+     * Gets the system's board
+     *
+     * @return System's board
+     */
+    public BoardState getSystemBoardState() {
+        return systemBoardState;
+    }
+
+    /**
+     * Gets the number of games won by the player in this session
+     *
+     * @return Number of games won by the player
+     */
+    public int getPlayerGamesWon() {
+        return playerGamesWon;
+    }
+
+    /**
+     * Gets the number of games won by the system in this session
+     *
+     * @return Number of games won by the system
+     */
+    public int getSystemGamesWon() {
+        return systemGamesWon;
+    }
+
+    /**
+     * Checks if the session is evicted to its snapshot
+     *
+     * @return True if the session is evicted, false if it is live
+     */
+    boolean isEvicted() {
+        return evictedState != null;
+    }
+
+    /**
+     * Replaces the live state of the session with a snapshot of it
+     */
+    void evict() {
+        final ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.size(playerBoardState, systemBoardState));
+        GameSnapshot.write(buffer, gameState, designState, playerBoardState, systemBoardState);
+        evictedState = buffer.array();
+        gameState = null;
+        designState = null;
+        playerBoardState = null;
+        systemBoardState = null;
+        systemStrategy = null;
+    }
+
+    /**
+     * Rebuilds the live state of the session from its snapshot, if it was evicted
+     */
+    void restore() {
+        if (evictedState == null)
+            return;
+        createState();
+        try {
+            GameSnapshot.read(ByteBuffer.wrap(evictedState), gameState, designState, playerBoardState,
+                    systemBoardState);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Evicted session " + id + " could not be restored", e);
+        }
+        if (gameState.getStatus() == GameStatus.IN_PROGRESS)
+            systemStrategy.replay(playerBoardState);
+        evictedState = null;
+    }
+
+    /**
+     * Gets the number of bytes the evicted session's snapshot takes
+     *
+     * @return Size of the snapshot in bytes, 0 if the session is live
+     */
+    int getEvictedSize() {
+        return evictedState == null ? 0 : evictedState.length;
+    }
+
+    /**
+     * Creates empty live state for the session
+     */
+    private void createState() {
+        gameState = new GameState();
+        designState = new DesignState();
+        playerBoardState = new BoardState(true);
+        systemBoardState = new BoardState(false);
+        systemStrategy = new ProbabilityDensityStrategy();
+    }
+
+    /**
+     * System guesses the square chosen by its strategy on the player's board
+     */
+    private void systemGuess() {
+        final int dimension = playerBoardState.getGridDimension();
+        final int square = systemStrategy.nextGuess(playerBoardState);
+        final int x = square % dimension;
+        final int y = square / dimension;
+        final boolean isHit = playerBoardState.validateGuess(x, y);
+        systemStrategy.recordResult(x, y, isHit ? playerBoardState.getShipSize(x, y) : 0,
+                isHit && playerBoardState.getGridBoatHealth(x, y) == 0);
+        endTurn();
+    }
+
+    /**
+     * Ends the game if a fleet was sunk, otherwise gives the turn to the other side
+     *
+     * @return True if the game is over, false otherwise
+     */
+    private boolean endTurn() {
+        if (playerBoardState.getHitPointsRemaining() > 0 && systemBoardState.getHitPointsRemaining() > 0) {
+            gameState.nextTurn();
+            return false;
+        }
+        final boolean didPlayerWin = systemBoardState.getHitPointsRemaining() == 0;
+        if (didPlayerWin)
+            playerGamesWon++;
+        else
+            systemGamesWon++;
+        gameState.setDidPlayerWin(didPlayerWin);
+        gameState.setStatus(GameStatus.GAME_OVER);
+        return true;
+    }
+}
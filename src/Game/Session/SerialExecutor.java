@@ -0,0 +1,90 @@
+package Game.Session;
+
+import Game.Util.Log;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one at a time, in the order they were submitted, on a shared executor. A serial executor only occupies a
+ * thread of the shared executor while it has tasks, and gives the thread back after a batch of tasks so one busy
+ * session cannot starve the others. Many serial executors can share one pool without any lock between them.
+ */
+final class SerialExecutor implements Executor {
+    /**
+     * Most tasks run before the thread is given back to the shared executor
+     */
+    private static final int BATCH_SIZE = 32;
+
+    /**
+     * Executor the tasks are run on
+     */
+    private final Executor sharedExecutor;
+
+    /**
+     * Tasks waiting to run
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * True while a drain of the queue is scheduled or running on the shared executor
+     */
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a serial executor running its tasks on a shared executor
+     *
+     * @param sharedExecutor Executor the tasks are run on
+     */
+    SerialExecutor(final Executor sharedExecutor) {
+        this.sharedExecutor = sharedExecutor;
+    }
+
+    /**
+     * Queues a task to run after every task submitted before it
+     *
+     * @param task Task to run
+     */
+    @Override
+    public void execute(final Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Schedules a drain of the queue unless one is already scheduled
+     */
+    private void schedule() {
+        if (isScheduled.compareAndSet(false, true)) {
+            try {
+                sharedExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                isScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Runs a batch of queued tasks, then schedules another drain if tasks are left
+     */
+    private void drain() {
+        try {
+            Runnable task;
+            for (int i = 0; i < BATCH_SIZE && (task = tasks.poll()) != null; i++) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    Log.error("Session task failed", e);
+                }
+            }
+        } finally {
+            isScheduled.set(false);
+            // A task added after the last poll may have seen the drain as still scheduled
+            if (!tasks.isEmpty())
+                schedule();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package Game.Session;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many independent {@link GameSession}s in one process. Every session has its own boards and turn, and its tasks
+ * run one at a time through its own {@link SerialExecutor} on a shared pool, so sessions never wait on each other and
+ * no lock is held across sessions. Sessions left idle longer than the idle timeout are evicted to a compact snapshot
+ * and rebuilt the next time a task is submitted to them.
+ */
+public class SessionManager implements Closeable {
+    /**
+     * Shortest time between two sweeps for idle sessions, in milliseconds
+     */
+    private static final long MIN_SWEEP_MILLIS = 10;
+
+    /**
+     * Live and evicted sessions by identifier
+     */
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Identifier given to the next session
+     */
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+
+    /**
+     * Number of sessions currently evicted
+     */
+    private final AtomicInteger evictedCount = new AtomicInteger();
+
+    /**
+     * Pool the tasks of every session run on
+     */
+    private final Executor sharedExecutor;
+
+    /**
+     * Pool created by the manager, shut down when the manager is closed, null if the pool was given
+     */
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Thread sweeping for idle sessions
+     */
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Time a session can stay idle before it is evicted, in nanoseconds
+     */
+    private final long idleNanos;
+
+    /**
+     * Creates a manager running sessions on a pool with a thread per core
+     *
+     * @param idleMillis Time a session can stay idle before it is evicted, in milliseconds
+     */
+    public SessionManager(final long idleMillis) {
+        this(new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true), idleMillis, true);
+    }
+
+    /**
+     * Creates a manager running sessions on a given executor, which is not shut down by the manager
+     *
+     * @param sharedExecutor Executor the tasks of every session run on
+     * @param idleMillis     Time a session can stay idle before it is evicted, in milliseconds
+     */
+    public SessionManager(final Executor sharedExecutor, final long idleMillis) {
+        this(sharedExecutor, idleMillis, false);
+    }
+
+    /**
+     * Creates a manager and starts sweeping for idle sessions
+     *
+     * @param sharedExecutor Executor the tasks of every session run on
+     * @param idleMillis     Time a session can stay idle before it is evicted, in milliseconds
+     * @param isOwned        True if the executor is shut down when the manager is closed
+     */
+    private SessionManager(final Executor sharedExecutor, final long idleMillis, final boolean isOwned) {
+        this.sharedExecutor = sharedExecutor;
+        this.ownedExecutor = isOwned ? (ExecutorService) sharedExecutor : null;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            final Thread thread = new Thread(task, "battleship-session-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        evictor = scheduler;
+        final long sweepMillis = Math.max(MIN_SWEEP_MILLIS, idleMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleSessions, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a session with a new game waiting for the player to place their fleet
+     *
+     * @param dimension Dimension of one side of the boards
+     * @return Identifier of the session
+     */
+    public long createSession(final int dimension) {
+        final long id = nextSessionId.getAndIncrement();
+        sessions.put(id, new GameSession(id, new SerialExecutor(sharedExecutor), dimension));
+        return id;
+    }
+
+    /**
+     * Runs a task on a session after every task submitted to it before. The session is rebuilt first if it was evicted
+     *
+     * @param sessionId Identifier of the session
+     * @param task      Task given the session, it must not keep the session or its boards once it returns
+     * @param <T>       Type of the task's result
+     * @return Future completed with the task's result, or exceptionally if the session does not exist or the task
+     * failed
+     */
+    public <T> CompletableFuture<T> submit(final long sessionId, final Function<GameSession, T> task) {
+        final GameSession session = sessions.get(sessionId);
+        if (session == null)
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown session " + sessionId));
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        session.executor.execute(() -> {
+            try {
+                if (sessions.get(sessionId) != session)
+                    throw new IllegalStateException("Session " + sessionId + " was closed");
+                if (session.isEvicted()) {
+                    session.restore();
+                    evictedCount.decrementAndGet();
+                }
+                session.lastUsedNanos = System.nanoTime();
+                result.complete(task.apply(session));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Removes a session. Tasks submitted to it that have not run yet complete exceptionally
+     *
+     * @param sessionId Identifier of the session
+     * @return True if the session was removed, false if it did not exist
+     */
+    public boolean closeSession(final long sessionId) {
+        final GameSession session = sessions.remove(sessionId);
+        if (session == null)
+            return false;
+        session.executor.execute(() -> {
+            if (session.isEvicted())
+                evictedCount.decrementAndGet();
+        });
+        return true;
+    }
+
+    /**
+     * Evicts every session that has been idle longer than the idle timeout. Sessions are evicted through their own
+     * executor, so a session is never evicted while one of its tasks runs. Called periodically by the manager
+     *
+     * @return Number of sessions queued for eviction
+     */
+    public int evictIdleSessions() {
+        final long now = System.nanoTime();
+        int queued = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.isEvicted() || now - session.lastUsedNanos < idleNanos)
+                continue;
+            queued++;
+            session.executor.execute(() -> {
+                // The session may have been used or evicted since it was queued
+                if (!session.isEvicted() && System.nanoTime() - session.lastUsedNanos >= idleNanos
+                        && sessions.containsKey(session.getId())) {
+                    session.evict();
+                    evictedCount.incrementAndGet();
+                }
+            });
+        }
+        return queued;
+    }
+
+    /**
+     * Gets the number of sessions hosted, live or evicted
+     *
+     * @return Number of sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the number of sessions currently evicted to their snapshots
+     *
+     * @return Number of evicted sessions
+     */
+    public int getEvictedSessionCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * Stops sweeping for idle sessions and shuts down the pool if the manager created it. Queued tasks still run
+     */
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        if (ownedExecutor != null)
+            ownedExecutor.shutdown();
+    }
+}
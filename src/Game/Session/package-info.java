@@ -0,0 +1,5 @@
+/**
+ * Hosts many independent games against the system in one process, running the work of each game one task at a time on
+ * a shared pool and evicting idle games to compact snapshots
+ */
+package Game.Session;
@@ -0,0 +1,222 @@
+package Game.Simulation;
+
+import Game.AI.GuessStrategy;
+import Game.Model.BoardState;
+import Game.Model.Enums.GameStatus;
+import Game.Model.GameState;
+import Game.Record.GameRecorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Plays complete games of Battleship between two strategies using only the game's model. The first strategy owns the
+ * player's board and the second strategy owns the system's board. A runner reuses its boards between games and is
+ * not thread-safe, so each thread should have its own. Games can also be recorded, with the first strategy as the
+ * recording's first side.
+ */
+public class GameRunner {
+    /**
+     * Dimension of one side of both boards
+     */
+    private final int gridDimension;
+
+    /**
+     * Board belonging to the first strategy
+     */
+    private final BoardState firstBoard;
+
+    /**
+     * Board belonging to the second strategy
+     */
+    private final BoardState secondBoard;
+
+    /**
+     * Strategy guessing on the second strategy's board
+     */
+    private final GuessStrategy firstStrategy;
+
+    /**
+     * Strategy guessing on the first strategy's board
+     */
+    private final GuessStrategy secondStrategy;
+
+    /**
+     * Records every game played, null if games are not recorded
+     */
+    private final GameRecorder recorder;
+
+    /**
+     * True if each side fires one shot per boat it has afloat every turn, false if it fires a single shot
+     */
+    private boolean isSalvo;
+
+    /**
+     * Squares of the volley being fired in salvo mode
+     */
+    private int[] volleySquares = new int[0];
+
+    /**
+     * Result of each shot of the volley being fired
+     */
+    private byte[] volleyResults = new byte[0];
+
+    /**
+     * Creates a runner that plays games between two strategies
+     *
+     * @param gridDimension  Dimension of one side of both boards
+     * @param firstStrategy  Strategy playing as the player
+     * @param secondStrategy Strategy playing as the system
+     */
+    public GameRunner(final int gridDimension, final GuessStrategy firstStrategy, final GuessStrategy secondStrategy) {
+        this(gridDimension, firstStrategy, secondStrategy, null);
+    }
+
+    /**
+     * Creates a runner that plays games between two strategies and records them
+     *
+     * @param gridDimension  Dimension of one side of both boards
+     * @param firstStrategy  Strategy playing as the player
+     * @param secondStrategy Strategy playing as the system
+     * @param recorder       Records every game played, null to not record games
+     */
+    public GameRunner(final int gridDimension, final GuessStrategy firstStrategy, final GuessStrategy secondStrategy,
+                      final GameRecorder recorder) {
+        this.gridDimension = gridDimension;
+        this.firstStrategy = firstStrategy;
+        this.secondStrategy = secondStrategy;
+        this.recorder = recorder;
+
+        firstBoard = new BoardState(true);
+        firstBoard.resizeGrid(gridDimension);
+        secondBoard = new BoardState(false);
+        secondBoard.resizeGrid(gridDimension);
+    }
+
+    /**
+     * Switches the games played from now on between salvo mode and a single shot per turn
+     *
+     * @param isSalvo True if each side fires one shot per boat it has afloat every turn, false otherwise
+     */
+    public void setSalvo(final boolean isSalvo) {
+        this.isSalvo = isSalvo;
+    }
+
+    /**
+     * Plays one game with freshly randomized boats and records its outcome. The game is skipped if either fleet cannot
+     * be placed, since a board without boats would be won on the first shot
+     *
+     * @param result Result the outcome of the game is recorded in
+     * @return True if the game was played, false if it was skipped
+     * @throws UncheckedIOException If the game is being recorded and the recording cannot be written
+     */
+    public boolean playGame(final SimulationResult result) {
+        final GameState gameState = new GameState();
+        if (!firstBoard.randomizeShipLocations() || !secondBoard.randomizeShipLocations())
+            return false;
+        firstStrategy.reset(gridDimension);
+        secondStrategy.reset(gridDimension);
+        gameState.setStatus(GameStatus.IN_PROGRESS);
+        if (recorder != null)
+            recorder.beginGame(firstBoard, secondBoard, gameState.isPlayersTurn());
+
+        int firstShots = 0;
+        int secondShots = 0;
+        while (gameState.getStatus() == GameStatus.IN_PROGRESS) {
+            final boolean isFirstsTurn = gameState.isPlayersTurn();
+            final GuessStrategy strategy = isFirstsTurn ? firstStrategy : secondStrategy;
+            final BoardState targetBoard = isFirstsTurn ? secondBoard : firstBoard;
+
+            final int shots;
+            if (isSalvo) {
+                final BoardState ownBoard = isFirstsTurn ? firstBoard : secondBoard;
+                shots = fireVolley(isFirstsTurn, strategy, targetBoard, ownBoard.getShipsAfloat());
+            } else {
+                shots = fireShot(isFirstsTurn, strategy, targetBoard);
+            }
+
+            if (isFirstsTurn)
+                firstShots += shots;
+            else
+                secondShots += shots;
+
+            if (targetBoard.getHitPointsRemaining() == 0) {
+                gameState.incrementWin(isFirstsTurn);
+                gameState.setDidPlayerWin(isFirstsTurn);
+                gameState.setStatus(GameStatus.GAME_OVER);
+                result.recordGame(isFirstsTurn, isFirstsTurn ? firstShots : secondShots);
+                if (recorder != null)
+                    endRecording(isFirstsTurn);
+            } else {
+                gameState.nextTurn();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fires a single shot chosen by a strategy
+     *
+     * @param isFirstsTurn True if the first strategy is shooting
+     * @param strategy     Strategy choosing the shot
+     * @param targetBoard  Board being shot at
+     * @return Number of shots fired, always 1
+     */
+    private int fireShot(final boolean isFirstsTurn, final GuessStrategy strategy, final BoardState targetBoard) {
+        final int square = strategy.nextGuess(targetBoard);
+        final int x = square % gridDimension;
+        final int y = square / gridDimension;
+        final boolean isHit = targetBoard.validateGuess(x, y);
+        final boolean isSunk = isHit && targetBoard.getGridBoatHealth(x, y) == 0;
+        if (isHit)
+            strategy.recordResult(x, y, targetBoard.getShipSize(x, y), isSunk);
+        else
+            strategy.recordResult(x, y, 0, false);
+        if (recorder != null)
+            recorder.recordShot(isFirstsTurn, square, isHit, isSunk);
+        return 1;
+    }
+
+    /**
+     * Fires a volley chosen by a strategy and resolves it in one pass
+     *
+     * @param isFirstsTurn True if the first strategy is shooting
+     * @param strategy     Strategy choosing the shots
+     * @param targetBoard  Board being shot at
+     * @param volleySize   Number of shots wanted, one per boat the shooter has afloat
+     * @return Number of shots fired
+     */
+    private int fireVolley(final boolean isFirstsTurn, final GuessStrategy strategy, final BoardState targetBoard,
+                           final int volleySize) {
+        if (volleySquares.length < volleySize) {
+            volleySquares = new int[volleySize];
+            volleyResults = new byte[volleySize];
+        }
+        final int count = strategy.nextGuesses(targetBoard, volleySquares, volleySize);
+        targetBoard.validateGuesses(volleySquares, count, volleyResults);
+        for (int i = 0; i < count; i++) {
+            final int square = volleySquares[i];
+            final int x = square % gridDimension;
+            final int y = square / gridDimension;
+            final boolean isHit = (volleyResults[i] & BoardState.SHOT_HIT) != 0;
+            final boolean isSunk = (volleyResults[i] & BoardState.SHOT_SUNK) != 0;
+            strategy.recordResult(x, y, isHit ? targetBoard.getShipSize(x, y) : 0, isSunk);
+            if (recorder != null)
+                recorder.recordShot(isFirstsTurn, square, isHit, isSunk);
+        }
+        return count;
+    }
+
+    /**
+     * Completes the recording of the game that just ended
+     *
+     * @param didFirstWin True if the first strategy won
+     */
+    private void endRecording(final boolean didFirstWin) {
+        try {
+            recorder.endGame(didFirstWin);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
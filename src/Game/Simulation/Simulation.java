@@ -0,0 +1,81 @@
+package Game.Simulation;
+
+import Game.AI.GuessStrategy;
+import Game.AI.ProbabilityDensityStrategy;
+import Game.AI.RandomGuessStrategy;
+import Game.Record.GameArchive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+import static Game.Util.Constants.DEFAULT_GRID_DIMENSION;
+
+/**
+ * Runs a headless simulation of many games between two strategies and prints a summary of the results. Games are
+ * played in salvo mode when the battleship.salvo system property is true
+ */
+public class Simulation {
+    /**
+     * Number of games played when none is given
+     */
+    private static final long DEFAULT_NUMBER_OF_GAMES = 100_000;
+
+    /**
+     * Entry point for the simulation
+     *
+     * @param args Optional arguments: number of games, grid dimension, first strategy, second strategy and a file the
+     *             games are recorded in
+     * @throws IOException If the games cannot be recorded
+     */
+    public static void main(String[] args) throws IOException {
+        final long numberOfGames = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_NUMBER_OF_GAMES;
+        final int gridDimension = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GRID_DIMENSION;
+        final String firstStrategyName = args.length > 2 ? args[2] : "random";
+        final String secondStrategyName = args.length > 3 ? args[3] : "random";
+        final Path archiveFile = args.length > 4 ? Paths.get(args[4]) : null;
+
+        final SimulationEngine engine = new SimulationEngine(gridDimension, strategyFactory(firstStrategyName),
+                strategyFactory(secondStrategyName));
+        final GameArchive archive = archiveFile == null ? null : new GameArchive(archiveFile);
+        engine.setArchive(archive);
+        engine.setSalvo(Boolean.getBoolean("battleship.salvo"));
+        final SimulationResult result;
+        try {
+            result = engine.run(numberOfGames);
+        } finally {
+            engine.shutdown();
+            if (archive != null)
+                archive.close();
+        }
+
+        System.out.printf("Games played:        %d (%dx%d)%n", result.getGamesPlayed(), gridDimension, gridDimension);
+        if (Boolean.getBoolean("battleship.salvo"))
+            System.out.printf("Mode:                salvo%n");
+        System.out.printf("Elapsed:             %.3f s%n", result.getElapsedNanos() / 1_000_000_000D);
+        System.out.printf("Games/sec:           %.1f%n", result.getGamesPerSecond());
+        System.out.printf("Mean shots to win:   %.2f%n", result.getMeanShotsToWin());
+        System.out.printf("%-20s %.2f%% win rate%n", firstStrategyName + ":", result.getFirstStrategyWinRate() * 100);
+        System.out.printf("%-20s %.2f%% win rate%n", secondStrategyName + ":", result.getSecondStrategyWinRate() * 100);
+        if (archiveFile != null)
+            System.out.printf("Recorded to:         %s%n", archiveFile);
+    }
+
+    /**
+     * Looks up the factory for a strategy by name
+     *
+     * @param name Name of the strategy
+     * @return Factory creating new instances of the strategy
+     */
+    private static Supplier<GuessStrategy> strategyFactory(final String name) {
+        switch (name) {
+            case "random":
+                return RandomGuessStrategy::new;
+            case "density":
+                return ProbabilityDensityStrategy::new;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package Game.Simulation;
+
+import Game.AI.GuessStrategy;
+import Game.Record.GameArchive;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Spreads a large number of simulated games across a fork/join pool. Every leaf task plays its share of games on its
+ * own {@link GameRunner}, so games never share any state and the partial results are merged at the end. When games
+ * are recorded, every leaf task records into the archive through its own recorder.
+ */
+public class SimulationEngine {
+    /**
+     * Number of leaf tasks created per worker thread, higher values balance uneven game lengths better
+     */
+    private static final int TASKS_PER_THREAD = 16;
+
+    /**
+     * Pool the games are played on
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Dimension of one side of the boards
+     */
+    private final int gridDimension;
+
+    /**
+     * Creates the strategy playing as the player for each runner
+     */
+    private final Supplier<GuessStrategy> firstStrategyFactory;
+
+    /**
+     * Creates the strategy playing as the system for each runner
+     */
+    private final Supplier<GuessStrategy> secondStrategyFactory;
+
+    /**
+     * Archive the games are recorded in, null if games are not recorded
+     */
+    private GameArchive archive;
+
+    /**
+     * True if the games are played in salvo mode, false if each side fires a single shot per turn
+     */
+    private boolean isSalvo;
+
+    /**
+     * Creates an engine that plays games on every available core
+     *
+     * @param gridDimension         Dimension of one side of the boards
+     * @param firstStrategyFactory  Creates the strategy playing as the player
+     * @param secondStrategyFactory Creates the strategy playing as the system
+     */
+    public SimulationEngine(final int gridDimension, final Supplier<GuessStrategy> firstStrategyFactory,
+                            final Supplier<GuessStrategy> secondStrategyFactory) {
+        this(gridDimension, firstStrategyFactory, secondStrategyFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine that plays games on a given number of threads
+     *
+     * @param gridDimension         Dimension of one side of the boards
+     * @param firstStrategyFactory  Creates the strategy playing as the player
+     * @param secondStrategyFactory Creates the strategy playing as the system
+     * @param parallelism           Number of threads games are played on
+     */
+    public SimulationEngine(final int gridDimension, final Supplier<GuessStrategy> firstStrategyFactory,
+                            final Supplier<GuessStrategy> secondStrategyFactory, final int parallelism) {
+        this.gridDimension = gridDimension;
+        this.firstStrategyFactory = firstStrategyFactory;
+        this.secondStrategyFactory = secondStrategyFactory;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Records every game played from now on in an archive. The archive is not closed by the engine
+     *
+     * @param archive Archive the games are recorded in, null to stop recording games
+     */
+    public void setArchive(final GameArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Plays every game run from now on in salvo mode, where each side fires one shot per boat it has afloat every turn
+     *
+     * @param isSalvo True to play in salvo mode, false to fire a single shot per turn
+     */
+    public void setSalvo(final boolean isSalvo) {
+        this.isSalvo = isSalvo;
+    }
+
+    /**
+     * Plays a number of games and waits for all of them to finish
+     *
+     * @param numberOfGames Number of games to be played
+     * @return Combined result of every game played
+     */
+    public SimulationResult run(final long numberOfGames) {
+        final long threshold = Math.max(1, numberOfGames / ((long) pool.getParallelism() * TASKS_PER_THREAD));
+        final long start = System.nanoTime();
+        final SimulationResult result = pool.invoke(new GamesTask(numberOfGames, threshold));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Stops the engine's worker threads once any running games have finished
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until it is small enough to be played on one thread
+     */
+    private class GamesTask extends RecursiveTask<SimulationResult> {
+        /**
+         * Serializable UUID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Number of games this task is responsible for
+         */
+        private final long numberOfGames;
+
+        /**
+         * Largest number of games that is played without splitting the task
+         */
+        private final long threshold;
+
+        /**
+         * Creates a task for a number of games
+         *
+         * @param numberOfGames Number of games this task is responsible for
+         * @param threshold     Largest number of games that is played without splitting the task
+         */
+        private GamesTask(final long numberOfGames, final long threshold) {
+            this.numberOfGames = numberOfGames;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Plays the games directly or splits them between two subtasks
+         *
+         * @return Result of the games played by this task
+         */
+        @Override
+        protected SimulationResult compute() {
+            if (numberOfGames <= threshold) {
+                final GameRunner runner = new GameRunner(gridDimension, firstStrategyFactory.get(),
+                        secondStrategyFactory.get(), archive == null ? null : archive.newRecorder());
+                runner.setSalvo(isSalvo);
+                final SimulationResult result = new SimulationResult();
+                for (long game = 0; game < numberOfGames; game++) {
+                    // Games whose fleets cannot be placed are skipped and left out of the result
+                    runner.playGame(result);
+                }
+                return result;
+            }
+
+            final long half = numberOfGames / 2;
+            final GamesTask left = new GamesTask(half, threshold);
+            final GamesTask right = new GamesTask(numberOfGames - half, threshold);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+}
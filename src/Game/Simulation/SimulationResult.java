@@ -0,0 +1,141 @@
+package Game.Simulation;
+
+/**
+ * Accumulates the outcome of simulated games between a first and a second strategy
+ */
+public class SimulationResult {
+    /**
+     * Number of games played
+     */
+    private long gamesPlayed;
+
+    /**
+     * Number of games won by the first strategy
+     */
+    private long firstStrategyWins;
+
+    /**
+     * Number of games won by the second strategy
+     */
+    private long secondStrategyWins;
+
+    /**
+     * Sum of the number of shots fired by the winner of each game
+     */
+    private long totalShotsToWin;
+
+    /**
+     * Wall clock time taken to play the games, in nanoseconds
+     */
+    private long elapsedNanos;
+
+    /**
+     * Records the outcome of one game
+     *
+     * @param didFirstStrategyWin True if the first strategy won, false if the second strategy won
+     * @param shotsToWin          Number of shots fired by the winner
+     */
+    public void recordGame(final boolean didFirstStrategyWin, final int shotsToWin) {
+        gamesPlayed++;
+        if (didFirstStrategyWin)
+            firstStrategyWins++;
+        else
+            secondStrategyWins++;
+        totalShotsToWin += shotsToWin;
+    }
+
+    /**
+     * Adds the games recorded in another result to this one
+     *
+     * @param other Result being merged into this one
+     * @return This result
+     */
+    public SimulationResult merge(final SimulationResult other) {
+        gamesPlayed += other.gamesPlayed;
+        firstStrategyWins += other.firstStrategyWins;
+        secondStrategyWins += other.secondStrategyWins;
+        totalShotsToWin += other.totalShotsToWin;
+        return this;
+    }
+
+    /**
+     * Gets the number of games played
+     *
+     * @return Number of games played
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the number of games won by the first strategy
+     *
+     * @return Number of games won by the first strategy
+     */
+    public long getFirstStrategyWins() {
+        return firstStrategyWins;
+    }
+
+    /**
+     * Gets the number of games won by the second strategy
+     *
+     * @return Number of games won by the second strategy
+     */
+    public long getSecondStrategyWins() {
+        return secondStrategyWins;
+    }
+
+    /**
+     * Gets the fraction of games won by the first strategy
+     *
+     * @return Win rate of the first strategy between 0 and 1
+     */
+    public double getFirstStrategyWinRate() {
+        return gamesPlayed == 0 ? 0 : firstStrategyWins / (double) gamesPlayed;
+    }
+
+    /**
+     * Gets the fraction of games won by the second strategy
+     *
+     * @return Win rate of the second strategy between 0 and 1
+     */
+    public double getSecondStrategyWinRate() {
+        return gamesPlayed == 0 ? 0 : secondStrategyWins / (double) gamesPlayed;
+    }
+
+    /**
+     * Gets the average number of shots the winner needed to sink every boat
+     *
+     * @return Mean shots to win
+     */
+    public double getMeanShotsToWin() {
+        return gamesPlayed == 0 ? 0 : totalShotsToWin / (double) gamesPlayed;
+    }
+
+    /**
+     * Gets the number of games played per second of wall clock time
+     *
+     * @return Games played per second
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : gamesPlayed / (elapsedNanos / 1_000_000_000D);
+    }
+
+    /**
+     * Gets the wall clock time taken to play the games
+     *
+     * @return Elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Sets the wall clock time taken to play the games
+     *
+     * @param elapsedNanos Elapsed time in nanoseconds
+     */
+    public void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Plays complete games between two guessing strategies without the UI and reports statistics about the results
+ */
+package Game.Simulation;
@@ -11,5 +11,37 @@ public interface Constants {
      */
     int DEFAULT_GRID_DIMENSION = 10;
 
+    /**
+     * Smallest grid dimension the game starts with, smaller boards have no room for a fleet
+     */
+    int MIN_GRID_DIMENSION = 2;
+
+    /**
+     * Largest grid dimension the game starts with from the command line
+     */
+    int MAX_GRID_DIMENSION = 1000;
+
+    /**
+     * Size of the largest boat in a fleet. Fleets grow with the cube of the grid's dimension, so past 20x20 the number
+     * of boats stops growing to keep them placeable on the board
+     */
+    int MAX_BOAT_SIZE = 10;
+
+    /**
+     * Largest grid dimension displayed with a button per square, larger boards are painted by a single component
+     */
+    int MAX_BUTTON_GRID_DIMENSION = 20;
+
+    /**
+     * Default number of entries kept in the game history, can be overridden with the battleship.history.entries
+     * system property
+     */
+    int MAX_HISTORY_ENTRIES = 1000;
+
+    /**
+     * Locale the game starts in
+     */
+    Locale DEFAULT_LOCALE = new Locale("en", "CA");
+
     Locale[] supportedLocales = {new Locale("en", "CA"), new Locale("fr", "CA")};
 }
@@ -0,0 +1,236 @@
+package Game.Util;
+
+/**
+ * Leveled logging for the game. Messages are printf-style patterns whose arguments are only formatted once the message
+ * is written, on a background thread, so a disabled level costs a single comparison and an enabled one costs claiming a
+ * slot in a ring buffer. If the buffer is full the message is dropped rather than blocking the caller.
+ * <p>
+ * The level is read from the {@value #LEVEL_PROPERTY} system property and defaults to INFO
+ */
+public final class Log {
+    /**
+     * System property that sets the lowest level written
+     */
+    public static final String LEVEL_PROPERTY = "battleship.log.level";
+
+    /**
+     * Ordinal of the lowest level that is written
+     */
+    private static volatile int threshold = parseLevel(System.getProperty(LEVEL_PROPERTY)).ordinal();
+
+    /**
+     * Prevents instantiation
+     */
+    private Log() {
+    }
+
+    /**
+     * Gets the lowest level that is written
+     *
+     * @return Configured level
+     */
+    public static LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    /**
+     * Changes the lowest level that is written
+     *
+     * @param level New level, OFF to disable logging
+     */
+    public static void setLevel(final LogLevel level) {
+        threshold = level.ordinal();
+    }
+
+    /**
+     * Checks if messages of a level are written
+     *
+     * @param level Level of the message
+     * @return True if the message would be written, false otherwise
+     */
+    public static boolean isEnabled(final LogLevel level) {
+        return level.ordinal() >= threshold && level != LogLevel.OFF;
+    }
+
+    /**
+     * Checks if debug messages are written, used to skip computing arguments that are expensive to produce
+     *
+     * @return True if debug messages are written, false otherwise
+     */
+    public static boolean isDebugEnabled() {
+        return LogLevel.DEBUG.ordinal() >= threshold;
+    }
+
+    /**
+     * Logs a debug message
+     *
+     * @param message Message, written as is
+     */
+    public static void debug(final String message) {
+        if (LogLevel.DEBUG.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.DEBUG, message, null, 0, null, null, null, null);
+    }
+
+    /**
+     * Logs a debug message with one argument
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     */
+    public static void debug(final String pattern, final Object arg0) {
+        if (LogLevel.DEBUG.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.DEBUG, pattern, null, 1, arg0, null, null, null);
+    }
+
+    /**
+     * Logs a debug message with two arguments
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     * @param arg1    Second argument of the pattern
+     */
+    public static void debug(final String pattern, final Object arg0, final Object arg1) {
+        if (LogLevel.DEBUG.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.DEBUG, pattern, null, 2, arg0, arg1, null, null);
+    }
+
+    /**
+     * Logs a debug message with three arguments
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     * @param arg1    Second argument of the pattern
+     * @param arg2    Third argument of the pattern
+     */
+    public static void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (LogLevel.DEBUG.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.DEBUG, pattern, null, 3, arg0, arg1, arg2, null);
+    }
+
+    /**
+     * Logs a debug message with four arguments
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     * @param arg1    Second argument of the pattern
+     * @param arg2    Third argument of the pattern
+     * @param arg3    Fourth argument of the pattern
+     */
+    public static void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2,
+                             final Object arg3) {
+        if (LogLevel.DEBUG.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.DEBUG, pattern, null, 4, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Logs a debug message with any number of arguments. Allocates the argument array even when debug messages are not
+     * written, so callers on hot paths should check {@link #isDebugEnabled()} first
+     *
+     * @param pattern Message pattern
+     * @param args    Arguments of the pattern
+     */
+    public static void debug(final String pattern, final Object... args) {
+        if (LogLevel.DEBUG.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.DEBUG, pattern, args);
+    }
+
+    /**
+     * Logs an informational message
+     *
+     * @param message Message, written as is
+     */
+    public static void info(final String message) {
+        if (LogLevel.INFO.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.INFO, message, null, 0, null, null, null, null);
+    }
+
+    /**
+     * Logs an informational message with one argument
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     */
+    public static void info(final String pattern, final Object arg0) {
+        if (LogLevel.INFO.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.INFO, pattern, null, 1, arg0, null, null, null);
+    }
+
+    /**
+     * Logs an informational message with two arguments
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     * @param arg1    Second argument of the pattern
+     */
+    public static void info(final String pattern, final Object arg0, final Object arg1) {
+        if (LogLevel.INFO.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.INFO, pattern, null, 2, arg0, arg1, null, null);
+    }
+
+    /**
+     * Logs a warning
+     *
+     * @param message Message, written as is
+     */
+    public static void warn(final String message) {
+        if (LogLevel.WARN.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.WARN, message, null, 0, null, null, null, null);
+    }
+
+    /**
+     * Logs a warning with one argument
+     *
+     * @param pattern Message pattern
+     * @param arg0    First argument of the pattern
+     */
+    public static void warn(final String pattern, final Object arg0) {
+        if (LogLevel.WARN.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.WARN, pattern, null, 1, arg0, null, null, null);
+    }
+
+    /**
+     * Logs an error
+     *
+     * @param message Message, written as is
+     * @param error   Cause of the error, its stack trace is written after the message
+     */
+    public static void error(final String message, final Throwable error) {
+        if (LogLevel.ERROR.ordinal() >= threshold)
+            LogWriter.INSTANCE.publish(LogLevel.ERROR, message, error, 0, null, null, null, null);
+    }
+
+    /**
+     * Waits until every message logged so far has been written
+     *
+     * @param timeoutMillis Longest time to wait in milliseconds
+     * @return True if every message was written, false if the wait timed out
+     */
+    public static boolean flush(final long timeoutMillis) {
+        return LogWriter.INSTANCE.flush(timeoutMillis);
+    }
+
+    /**
+     * Gets the number of messages dropped because the buffer was full
+     *
+     * @return Number of dropped messages
+     */
+    public static long getDroppedCount() {
+        return LogWriter.INSTANCE.getDroppedCount();
+    }
+
+    /**
+     * Parses the configured level, falling back to INFO if it is missing or invalid
+     *
+     * @param value Name of the level
+     * @return Level that was configured
+     */
+    private static LogLevel parseLevel(final String value) {
+        if (value != null) {
+            for (LogLevel level : LogLevel.values()) {
+                if (level.name().equalsIgnoreCase(value.trim()))
+                    return level;
+            }
+        }
+        return LogLevel.INFO;
+    }
+}
@@ -0,0 +1,31 @@
+package Game.Util;
+
+/**
+ * Severity of a log message, in increasing order. A message is written if its level is at or above the configured level
+ */
+public enum LogLevel {
+    /**
+     * Detailed information used while debugging the game
+     */
+    DEBUG,
+
+    /**
+     * Notable events in the running of the game
+     */
+    INFO,
+
+    /**
+     * Something unexpected that the game recovered from
+     */
+    WARN,
+
+    /**
+     * Something that failed
+     */
+    ERROR,
+
+    /**
+     * Disables logging entirely, only valid as the configured level
+     */
+    OFF
+}
@@ -0,0 +1,340 @@
+package Game.Util;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring buffer of log messages written to the console by a single daemon thread. Any number of threads publish
+ * into preallocated slots by claiming a sequence number, so publishing never locks, never allocates and never waits;
+ * if the writer has fallen a whole buffer behind, the message is dropped and counted instead
+ */
+final class LogWriter implements Runnable {
+    /**
+     * Writer used by the game's log
+     */
+    static final LogWriter INSTANCE = new LogWriter(8192, System.out);
+
+    /**
+     * Longest time in nanoseconds the writer sleeps before checking for messages again
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Most message patterns kept parsed, the cache is cleared once it grows past this size
+     */
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+
+    /**
+     * Preallocated message slots, indexed by sequence number modulo the capacity
+     */
+    private final Slot[] slots;
+
+    /**
+     * Sequence number each slot was last published with, -1 before its first use
+     */
+    private final AtomicLongArray publishedSequences;
+
+    /**
+     * Capacity - 1, the capacity being a power of two
+     */
+    private final int mask;
+
+    /**
+     * Next sequence number to be claimed by a publisher
+     */
+    private final AtomicLong claimSequence = new AtomicLong();
+
+    /**
+     * Next sequence number to be written by the writer thread
+     */
+    private volatile long writtenSequence;
+
+    /**
+     * Number of messages dropped because the buffer was full
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * True while the writer thread is parked waiting for messages
+     */
+    private volatile boolean isIdle;
+
+    /**
+     * Stream messages are written to
+     */
+    private final PrintStream out;
+
+    /**
+     * Thread writing the messages
+     */
+    private final Thread writerThread;
+
+    /**
+     * Parsed message patterns, only used by the writer thread
+     */
+    private final Map<String, MessageTemplate> templates = new HashMap<>();
+
+    /**
+     * Text of the messages being written, only used by the writer thread
+     */
+    private final StringBuilder text = new StringBuilder(1024);
+
+    /**
+     * Creates a writer and starts its thread
+     *
+     * @param capacity Number of messages the buffer holds, rounded up to a power of two
+     * @param out      Stream messages are written to
+     */
+    private LogWriter(final int capacity, final PrintStream out) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        slots = new Slot[size];
+        publishedSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            publishedSequences.set(i, -1);
+        }
+        mask = size - 1;
+        this.out = out;
+
+        writerThread = new Thread(this, "battleship-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(1000), "battleship-log-flush"));
+    }
+
+    /**
+     * Publishes a message to be written, or drops it if the buffer is full
+     *
+     * @param level    Level of the message
+     * @param pattern  Message pattern, written as is if there are no arguments
+     * @param error    Throwable whose stack trace is written after the message, may be null
+     * @param argCount Number of arguments
+     * @param arg0     First argument of the pattern
+     * @param arg1     Second argument of the pattern
+     * @param arg2     Third argument of the pattern
+     * @param arg3     Fourth argument of the pattern
+     */
+    void publish(final LogLevel level, final String pattern, final Throwable error, final int argCount,
+                 final Object arg0, final Object arg1, final Object arg2, final Object arg3) {
+        final long sequence = claim();
+        if (sequence < 0)
+            return;
+
+        final int index = (int) sequence & mask;
+        final Slot slot = slots[index];
+        slot.level = level;
+        slot.pattern = pattern;
+        slot.error = error;
+        slot.args = slot.argsByCount[argCount];
+        if (argCount > 3)
+            slot.args[3] = arg3;
+        if (argCount > 2)
+            slot.args[2] = arg2;
+        if (argCount > 1)
+            slot.args[1] = arg1;
+        if (argCount > 0)
+            slot.args[0] = arg0;
+        release(index, sequence);
+    }
+
+    /**
+     * Publishes a message whose arguments are already in an array, or drops it if the buffer is full
+     *
+     * @param level   Level of the message
+     * @param pattern Message pattern
+     * @param args    Arguments of the pattern, no longer modified by the caller
+     */
+    void publish(final LogLevel level, final String pattern, final Object[] args) {
+        final long sequence = claim();
+        if (sequence < 0)
+            return;
+
+        final int index = (int) sequence & mask;
+        final Slot slot = slots[index];
+        slot.level = level;
+        slot.pattern = pattern;
+        slot.error = null;
+        slot.args = args;
+        release(index, sequence);
+    }
+
+    /**
+     * Claims the next slot in the buffer
+     *
+     * @return Sequence number of the claimed slot, -1 if the buffer is full and the message was dropped
+     */
+    private long claim() {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - writtenSequence >= slots.length) {
+                droppedCount.incrementAndGet();
+                return -1;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    /**
+     * Hands a filled slot to the writer thread, waking it if it is idle
+     *
+     * @param index    Index of the slot
+     * @param sequence Sequence number the slot was claimed with
+     */
+    private void release(final int index, final long sequence) {
+        publishedSequences.lazySet(index, sequence);
+        if (isIdle)
+            LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Waits until every message published before the call has been written
+     *
+     * @param timeoutMillis Longest time to wait in milliseconds
+     * @return True if every message was written, false if the wait timed out
+     */
+    boolean flush(final long timeoutMillis) {
+        final long target = claimSequence.get();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (writtenSequence < target) {
+            if (System.nanoTime() - deadline >= 0)
+                return false;
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of messages dropped because the buffer was full
+     *
+     * @return Number of dropped messages
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Writes messages as they are published, batching every message available into one write
+     */
+    @Override
+    public void run() {
+        long next = 0;
+        while (true) {
+            final int index = (int) next & mask;
+            if (publishedSequences.get(index) != next) {
+                if (text.length() > 0) {
+                    out.print(text);
+                    out.flush();
+                    text.setLength(0);
+                }
+                isIdle = true;
+                if (publishedSequences.get(index) != next)
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                isIdle = false;
+                continue;
+            }
+
+            final Slot slot = slots[index];
+            append(slot);
+            slot.clear();
+            writtenSequence = ++next;
+        }
+    }
+
+    /**
+     * Formats a message onto the text being written
+     *
+     * @param slot Slot holding the message
+     */
+    private void append(final Slot slot) {
+        text.append('[').append(slot.level).append("] ");
+        if (slot.args.length == 0) {
+            text.append(slot.pattern);
+        } else {
+            final int start = text.length();
+            try {
+                template(slot.pattern).appendTo(text, slot.args);
+            } catch (RuntimeException e) {
+                text.setLength(start);
+                text.append(slot.pattern).append(" (").append(e).append(')');
+            }
+        }
+        text.append(System.lineSeparator());
+
+        if (slot.error != null) {
+            final StringWriter stackTrace = new StringWriter();
+            slot.error.printStackTrace(new PrintWriter(stackTrace));
+            text.append(stackTrace);
+        }
+    }
+
+    /**
+     * Gets the parsed form of a message pattern, parsing it the first time it is seen
+     *
+     * @param pattern Message pattern
+     * @return Parsed pattern
+     */
+    private MessageTemplate template(final String pattern) {
+        MessageTemplate template = templates.get(pattern);
+        if (template == null) {
+            if (templates.size() >= MAX_CACHED_TEMPLATES)
+                templates.clear();
+            template = new MessageTemplate(pattern, Locale.ROOT);
+            templates.put(pattern, template);
+        }
+        return template;
+    }
+
+    /**
+     * A message waiting to be written
+     */
+    private static final class Slot {
+        /**
+         * Argument arrays for each number of arguments, reused so publishing does not allocate
+         */
+        private final Object[][] argsByCount = {new Object[0], new Object[1], new Object[2], new Object[3],
+                new Object[4]};
+
+        /**
+         * Level of the message
+         */
+        private LogLevel level;
+
+        /**
+         * Message pattern
+         */
+        private String pattern;
+
+        /**
+         * Throwable whose stack trace is written after the message, may be null
+         */
+        private Throwable error;
+
+        /**
+         * Arguments of the pattern
+         */
+        private Object[] args = argsByCount[0];
+
+        /**
+         * Releases the references held by the slot once its message has been written
+         */
+        private void clear() {
+            if (args.length <= 4 && args == argsByCount[args.length]) {
+                for (int i = 0; i < args.length; i++)
+                    args[i] = null;
+            }
+            args = argsByCount[0];
+            pattern = null;
+            error = null;
+        }
+    }
+}
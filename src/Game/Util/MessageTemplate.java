@@ -0,0 +1,144 @@
+package Game.Util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * A localized message parsed once into its literal text and argument slots, so that formatting it only appends the
+ * pieces to a builder. Supports the %s, %d, %c, %n and %% conversions used by the game's resource bundles, any other
+ * format specifier makes the template fall back to {@link String#format(Locale, String, Object...)}
+ */
+public final class MessageTemplate {
+    /**
+     * Builder reused by each thread to format messages into a string
+     */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    /**
+     * Unparsed message, as it appears in the resource bundle
+     */
+    private final String pattern;
+
+    /**
+     * Locale used when the template falls back to String.format
+     */
+    private final Locale locale;
+
+    /**
+     * Literal text around the arguments, one more entry than there are arguments
+     */
+    private final String[] literals;
+
+    /**
+     * Conversion character of each argument slot, 's', 'd' or 'c'
+     */
+    private final char[] conversions;
+
+    /**
+     * True if the pattern uses a format specifier this class does not parse
+     */
+    private final boolean isFallback;
+
+    /**
+     * Parses a message pattern
+     *
+     * @param pattern Message as it appears in the resource bundle
+     * @param locale  Locale the message belongs to
+     */
+    public MessageTemplate(final String pattern, final Locale locale) {
+        this.pattern = pattern;
+        this.locale = locale;
+
+        final List<String> literalList = new ArrayList<>();
+        final StringBuilder conversionList = new StringBuilder();
+        final StringBuilder literal = new StringBuilder();
+        boolean unsupported = false;
+        for (int i = 0; i < pattern.length() && !unsupported; i++) {
+            final char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+
+            final char conversion = ++i < pattern.length() ? pattern.charAt(i) : '\0';
+            switch (conversion) {
+                case '%':
+                    literal.append('%');
+                    break;
+                case 'n':
+                    literal.append(System.lineSeparator());
+                    break;
+                case 's':
+                case 'd':
+                case 'c':
+                    literalList.add(literal.toString());
+                    literal.setLength(0);
+                    conversionList.append(conversion);
+                    break;
+                default:
+                    unsupported = true;
+            }
+        }
+        literalList.add(literal.toString());
+
+        isFallback = unsupported;
+        literals = literalList.toArray(new String[0]);
+        conversions = conversionList.toString().toCharArray();
+    }
+
+    /**
+     * Formats the message with the given arguments. Extra arguments are ignored, as with String.format
+     *
+     * @param args Values for the message's argument slots, in order
+     * @return Formatted message
+     */
+    public String format(final Object... args) {
+        if (isFallback)
+            return String.format(locale, pattern, args);
+        if (conversions.length == 0)
+            return literals[0];
+
+        final StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        appendTo(builder, args);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the formatted message to a builder
+     *
+     * @param builder Builder the message is appended to
+     * @param args    Values for the message's argument slots, in order
+     * @return The builder, for chaining
+     */
+    public StringBuilder appendTo(final StringBuilder builder, final Object... args) {
+        if (isFallback)
+            return builder.append(String.format(locale, pattern, args));
+
+        for (int i = 0; i < conversions.length; i++) {
+            if (args == null || i >= args.length)
+                throw new MissingFormatArgumentException("%" + conversions[i]);
+
+            builder.append(literals[i]);
+            final Object arg = args[i];
+            if (arg instanceof Integer)
+                builder.append(((Integer) arg).intValue());
+            else if (arg instanceof Character)
+                builder.append(((Character) arg).charValue());
+            else
+                builder.append(arg);
+        }
+        return builder.append(literals[conversions.length]);
+    }
+
+    /**
+     * Gets the message as it appears in the resource bundle
+     *
+     * @return Unparsed message
+     */
+    public String getPattern() {
+        return pattern;
+    }
+}
@@ -1,5 +1,10 @@
 package Game.Util;
 
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 /**
@@ -7,13 +12,43 @@ import java.util.ResourceBundle;
  */
 public class Utils {
     /**
-     * Returns the capital letter equivalent of a numeric coordinate
+     * Name of the resource bundle containing the game's localized messages
+     */
+    private static final String BUNDLE_NAME = "res/Battleship";
+
+    /**
+     * Messages of the current locale, loaded on first use and replaced when the language changes
+     */
+    private static volatile LocalizedMessages localizedMessages;
+
+    /**
+     * Labels of the first 26 columns, shared so that labelling a normal sized board allocates nothing
+     */
+    private static final String[] COLUMN_LETTERS = new String[26];
+
+    static {
+        for (int i = 0; i < COLUMN_LETTERS.length; i++)
+            COLUMN_LETTERS[i] = String.valueOf((char) ('A' + i));
+    }
+
+    /**
+     * Returns the column label of a numeric coordinate, numbered like spreadsheet columns so it scales past 26
+     * columns: A to Z, then AA to ZZ, then AAA and so on
      *
-     * @param numericCoordinate Numeric coordinate
-     * @return Capital letter coordinate, '?' if invalid argument
+     * @param numericCoordinate Numeric coordinate, from 0
+     * @return Capital letter coordinate, "?" if invalid argument
      */
-    public static char getLetterCoordinate(final int numericCoordinate) {
-        return numericCoordinate < 0 || numericCoordinate > 25 ? '?' : (char) ('A' + numericCoordinate);
+    public static String getLetterCoordinate(final int numericCoordinate) {
+        if (numericCoordinate < 0)
+            return "?";
+        if (numericCoordinate < 26)
+            return COLUMN_LETTERS[numericCoordinate];
+
+        final char[] label = new char[7];
+        int position = label.length;
+        for (int remaining = numericCoordinate + 1; remaining > 0; remaining = (remaining - 1) / 26)
+            label[--position] = (char) ('A' + (remaining - 1) % 26);
+        return new String(label, position, label.length - position);
     }
 
     /**
@@ -23,7 +58,77 @@ public class Utils {
      * @return Localized message that will be displayed to the user
      */
     public static String getLocalizedString(final String message) {
-        ResourceBundle bundle = ResourceBundle.getBundle("res/Battleship");
-        return bundle.getString(message);
+        return getLocalizedTemplate(message).getPattern();
+    }
+
+    /**
+     * Returns a localized string appropriate for the current locale, formatted with the given arguments
+     *
+     * @param message Message type that will be displayed to the user
+     * @param args    Values for the message's format specifiers
+     * @return Formatted localized message that will be displayed to the user
+     */
+    public static String formatLocalizedString(final String message, final Object... args) {
+        return getLocalizedTemplate(message).format(args);
+    }
+
+    /**
+     * Returns the parsed template of a localized message for the current locale
+     *
+     * @param message Message type that will be displayed to the user
+     * @return Template of the localized message
+     * @throws MissingResourceException If the message does not exist
+     */
+    public static MessageTemplate getLocalizedTemplate(final String message) {
+        LocalizedMessages messages = localizedMessages;
+        if (messages == null) {
+            messages = new LocalizedMessages(Locale.getDefault());
+            localizedMessages = messages;
+        }
+
+        final MessageTemplate template = messages.templates.get(message);
+        if (template == null)
+            throw new MissingResourceException("Can't find resource for bundle " + BUNDLE_NAME + ", key " + message,
+                    BUNDLE_NAME, message);
+        return template;
+    }
+
+    /**
+     * Loads and parses the messages of the current default locale ahead of their first use, e.g. while the loading
+     * splash screen is displayed
+     */
+    public static void preloadLocalizedMessages() {
+        if (localizedMessages == null)
+            localizedMessages = new LocalizedMessages(Locale.getDefault());
+    }
+
+    /**
+     * Discards the cached messages so the next lookup loads the messages of the current default locale
+     */
+    public static void clearLocalizationCache() {
+        localizedMessages = null;
+    }
+
+    /**
+     * Every message of one locale, parsed into templates
+     */
+    private static final class LocalizedMessages {
+        /**
+         * Template of each message, keyed by message type
+         */
+        private final Map<String, MessageTemplate> templates = new HashMap<>();
+
+        /**
+         * Loads and parses every message in the resource bundle for a locale
+         *
+         * @param locale Locale whose messages are loaded
+         */
+        private LocalizedMessages(final Locale locale) {
+            final ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
+            for (Enumeration<String> keys = bundle.getKeys(); keys.hasMoreElements(); ) {
+                final String key = keys.nextElement();
+                templates.put(key, new MessageTemplate(bundle.getString(key), locale));
+            }
+        }
     }
 }
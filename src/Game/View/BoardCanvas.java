@@ -0,0 +1,338 @@
+package Game.View;
+
+import Game.Controller.BattleshipController;
+import Game.Model.BoardState;
+import Game.Model.GameState;
+import Game.Util.Utils;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Displays a player's board as a single component that paints its squares directly, used for boards too large to have a
+ * button per square. Each distinct square style is rendered once into a cached image, only the squares that changed are
+ * repainted, and clicks are mapped from mouse coordinates back to squares on the board.
+ */
+public class BoardCanvas extends JComponent implements BoardView {
+    /**
+     * Serializable UUID
+     */
+    private static final long serialVersionUID = 11L;
+
+    /**
+     * Smallest square size in pixels that boat sizes and coordinates are drawn at
+     */
+    private static final int MIN_TEXT_SQUARE_SIZE = 12;
+
+    /**
+     * Number of changed squares above which the whole board is repainted instead of each square
+     */
+    private static final int MAX_DIRTY_SQUARES = 256;
+
+    /**
+     * Background of a square that can be clicked
+     */
+    private static final Color ENABLED_BACKGROUND = new Color(238, 238, 238);
+
+    /**
+     * Background of a square that cannot be clicked
+     */
+    private static final Color DISABLED_BACKGROUND = new Color(214, 217, 223);
+
+    /**
+     * Colour of the lines between squares
+     */
+    private static final Color GRID_LINE = new Color(160, 160, 160);
+
+    /**
+     * Controller for the game which will process clicks on squares
+     */
+    private final BattleshipController controller;
+
+    /**
+     * True if the board displayed belongs to the player, false otherwise
+     */
+    private boolean isPlayer;
+
+    /**
+     * Dimension of the board currently displayed, -1 if nothing has been displayed yet
+     */
+    private int renderedDimension = -1;
+
+    /**
+     * Style each square is currently displayed with, indexed by y * dimension + x
+     */
+    private int[] renderedStyles;
+
+    /**
+     * Title currently displayed on the board's border
+     */
+    private String renderedTitle;
+
+    /**
+     * Image of each square style at the current square size
+     */
+    private final Map<Integer, BufferedImage> squareImages = new HashMap<>();
+
+    /**
+     * Size in pixels of the squares the cached images were drawn at
+     */
+    private int imageSquareSize;
+
+    /**
+     * Creates a canvas that forwards clicks on its squares to the controller
+     *
+     * @param controller Controller for the game which will process clicks on squares
+     */
+    public BoardCanvas(final BattleshipController controller) {
+        this.controller = controller;
+        setOpaque(true);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(final MouseEvent e) {
+                handleClick(e.getPoint());
+            }
+        });
+    }
+
+    /**
+     * Brings the canvas up to date with the board, repainting only the squares whose style changed
+     *
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board being displayed
+     */
+    @Override
+    public void initializePanel(final GameState gameState, final BoardState boardState) {
+        final int dimension = boardState.getGridDimension();
+        isPlayer = boardState.isPlayer();
+        final boolean isResized = dimension != renderedDimension;
+        if (isResized) {
+            renderedStyles = new int[dimension * dimension];
+            renderedDimension = dimension;
+        }
+
+        int dirtySquares = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int x = 0; x < dimension; x++) {
+                final int index = y * dimension + x;
+                final int style = SquareStyle.of(gameState, boardState, x, y);
+                if (renderedStyles[index] != style || isResized) {
+                    renderedStyles[index] = style;
+                    if (++dirtySquares <= MAX_DIRTY_SQUARES && !isResized)
+                        repaint(squareBounds(x, y));
+                }
+            }
+        }
+        if (isResized || dirtySquares > MAX_DIRTY_SQUARES)
+            repaint();
+
+        final String title = isPlayer ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system");
+        if (!title.equals(renderedTitle)) {
+            final Border gridTitle = BorderFactory.createTitledBorder(title);
+            setBorder(gridTitle);
+            renderedTitle = title;
+        }
+    }
+
+    /**
+     * Repaints a single square if its style changed
+     *
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board being displayed
+     * @param x          X coordinate of the square that changed
+     * @param y          Y coordinate of the square that changed
+     */
+    @Override
+    public void updateSquare(final GameState gameState, final BoardState boardState, final int x, final int y) {
+        if (boardState.getGridDimension() != renderedDimension) {
+            initializePanel(gameState, boardState);
+            return;
+        }
+
+        final int index = y * renderedDimension + x;
+        final int style = SquareStyle.of(gameState, boardState, x, y);
+        if (renderedStyles[index] != style) {
+            renderedStyles[index] = style;
+            repaint(squareBounds(x, y));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JComponent getViewComponent() {
+        return this;
+    }
+
+    /**
+     * Paints the headers and the squares that intersect the area being repainted
+     *
+     * @param g Graphics used to paint the component
+     */
+    @Override
+    protected void paintComponent(final Graphics g) {
+        final Rectangle clip = g.getClipBounds() != null ? g.getClipBounds() : new Rectangle(getSize());
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (renderedDimension <= 0)
+            return;
+
+        final int squareSize = squareSize();
+        final Point origin = gridOrigin(squareSize);
+        if (squareSize != imageSquareSize) {
+            squareImages.clear();
+            imageSquareSize = squareSize;
+        }
+
+        final int firstX = Math.max(0, (clip.x - origin.x) / squareSize);
+        final int lastX = Math.min(renderedDimension - 1, (clip.x + clip.width - origin.x) / squareSize);
+        final int firstY = Math.max(0, (clip.y - origin.y) / squareSize);
+        final int lastY = Math.min(renderedDimension - 1, (clip.y + clip.height - origin.y) / squareSize);
+        for (int y = firstY; y <= lastY; y++) {
+            for (int x = firstX; x <= lastX; x++) {
+                g.drawImage(squareImage(renderedStyles[y * renderedDimension + x], squareSize),
+                        origin.x + x * squareSize, origin.y + y * squareSize, null);
+            }
+        }
+
+        if (squareSize >= MIN_TEXT_SQUARE_SIZE)
+            paintHeaders(g, clip, origin, squareSize);
+    }
+
+    /**
+     * Paints the letter and number coordinates along the top and left of the board
+     *
+     * @param g          Graphics used to paint the component
+     * @param clip       Area being repainted
+     * @param origin     Top left corner of the first square
+     * @param squareSize Size of a square in pixels
+     */
+    private void paintHeaders(final Graphics g, final Rectangle clip, final Point origin, final int squareSize) {
+        if (clip.y > origin.y && clip.x > origin.x)
+            return;
+
+        g.setColor(getForeground());
+        final FontMetrics metrics = g.getFontMetrics();
+        final int textOffset = (squareSize + metrics.getAscent() - metrics.getDescent()) / 2;
+        for (int i = 0; i < renderedDimension; i++) {
+            final String column = Utils.getLetterCoordinate(i);
+            g.drawString(column, origin.x + i * squareSize + (squareSize - metrics.stringWidth(column)) / 2,
+                    origin.y - squareSize + textOffset);
+            final String row = Integer.toString(i + 1);
+            g.drawString(row, origin.x - squareSize + (squareSize - metrics.stringWidth(row)) / 2,
+                    origin.y + i * squareSize + textOffset);
+        }
+    }
+
+    /**
+     * Gets the cached image of a square style, drawing it if it has not been drawn at this size yet
+     *
+     * @param style      Style of the square
+     * @param squareSize Size of a square in pixels
+     * @return Image of the square
+     */
+    private BufferedImage squareImage(final int style, final int squareSize) {
+        BufferedImage image = squareImages.get(style);
+        if (image == null) {
+            image = new BufferedImage(squareSize, squareSize, BufferedImage.TYPE_INT_RGB);
+            final Graphics2D g = image.createGraphics();
+            final Color background;
+            switch (SquareStyle.kind(style)) {
+                case SquareStyle.SHIP:
+                    background = Color.gray;
+                    break;
+                case SquareStyle.HIT:
+                    background = Color.red;
+                    break;
+                case SquareStyle.MISSED:
+                    background = Color.blue;
+                    break;
+                default:
+                    background = SquareStyle.isEnabled(style) ? ENABLED_BACKGROUND : DISABLED_BACKGROUND;
+            }
+            g.setColor(background);
+            g.fillRect(0, 0, squareSize, squareSize);
+            if (squareSize > 3) {
+                g.setColor(GRID_LINE);
+                g.drawRect(0, 0, squareSize - 1, squareSize - 1);
+            }
+
+            final int kind = SquareStyle.kind(style);
+            if (squareSize >= MIN_TEXT_SQUARE_SIZE && (kind == SquareStyle.SHIP || kind == SquareStyle.HIT)) {
+                g.setFont(getFont());
+                g.setColor(Color.black);
+                final FontMetrics metrics = g.getFontMetrics();
+                final String text = Integer.toString(SquareStyle.boatSize(style));
+                g.drawString(text, (squareSize - metrics.stringWidth(text)) / 2,
+                        (squareSize + metrics.getAscent() - metrics.getDescent()) / 2);
+            }
+            g.dispose();
+            squareImages.put(style, image);
+        }
+        return image;
+    }
+
+    /**
+     * Forwards a click to the controller if it landed on a square that can be clicked
+     *
+     * @param point Location of the click within the component
+     */
+    private void handleClick(final Point point) {
+        if (renderedDimension <= 0)
+            return;
+
+        final int squareSize = squareSize();
+        final Point origin = gridOrigin(squareSize);
+        if (point.x < origin.x || point.y < origin.y)
+            return;
+
+        final int x = (point.x - origin.x) / squareSize;
+        final int y = (point.y - origin.y) / squareSize;
+        if (x < renderedDimension && y < renderedDimension
+                && SquareStyle.isEnabled(renderedStyles[y * renderedDimension + x]))
+            controller.handleGridClick(isPlayer, x, y);
+    }
+
+    /**
+     * Gets the area of the component that a square is painted in
+     *
+     * @param x X coordinate of the square
+     * @param y Y coordinate of the square
+     * @return Bounds of the square
+     */
+    private Rectangle squareBounds(final int x, final int y) {
+        final int squareSize = squareSize();
+        final Point origin = gridOrigin(squareSize);
+        return new Rectangle(origin.x + x * squareSize, origin.y + y * squareSize, squareSize, squareSize);
+    }
+
+    /**
+     * Calculates the size of a square so that the board and a row and column of headers fit inside the component
+     *
+     * @return Size of a square in pixels, at least 1
+     */
+    private int squareSize() {
+        final Insets insets = getInsets();
+        final int width = getWidth() - insets.left - insets.right;
+        final int height = getHeight() - insets.top - insets.bottom;
+        return Math.max(1, Math.min(width, height) / (renderedDimension + 1));
+    }
+
+    /**
+     * Calculates the top left corner of the first square, leaving room for the headers
+     *
+     * @param squareSize Size of a square in pixels
+     * @return Top left corner of the square at (0,0)
+     */
+    private Point gridOrigin(final int squareSize) {
+        final Insets insets = getInsets();
+        return new Point(insets.left + squareSize, insets.top + squareSize);
+    }
+}
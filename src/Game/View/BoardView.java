@@ -0,0 +1,36 @@
+package Game.View;
+
+import Game.Model.BoardState;
+import Game.Model.GameState;
+
+import javax.swing.*;
+
+/**
+ * A component displaying a player's or system's board and forwarding clicks on its squares to the controller
+ */
+public interface BoardView {
+    /**
+     * Brings the view up to date with the state of the game and the board it displays
+     *
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board being displayed
+     */
+    void initializePanel(GameState gameState, BoardState boardState);
+
+    /**
+     * Brings a single square of the view up to date with the board it displays
+     *
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board being displayed
+     * @param x          X coordinate of the square that changed
+     * @param y          Y coordinate of the square that changed
+     */
+    void updateSquare(GameState gameState, BoardState boardState, int x, int y);
+
+    /**
+     * Gets the Swing component that displays the board
+     *
+     * @return Component displaying the board
+     */
+    JComponent getViewComponent();
+}
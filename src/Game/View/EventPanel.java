@@ -1,13 +1,28 @@
 package Game.View;
 
+import Game.Util.Log;
 import Game.Util.Utils;
 
 import javax.swing.*;
 import javax.swing.border.Border;
+import javax.swing.text.BadLocationException;
 import java.awt.*;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * This class is displays the history log for guesses, option selections, and general info to the user
+ * This class is displays the history log for guesses, option selections, and general info to the user. Only the most
+ * recent entries are kept, in a ring buffer, and entries added during the same event dispatch cycle are applied to the
+ * text box in a single update. The full history can also be written to a file as it happens.
  */
 public class EventPanel extends JPanel {
     /**
@@ -20,10 +35,55 @@ public class EventPanel extends JPanel {
      */
     private JTextArea textArea;
 
+    /**
+     * Most recent entries of the history, oldest first starting at historyStart
+     */
+    private final String[] history;
+
+    /**
+     * Index of the oldest entry in the history
+     */
+    private int historyStart;
+
+    /**
+     * Number of entries in the history
+     */
+    private int historySize;
+
+    /**
+     * Entries added since the text box was last updated, may be added to from any thread
+     */
+    private final transient Queue<String> pendingEntries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * True if an update of the text box has been scheduled and not run yet
+     */
+    private final transient AtomicBoolean isUpdateScheduled = new AtomicBoolean();
+
+    /**
+     * File the history is being written to, null if it is not being written to a file
+     */
+    private transient Writer historyFile;
+
+    /**
+     * Writes the history file so that disk access does not hold up the event dispatch thread
+     */
+    private transient ExecutorService historyFileExecutor;
+
+    /**
+     * Creates an event panel that keeps a limited number of entries
+     *
+     * @param maxEntries Most entries of the history kept and displayed, at least 1
+     */
+    public EventPanel(final int maxEntries) {
+        history = new String[Math.max(1, maxEntries)];
+    }
+
     /**
      * Initializes the window containing a scrollable text box for the game's history log
      */
     public void initializePanel() {
+        updateLog();
         removeAll();
         setLayout(new GridBagLayout());
         GridBagConstraints layoutConstraints = new GridBagConstraints();
@@ -40,14 +100,154 @@ public class EventPanel extends JPanel {
         layoutConstraints.weighty = 1.0;
 
         add(scroll, layoutConstraints);
+        textArea.setText(historyText());
+        revalidate();
+        repaint();
     }
 
     /**
-     * Updates the log window with a new entry
+     * Adds a new entry to the log window. Can be called from any thread, the window is updated on the event dispatch
+     * thread once per cycle no matter how many entries arrive
      *
      * @param event New log entry to be added to the window
      */
     public void updateLogPanel(final String event) {
-        textArea.append(event);
+        pendingEntries.add(event);
+        if (isUpdateScheduled.compareAndSet(false, true))
+            SwingUtilities.invokeLater(this::updateLog);
+    }
+
+    /**
+     * Starts writing the history to a file, beginning with the entries still held in the history
+     *
+     * @param file File the history is appended to
+     * @throws IOException If the file cannot be opened
+     */
+    public void startHistoryFile(final Path file) throws IOException {
+        stopHistoryFile();
+        updateLog();
+        historyFile = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        historyFileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "battleship-history-file");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writeHistoryFile(historyText());
+    }
+
+    /**
+     * Stops writing the history to a file and closes it
+     */
+    public void stopHistoryFile() {
+        if (historyFile == null)
+            return;
+
+        final Writer file = historyFile;
+        historyFileExecutor.execute(() -> {
+            try {
+                file.close();
+            } catch (IOException e) {
+                Log.error("Unable to close the history file", e);
+            }
+        });
+        historyFileExecutor.shutdown();
+        historyFile = null;
+        historyFileExecutor = null;
+    }
+
+    /**
+     * Checks if the history is being written to a file
+     *
+     * @return True if the history is being written to a file, false otherwise
+     */
+    public boolean isHistoryFileOpen() {
+        return historyFile != null;
+    }
+
+    /**
+     * Moves the pending entries into the history and applies them to the text box in one update
+     */
+    private void updateLog() {
+        isUpdateScheduled.set(false);
+        if (pendingEntries.isEmpty())
+            return;
+
+        final StringBuilder batch = new StringBuilder();
+        int batchSize = 0;
+        int evictedLines = 0;
+        for (String event = pendingEntries.poll(); event != null; event = pendingEntries.poll()) {
+            evictedLines += addToHistory(event);
+            batch.append(event).append('\n');
+            batchSize++;
+        }
+        if (historyFile != null)
+            writeHistoryFile(batch.toString());
+        if (textArea == null)
+            return;
+
+        if (batchSize >= history.length) {
+            textArea.setText(historyText());
+            return;
+        }
+
+        textArea.append(batch.toString());
+        if (evictedLines > 0) {
+            try {
+                textArea.replaceRange("", 0, textArea.getLineStartOffset(evictedLines));
+            } catch (BadLocationException e) {
+                textArea.setText(historyText());
+            }
+        }
+    }
+
+    /**
+     * Adds an entry to the history, replacing the oldest entry if the history is full
+     *
+     * @param event Entry being added
+     * @return Number of lines the replaced entry took up in the text box, 0 if no entry was replaced
+     */
+    private int addToHistory(final String event) {
+        if (historySize < history.length) {
+            history[(historyStart + historySize++) % history.length] = event;
+            return 0;
+        }
+
+        final String evicted = history[historyStart];
+        history[historyStart] = event;
+        historyStart = (historyStart + 1) % history.length;
+        int lines = 1;
+        for (int i = evicted.indexOf('\n'); i >= 0; i = evicted.indexOf('\n', i + 1))
+            lines++;
+        return lines;
+    }
+
+    /**
+     * Joins every entry of the history into the text displayed in the text box
+     *
+     * @return Text of the history, one entry per line
+     */
+    private String historyText() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < historySize; i++)
+            text.append(history[(historyStart + i) % history.length]).append('\n');
+        return text.toString();
+    }
+
+    /**
+     * Appends text to the history file without waiting for it to be written
+     *
+     * @param text Text being appended
+     */
+    private void writeHistoryFile(final String text) {
+        final Writer file = historyFile;
+        historyFileExecutor.execute(() -> {
+            try {
+                file.write(text);
+                file.flush();
+            } catch (IOException e) {
+                Log.error("Unable to write to the history file", e);
+            }
+        });
     }
 }
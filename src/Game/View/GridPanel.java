@@ -2,10 +2,7 @@ package Game.View;
 
 import Game.Controller.BattleshipController;
 import Game.Model.BoardState;
-import Game.Model.Enums.GameStatus;
-import Game.Model.Enums.GridSquareStatus;
 import Game.Model.GameState;
-import Game.Model.GridSquare;
 import Game.Util.Utils;
 
 import javax.swing.*;
@@ -15,7 +12,7 @@ import java.awt.*;
 /**
  * This class creates and initializes a grid of buttons used for a player's Battleship game board
  */
-public class GridPanel extends JPanel {
+public class GridPanel extends JPanel implements BoardView {
     /**
      * Serializable UUID
      */
@@ -26,6 +23,41 @@ public class GridPanel extends JPanel {
      */
     private final BattleshipController controller;
 
+    /**
+     * Dimension of the grid the buttons were built for, -1 if they have not been built yet
+     */
+    private int renderedDimension = -1;
+
+    /**
+     * Buttons for every square on the grid, indexed by y * dimension + x
+     */
+    private GridButton[] gridButtons;
+
+    /**
+     * Style each button is currently displayed with, indexed by y * dimension + x
+     */
+    private int[] renderedStyles;
+
+    /**
+     * Title currently displayed on the grid's border
+     */
+    private String renderedTitle;
+
+    /**
+     * Background of a button that has not been styled
+     */
+    private Color defaultBackground;
+
+    /**
+     * Margin of a button that has not been styled
+     */
+    private Insets defaultMargin;
+
+    /**
+     * Opacity of a button that has not been styled
+     */
+    private boolean defaultOpaque;
+
     /**
      * Default constructor for creating a GridPanel
      *
@@ -36,12 +68,75 @@ public class GridPanel extends JPanel {
     }
 
     /**
-     * Initializes the panel representing a player's board
+     * Initializes the panel representing a player's board. The grid's components are only rebuilt when the dimension
+     * of the board changes, otherwise only the squares whose appearance changed are restyled
      *
      * @param gameState  Current state of the game
      * @param boardState Current state of the board being used to display the grid
      */
+    @Override
     public void initializePanel(final GameState gameState, final BoardState boardState) {
+        if (boardState.getGridDimension() != renderedDimension)
+            buildGrid(boardState);
+
+        final int dimension = renderedDimension;
+        for (int y = 0; y < dimension; y++) {
+            for (int x = 0; x < dimension; x++) {
+                final int index = y * dimension + x;
+                final int style = SquareStyle.of(gameState, boardState, x, y);
+                if (renderedStyles[index] != style) {
+                    applyStyle(gridButtons[index], style);
+                    renderedStyles[index] = style;
+                }
+            }
+        }
+
+        final String title = boardState.isPlayer() ?
+                Utils.getLocalizedString("player") : Utils.getLocalizedString("system");
+        if (!title.equals(renderedTitle)) {
+            final Border gridTitle = BorderFactory.createTitledBorder(title);
+            setBorder(gridTitle);
+            renderedTitle = title;
+        }
+    }
+
+    /**
+     * Restyles the button of a single square if its appearance changed
+     *
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board being used to display the grid
+     * @param x          X coordinate of the square that changed
+     * @param y          Y coordinate of the square that changed
+     */
+    @Override
+    public void updateSquare(final GameState gameState, final BoardState boardState, final int x, final int y) {
+        if (boardState.getGridDimension() != renderedDimension) {
+            initializePanel(gameState, boardState);
+            return;
+        }
+
+        final int index = y * renderedDimension + x;
+        final int style = SquareStyle.of(gameState, boardState, x, y);
+        if (renderedStyles[index] != style) {
+            applyStyle(gridButtons[index], style);
+            renderedStyles[index] = style;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JComponent getViewComponent() {
+        return this;
+    }
+
+    /**
+     * Creates the header labels and the buttons for every square of the board
+     *
+     * @param boardState Current state of the board being used to display the grid
+     */
+    private void buildGrid(final BoardState boardState) {
         final int dimension = boardState.getGridDimension();
         final boolean isPlayer = boardState.isPlayer();
 
@@ -53,12 +148,14 @@ public class GridPanel extends JPanel {
 
         for (int col = 0; col < dimension; col++) {
             final JLabel colHeaderLabel = new JLabel();
-            colHeaderLabel.setText(String.valueOf(Utils.getLetterCoordinate(col)));
+            colHeaderLabel.setText(Utils.getLetterCoordinate(col));
             colHeaderLabel.setHorizontalAlignment(JLabel.CENTER);
             colHeaderLabel.setVerticalAlignment(JLabel.CENTER);
             add(colHeaderLabel);
         }
 
+        gridButtons = new GridButton[dimension * dimension];
+        renderedStyles = new int[dimension * dimension];
         for (int col = 0; col < dimension; col++) {
             final JLabel rowHeaderLabel = new JLabel();
             rowHeaderLabel.setText(String.format("%d", col + 1));
@@ -67,48 +164,63 @@ public class GridPanel extends JPanel {
             add(rowHeaderLabel);
 
             for (int row = 0; row < dimension; row++) {
-                final GridSquare gridSquare = boardState.getGridSquare(row, col);
                 final GridButton gridButton = new GridButton(new Point(row, col));
-
                 gridButton.addActionListener(e -> {
                     final int x = (int) gridButton.getCoordinates().getX();
                     final int y = (int) gridButton.getCoordinates().getY();
                     controller.handleGridClick(isPlayer, x, y);
                 });
 
-                final GameStatus gameStatus = gameState.getStatus();
-                if (gameStatus != GameStatus.IN_PROGRESS && !isPlayer) {
-                    gridButton.setEnabled(false);
-                }
-
-                if (gridSquare != null) {
-                    if (isPlayer && gridSquare.getStatus() == GridSquareStatus.ALIVE || gameStatus == GameStatus.GAME_OVER) {
-                        gridButton.setText(Integer.toString(gridSquare.getShipSize()));
-//                        gridButton.setFont(new Font("Arial", Font.PLAIN, 6));
-                        gridButton.setMargin(new Insets(0, 0, 0, 0));
-                        gridButton.setBackground(Color.gray);
-                        gridButton.setOpaque(true);
-                    } else if (gridSquare.getStatus() == GridSquareStatus.HIT) {
-                        gridButton.setText(Integer.toString(gridSquare.getShipSize()));
-                        gridButton.setBackground(Color.red);
-                        gridButton.setOpaque(true);
-                        gridButton.setEnabled(false); // TODO disabling buttons doesn't fill them - fix?
-                    } else if (gridSquare.getStatus() == GridSquareStatus.MISSED) {
-                        gridButton.setBackground(Color.blue);
-                        gridButton.setOpaque(true);
-                        gridButton.setEnabled(false);
-                    }
-                } else if (gameStatus == GameStatus.IN_PROGRESS && gameState.isPlayersTurn() && !isPlayer) {
-                    gridButton.setEnabled(true);
-                }
-
+                gridButtons[col * dimension + row] = gridButton;
+                renderedStyles[col * dimension + row] = SquareStyle.ENABLED | SquareStyle.EMPTY;
                 add(gridButton);
             }
         }
 
-        final Border gridTitle = BorderFactory.createTitledBorder(isPlayer ?
-                Utils.getLocalizedString("player") : Utils.getLocalizedString("system"));
-        setBorder(gridTitle);
+        final JButton unstyledButton = new JButton();
+        defaultBackground = unstyledButton.getBackground();
+        defaultMargin = unstyledButton.getMargin();
+        defaultOpaque = unstyledButton.isOpaque();
+
+        renderedDimension = dimension;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Changes the appearance of a button to match a square's style
+     *
+     * @param gridButton Button being styled
+     * @param style      Style of the square
+     */
+    private void applyStyle(final GridButton gridButton, final int style) {
+        final int boatSize = SquareStyle.boatSize(style);
+        gridButton.setEnabled(SquareStyle.isEnabled(style));
+        switch (SquareStyle.kind(style)) {
+            case SquareStyle.SHIP:
+                gridButton.setText(Integer.toString(boatSize));
+                gridButton.setMargin(new Insets(0, 0, 0, 0));
+                gridButton.setBackground(Color.gray);
+                gridButton.setOpaque(true);
+                break;
+            case SquareStyle.HIT:
+                gridButton.setText(Integer.toString(boatSize));
+                gridButton.setMargin(defaultMargin);
+                gridButton.setBackground(Color.red);
+                gridButton.setOpaque(true);
+                break;
+            case SquareStyle.MISSED:
+                gridButton.setText("");
+                gridButton.setMargin(defaultMargin);
+                gridButton.setBackground(Color.blue);
+                gridButton.setOpaque(true);
+                break;
+            default:
+                gridButton.setText("");
+                gridButton.setMargin(defaultMargin);
+                gridButton.setBackground(defaultBackground);
+                gridButton.setOpaque(defaultOpaque);
+        }
     }
 
     /**
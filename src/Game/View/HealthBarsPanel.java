@@ -35,6 +35,8 @@ public class HealthBarsPanel extends JPanel {
         setLayout(new GridLayout(1, 2));
         add(playerHealthBar);
         add(systemHealthBar);
+        revalidate();
+        repaint();
     }
 
     /**
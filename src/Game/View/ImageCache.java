@@ -0,0 +1,177 @@
+package Game.View;
+
+import Game.Util.Log;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Images from the game's resources shared by every screen. Each image is decoded once and kept through a soft
+ * reference, so the garbage collector can reclaim it under memory pressure and it is decoded again on its next use.
+ * Variants scaled to fit a display size are kept in a least recently used cache bounded by the memory their pixels
+ * take. Images that already fit are never put in it, so only their soft reference holds them. All methods are
+ * thread-safe, so images can be decoded ahead of time on a background thread.
+ */
+public final class ImageCache {
+    /**
+     * Most memory the scaled variants may take, in bytes
+     */
+    private static final long MAX_SCALED_BYTES = 16L << 20;
+
+    /**
+     * Decoded images by resource path
+     */
+    private static final Map<String, SoftReference<BufferedImage>> images = new HashMap<>();
+
+    /**
+     * Scaled variants by resource path and display size, least recently used first
+     */
+    private static final LinkedHashMap<String, ImageIcon> scaledIcons = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Memory taken by the scaled variants, in bytes
+     */
+    private static long scaledBytes;
+
+    /**
+     * Utility class, not instantiated
+     */
+    private ImageCache() {
+    }
+
+    /**
+     * Decodes images ahead of their first use, e.g. while the game is loading
+     *
+     * @param paths Resource paths of the images
+     */
+    public static void preload(final String... paths) {
+        for (String path : paths)
+            getImage(path);
+    }
+
+    /**
+     * Gets an image from the game's resources, decoding it if it is not cached
+     *
+     * @param path Resource path of the image
+     * @return Decoded image, null if it cannot be loaded
+     */
+    public static synchronized BufferedImage getImage(final String path) {
+        final SoftReference<BufferedImage> reference = images.get(path);
+        BufferedImage image = reference == null ? null : reference.get();
+        if (image == null) {
+            image = decode(path);
+            if (image != null)
+                images.put(path, new SoftReference<>(image));
+        }
+        return image;
+    }
+
+    /**
+     * Gets an image scaled down to fit a display size, keeping its proportions. Images that already fit are returned at
+     * their own size in a new icon, which holds the decoded image only for as long as the icon is used
+     *
+     * @param path      Resource path of the image
+     * @param maxWidth  Widest the image may be displayed, in pixels
+     * @param maxHeight Tallest the image may be displayed, in pixels
+     * @return Icon of the image, an empty icon if it cannot be loaded
+     */
+    public static synchronized ImageIcon getIcon(final String path, final int maxWidth, final int maxHeight) {
+        final BufferedImage image = getImage(path);
+        if (image == null)
+            return new ImageIcon();
+
+        final double scale = Math.min(1D, Math.min((double) maxWidth / image.getWidth(),
+                (double) maxHeight / image.getHeight()));
+        final int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        final int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        if (width == image.getWidth() && height == image.getHeight())
+            return new ImageIcon(image);
+
+        final String key = path + '@' + width + 'x' + height;
+        ImageIcon icon = scaledIcons.get(key);
+        if (icon == null) {
+            icon = new ImageIcon(scale(image, width, height));
+            scaledIcons.put(key, icon);
+            scaledBytes += sizeOf(icon);
+            evictScaledIcons();
+        }
+        return icon;
+    }
+
+    /**
+     * Discards every cached image, used when memory is needed back at once
+     */
+    public static synchronized void clear() {
+        images.clear();
+        scaledIcons.clear();
+        scaledBytes = 0;
+    }
+
+    /**
+     * Decodes an image from the game's resources
+     *
+     * @param path Resource path of the image
+     * @return Decoded image, null if it cannot be loaded
+     */
+    private static BufferedImage decode(final String path) {
+        try (InputStream stream = ImageCache.class.getResourceAsStream(path)) {
+            if (stream == null)
+                throw new IOException("Missing resource");
+            return ImageIO.read(stream);
+        } catch (IOException e) {
+            Log.error("Unable to load the image " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Draws an image at a new size
+     *
+     * @param image  Image being scaled
+     * @param width  New width in pixels
+     * @param height New height in pixels
+     * @return Scaled copy of the image
+     */
+    private static BufferedImage scale(final BufferedImage image, final int width, final int height) {
+        final BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Removes the least recently used scaled variants until they fit in their memory bound, always keeping the most
+     * recent one
+     */
+    private static void evictScaledIcons() {
+        final Iterator<ImageIcon> icons = scaledIcons.values().iterator();
+        while (scaledBytes > MAX_SCALED_BYTES && scaledIcons.size() > 1) {
+            scaledBytes -= sizeOf(icons.next());
+            icons.remove();
+        }
+    }
+
+    /**
+     * Estimates the memory taken by the pixels of an icon
+     *
+     * @param icon Icon being measured
+     * @return Size of the icon's pixels in bytes
+     */
+    private static long sizeOf(final ImageIcon icon) {
+        return (long) icon.getIconWidth() * icon.getIconHeight() * Integer.BYTES;
+    }
+}
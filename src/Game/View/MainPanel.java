@@ -4,19 +4,25 @@ import Game.Controller.BattleshipController;
 import Game.Model.BoardState;
 import Game.Model.DesignState;
 import Game.Model.Enums.GameStatus;
+import Game.Model.Enums.GridSquareStatus;
+import Game.Model.Events.BoardListener;
+import Game.Model.Events.GameListener;
 import Game.Model.GameState;
 import Game.Util.Utils;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Observable;
-import java.util.Observer;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static Game.Util.Constants.MAX_BUTTON_GRID_DIMENSION;
+import static Game.Util.Constants.MAX_HISTORY_ENTRIES;
 
 /**
- * This class creates and initializes the main panel which includes the game boards, event log, and options menu
+ * This class creates and initializes the main panel which includes the game boards, event log, and options menu. It
+ * listens to the game and both boards, and only updates the parts of the window affected by each change.
  */
-@SuppressWarnings("deprecation")
-public class MainPanel extends JFrame implements Observer {
+public class MainPanel extends JFrame implements BoardListener, GameListener {
     /**
      * Serializable UUID
      */
@@ -43,9 +49,9 @@ public class MainPanel extends JFrame implements Observer {
     private EventPanel eventPanel;
 
     /**
-     * Grid of buttons for the player's game board
+     * View of the player's game board
      */
-    private GridPanel playerGrid;
+    private BoardView playerGrid;
 
     /**
      * Contains selection boxes and buttons to change the game's options
@@ -58,9 +64,14 @@ public class MainPanel extends JFrame implements Observer {
     private HealthBarsPanel healthBarsPanel;
 
     /**
-     * Grid of buttons for the system's game board
+     * View of the system's game board
+     */
+    private BoardView systemGrid;
+
+    /**
+     * Panel containing the views of both game boards side by side
      */
-    private GridPanel systemGrid;
+    private JPanel gridsPanel;
 
     /**
      * Controller for the game which will process requests from the panel
@@ -96,21 +107,21 @@ public class MainPanel extends JFrame implements Observer {
 
         initializeMenuBar();
 
-        eventPanel = new EventPanel();
+        eventPanel = new EventPanel(Integer.getInteger("battleship.history.entries", MAX_HISTORY_ENTRIES));
         eventPanel.initializePanel();
         eventPanel.setPreferredSize(new Dimension(w - 50, (int) (MAIN_WINDOW_HEIGHT * 0.15)));
 
-        gameState.addObserver(this);
+        gameState.addGameListener(this);
 
-        playerGrid = new GridPanel(controller);
-        playerGrid.setPreferredSize(new Dimension(w, h));
+        playerGrid = createBoardView(playerBoardState);
+        playerGrid.getViewComponent().setPreferredSize(new Dimension(w, h));
         playerGrid.initializePanel(gameState, playerBoardState);
-        playerBoardState.addObserver(this);
+        playerBoardState.addBoardListener(this);
 
-        systemGrid = new GridPanel(controller);
-        systemGrid.setPreferredSize(new Dimension(w, h));
+        systemGrid = createBoardView(systemBoardState);
+        systemGrid.getViewComponent().setPreferredSize(new Dimension(w, h));
         systemGrid.initializePanel(gameState, systemBoardState);
-        systemBoardState.addObserver(this);
+        systemBoardState.addBoardListener(this);
 
         optionsPanel = new OptionsPanel(controller);
         optionsPanel.initializePanel(designState);
@@ -119,10 +130,10 @@ public class MainPanel extends JFrame implements Observer {
         healthBarsPanel.initializeHealthBarsPanel();
 //        healthBarsPanel.setLayout(new GridLayout(1, 2));
 
-        JPanel gridsPanel = new JPanel();
+        gridsPanel = new JPanel();
         gridsPanel.setLayout(new GridLayout(1, 2));
-        gridsPanel.add(playerGrid);
-        gridsPanel.add(systemGrid);
+        gridsPanel.add(playerGrid.getViewComponent());
+        gridsPanel.add(systemGrid.getViewComponent());
 
         JPanel optionsPanelWrapper = new JPanel();
         optionsPanelWrapper.setLayout(new BoxLayout(optionsPanelWrapper, BoxLayout.Y_AXIS));
@@ -150,53 +161,182 @@ public class MainPanel extends JFrame implements Observer {
     }
 
     /**
-     * Updates the main Battleship board, primarily used when the state of the game has changed and may need to be repainted.
+     * Updates the square that was guessed and the board's health bar
      *
-     * @param o   the observable object.
-     * @param arg an argument passed to the {@code notifyObservers} method.
+     * @param boardState Board that changed
+     * @param x          X coordinate of the square
+     * @param y          Y coordinate of the square
+     * @param status     New status of the square, HIT or MISSED
      */
     @Override
-    public void update(Observable o, Object arg) {
-        if (o instanceof BoardState) {
-            final BoardState boardState = (BoardState) o;
-            final GameState gameState = controller.getGameState();
-            System.out.printf("[DEBUG] %s GameState has changed, refreshing grids%n",
-                    boardState.isPlayer() ? "Player" : "System");
-
-
-            if(gameState.getStatus() == GameStatus.IN_PROGRESS || gameState.getStatus() == GameStatus.GAME_OVER )
-                healthBarsPanel.updateHealthBars(boardState);
-            else
-                healthBarsPanel.initializeHealthBarsPanel();
-
-            if (boardState.isPlayer()) {
-                playerGrid.initializePanel(gameState, boardState);
-                optionsPanel.initializePanel(controller.getDesignState());
-            } else
-                systemGrid.initializePanel(gameState, boardState);
-        } else if (o instanceof GameState) {
-            final GameState gameState = (GameState) o;
-            final BoardState playerBoardState = controller.getBoardState(true);
-            final BoardState systemBoardState = controller.getBoardState(false);
-
-            playerGrid.initializePanel(gameState, playerBoardState);
-            systemGrid.initializePanel(gameState, systemBoardState);
-
-            if(gameState.hasLocaleChanged()){
-                this.setTitle(Utils.getLocalizedString("title_bar"));
-                eventPanel.initializePanel();
-                optionsPanel.initializePanel(controller.getDesignState());
-                initializeMenuBar();
-                gameState.setHasLocaleChanged(false);
-            }
-
-            if ((gameState.getStatus() == GameStatus.GAME_OVER)) {
-                SplashScreens.displayGameOverSplashScreen(controller, gameState, playerBoardState, systemBoardState);
-            }
+    public void squareChanged(final BoardState boardState, final int x, final int y, final GridSquareStatus status) {
+        final GameState gameState = controller.getGameState();
+        boardView(boardState).updateSquare(gameState, boardState, x, y);
+        if (status == GridSquareStatus.HIT && isGameStarted(gameState))
+            healthBarsPanel.updateHealthBars(boardState);
+    }
+
+    /**
+     * Updates every square a volley landed on, and the health bars once if any of its shots hit
+     *
+     * @param boardState Board that changed
+     * @param squares    Squares guessed, encoded as {@code y * gridDimension + x}
+     * @param results    Result of each shot, 0 for a miss
+     */
+    @Override
+    public void volleyResolved(final BoardState boardState, final int[] squares, final byte[] results) {
+        final GameState gameState = controller.getGameState();
+        final BoardView view = boardView(boardState);
+        final int dimension = boardState.getGridDimension();
+        boolean isHit = false;
+        for (int i = 0; i < squares.length; i++) {
+            view.updateSquare(gameState, boardState, squares[i] % dimension, squares[i] / dimension);
+            isHit |= results[i] != 0;
         }
+        if (isHit && isGameStarted(gameState))
+            healthBarsPanel.updateHealthBars(boardState);
+    }
 
-        main.repaint();
-        main.revalidate();
+    /**
+     * Updates the squares covered by a new boat, and the boats remaining in the design options if the player placed it
+     *
+     * @param boardState   Board that changed
+     * @param row          Row that the boat begins
+     * @param column       Column that the boat begins
+     * @param boatSize     Size of the boat
+     * @param isHorizontal True if the boat is horizontal, false if it is vertical
+     */
+    @Override
+    public void shipPlaced(final BoardState boardState, final int row, final int column, final int boatSize,
+                           final boolean isHorizontal) {
+        final GameState gameState = controller.getGameState();
+        final BoardView view = boardView(boardState);
+        for (int i = 0; i < boatSize; i++) {
+            view.updateSquare(gameState, boardState, isHorizontal ? column + i : column, isHorizontal ? row : row + i);
+        }
+
+        if (boardState.isPlayer() && gameState.getStatus() == GameStatus.DESIGN)
+            optionsPanel.initializePanel(controller.getDesignState());
+    }
+
+    /**
+     * Redraws a board after all of its boats were removed
+     *
+     * @param boardState Board that changed
+     */
+    @Override
+    public void boardCleared(final BoardState boardState) {
+        refreshBoard(boardState);
+    }
+
+    /**
+     * Redraws a board after its hits and misses were removed
+     *
+     * @param boardState Board that changed
+     */
+    @Override
+    public void shotsReset(final BoardState boardState) {
+        refreshBoard(boardState);
+    }
+
+    /**
+     * Redraws a board after it was restored from a snapshot
+     *
+     * @param boardState Board that changed
+     */
+    @Override
+    public void boardRestored(final BoardState boardState) {
+        refreshBoard(boardState);
+    }
+
+    /**
+     * Redraws a board after it was resized
+     *
+     * @param boardState    Board that changed
+     * @param gridDimension New dimension of one side of the board
+     */
+    @Override
+    public void dimensionChanged(final BoardState boardState, final int gridDimension) {
+        refreshBoard(boardState);
+    }
+
+    /**
+     * Updates both boards and the options for the new status of the game, and displays the game over screen when the
+     * game has ended
+     *
+     * @param gameState Game that changed
+     * @param oldStatus Status of the game before the change
+     * @param newStatus Status of the game after the change
+     */
+    @Override
+    public void statusChanged(final GameState gameState, final GameStatus oldStatus, final GameStatus newStatus) {
+        final BoardState playerBoardState = controller.getBoardState(true);
+        final BoardState systemBoardState = controller.getBoardState(false);
+
+        playerGrid = refreshBoardView(playerGrid, gameState, playerBoardState);
+        systemGrid = refreshBoardView(systemGrid, gameState, systemBoardState);
+        optionsPanel.initializePanel(controller.getDesignState());
+        if (!isGameStarted(gameState))
+            healthBarsPanel.initializeHealthBarsPanel();
+
+        if ((gameState.getStatus() == GameStatus.GAME_OVER)) {
+            SplashScreens.displayGameOverSplashScreen(controller, gameState, playerBoardState, systemBoardState);
+        }
+    }
+
+    /**
+     * Translates every part of the window into the new language
+     *
+     * @param gameState Game that changed
+     */
+    @Override
+    public void localeChanged(final GameState gameState) {
+        this.setTitle(Utils.getLocalizedString("title_bar"));
+        eventPanel.initializePanel();
+        optionsPanel.initializePanel(controller.getDesignState());
+        initializeMenuBar();
+        playerGrid = refreshBoardView(playerGrid, gameState, controller.getBoardState(true));
+        systemGrid = refreshBoardView(systemGrid, gameState, controller.getBoardState(false));
+        gameState.setHasLocaleChanged(false);
+    }
+
+    /**
+     * Redraws a whole board, along with the options and health bars that depend on it
+     *
+     * @param boardState Board being redrawn
+     */
+    private void refreshBoard(final BoardState boardState) {
+        final GameState gameState = controller.getGameState();
+        if (isGameStarted(gameState))
+            healthBarsPanel.updateHealthBars(boardState);
+        else
+            healthBarsPanel.initializeHealthBarsPanel();
+
+        if (boardState.isPlayer()) {
+            playerGrid = refreshBoardView(playerGrid, gameState, boardState);
+            optionsPanel.initializePanel(controller.getDesignState());
+        } else
+            systemGrid = refreshBoardView(systemGrid, gameState, boardState);
+    }
+
+    /**
+     * Gets the view displaying a board
+     *
+     * @param boardState Board being displayed
+     * @return View of the player's board or the system's board
+     */
+    private BoardView boardView(final BoardState boardState) {
+        return boardState.isPlayer() ? playerGrid : systemGrid;
+    }
+
+    /**
+     * Checks if the game has started, i.e. guesses are being made or have been made
+     *
+     * @param gameState Current state of the game
+     * @return True if the game is in progress or over, false otherwise
+     */
+    private static boolean isGameStarted(final GameState gameState) {
+        return gameState.getStatus() == GameStatus.IN_PROGRESS || gameState.getStatus() == GameStatus.GAME_OVER;
     }
 
     /**
@@ -205,9 +345,70 @@ public class MainPanel extends JFrame implements Observer {
      * @param event Game event that is to be displayed to the user
      */
     public void updateLogPanel(String event) {
-        eventPanel.updateLogPanel(event + "\n");
-        eventPanel.repaint();
-        eventPanel.revalidate();
+        eventPanel.updateLogPanel(event);
+    }
+
+    /**
+     * Starts writing the game history to a file as it happens
+     *
+     * @param file File the history is appended to
+     * @throws IOException If the file cannot be opened
+     */
+    public void startHistoryFile(final Path file) throws IOException {
+        eventPanel.startHistoryFile(file);
+    }
+
+    /**
+     * Stops writing the game history to a file
+     */
+    public void stopHistoryFile() {
+        eventPanel.stopHistoryFile();
+    }
+
+    /**
+     * Checks if the game history is being written to a file
+     *
+     * @return True if the history is being written to a file, false otherwise
+     */
+    public boolean isHistoryFileOpen() {
+        return eventPanel.isHistoryFileOpen();
+    }
+
+    /**
+     * Creates the view suited to a board's dimension: a grid of buttons for small boards and a painted canvas for
+     * large ones
+     *
+     * @param boardState State of the board that will be displayed
+     * @return View for the board
+     */
+    private BoardView createBoardView(final BoardState boardState) {
+        return boardState.getGridDimension() > MAX_BUTTON_GRID_DIMENSION ?
+                new BoardCanvas(controller) : new GridPanel(controller);
+    }
+
+    /**
+     * Brings a board's view up to date, first replacing it if the board's dimension calls for the other kind of view
+     *
+     * @param view       Current view of the board
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board
+     * @return View displaying the board, which may be a new one
+     */
+    private BoardView refreshBoardView(final BoardView view, final GameState gameState, final BoardState boardState) {
+        BoardView updatedView = view;
+        final boolean isLargeBoard = boardState.getGridDimension() > MAX_BUTTON_GRID_DIMENSION;
+        if (isLargeBoard != view instanceof BoardCanvas) {
+            updatedView = createBoardView(boardState);
+            updatedView.getViewComponent().setPreferredSize(view.getViewComponent().getPreferredSize());
+
+            final int index = boardState.isPlayer() ? 0 : 1;
+            gridsPanel.remove(index);
+            gridsPanel.add(updatedView.getViewComponent(), index);
+            gridsPanel.revalidate();
+        }
+
+        updatedView.initializePanel(gameState, boardState);
+        return updatedView;
     }
 
     /**
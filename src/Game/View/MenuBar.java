@@ -2,10 +2,12 @@ package Game.View;
 
 import Game.Controller.BattleshipController;
 import Game.Util.Constants;
+import Game.Util.Log;
 import Game.Util.Utils;
 
 import javax.swing.*;
 
+import java.io.IOException;
 import java.util.Locale;
 
 import static java.lang.System.exit;
@@ -53,18 +55,81 @@ public class MenuBar extends JMenuBar {
 
         JMenuItem languageMenu = new JMenu(Utils.getLocalizedString("language"));
         for(Locale locale : Constants.supportedLocales){
-            System.out.println(locale);
             final JMenuItem languageOption = new JMenuItem(String.valueOf(locale));
             languageOption.addActionListener(e->{
                 controller.changeLanguage(locale);
-                System.out.println(languageOption.getLocale());
+                Log.debug("Language was changed to %s", locale);
             });
             languageMenu.add(languageOption);
         }
 
+        JCheckBoxMenuItem historyFileMenuItem = new JCheckBoxMenuItem(Utils.getLocalizedString("history_file"),
+                parentFrame.isHistoryFileOpen());
+        historyFileMenuItem.addActionListener(e -> {
+            if (!historyFileMenuItem.isSelected()) {
+                parentFrame.stopHistoryFile();
+                return;
+            }
+
+            final JFileChooser fileChooser = new JFileChooser();
+            if (fileChooser.showSaveDialog(parentFrame.getContentPane()) != JFileChooser.APPROVE_OPTION) {
+                historyFileMenuItem.setSelected(false);
+                return;
+            }
+            try {
+                parentFrame.startHistoryFile(fileChooser.getSelectedFile().toPath());
+                parentFrame.updateLogPanel(Utils.formatLocalizedString("history_file_started",
+                        fileChooser.getSelectedFile()));
+            } catch (IOException ex) {
+                Log.error("Unable to open the history file", ex);
+                historyFileMenuItem.setSelected(false);
+                JOptionPane.showMessageDialog(parentFrame.getContentPane(),
+                        Utils.formatLocalizedString("history_file_error", fileChooser.getSelectedFile()),
+                        Utils.getLocalizedString("history_file"), JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        JCheckBoxMenuItem salvoMenuItem = new JCheckBoxMenuItem(Utils.getLocalizedString("salvo"),
+                controller.isSalvo());
+        salvoMenuItem.addActionListener(e -> controller.setSalvo(salvoMenuItem.isSelected()));
+
+        JMenuItem saveGameMenuItem = new JMenuItem(Utils.getLocalizedString("save_game"));
+        saveGameMenuItem.addActionListener(e -> {
+            final JFileChooser fileChooser = new JFileChooser();
+            if (fileChooser.showSaveDialog(parentFrame.getContentPane()) != JFileChooser.APPROVE_OPTION)
+                return;
+            try {
+                controller.saveGame(fileChooser.getSelectedFile().toPath());
+            } catch (IOException ex) {
+                Log.error("Unable to save the game", ex);
+                JOptionPane.showMessageDialog(parentFrame.getContentPane(),
+                        Utils.formatLocalizedString("save_game_error", fileChooser.getSelectedFile()),
+                        Utils.getLocalizedString("save_game"), JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        JMenuItem loadGameMenuItem = new JMenuItem(Utils.getLocalizedString("load_game"));
+        loadGameMenuItem.addActionListener(e -> {
+            final JFileChooser fileChooser = new JFileChooser();
+            if (fileChooser.showOpenDialog(parentFrame.getContentPane()) != JFileChooser.APPROVE_OPTION)
+                return;
+            try {
+                controller.loadGame(fileChooser.getSelectedFile().toPath());
+                salvoMenuItem.setSelected(controller.isSalvo());
+            } catch (IOException ex) {
+                Log.error("Unable to load the game", ex);
+                JOptionPane.showMessageDialog(parentFrame.getContentPane(),
+                        Utils.formatLocalizedString("load_game_error", fileChooser.getSelectedFile()),
+                        Utils.getLocalizedString("load_game"), JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
         JMenu gameMenu = new JMenu(Utils.getLocalizedString("game"));
         gameMenu.add(newGameMenuItem);
         gameMenu.add(solutionMenuItem);
+        gameMenu.add(saveGameMenuItem);
+        gameMenu.add(loadGameMenuItem);
+        gameMenu.add(historyFileMenuItem);
+        gameMenu.add(salvoMenuItem);
         gameMenu.addSeparator();
         gameMenu.add(languageMenu);
         gameMenu.addSeparator();
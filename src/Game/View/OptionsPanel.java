@@ -1,8 +1,10 @@
 package Game.View;
 
 import Game.Controller.BattleshipController;
+import Game.Model.BoardState;
 import Game.Model.DesignState;
 import Game.Model.Enums.GameStatus;
+import Game.Util.Log;
 import Game.Util.Utils;
 
 import javax.swing.*;
@@ -65,6 +67,8 @@ public class OptionsPanel extends JPanel {
         }
 
         // TODO if game is in progress, replace design window with a timer
+        revalidate();
+        repaint();
     }
 
     /**
@@ -73,7 +77,6 @@ public class OptionsPanel extends JPanel {
      * @return Configuration panel
      */
     private JPanel initializeConfigPanel() {
-        System.out.println("hello");
         final GameStatus gameStatus = controller.getGameState().getStatus();
         final JPanel configPanel = new JPanel();
         configPanel.setLayout(new GridBagLayout());
@@ -92,25 +95,29 @@ public class OptionsPanel extends JPanel {
             playButton.setEnabled(false);
             dimensions.setEnabled(false);
         } else {
-            dimensions.setSelectedIndex(controller.getDimension() / 2 - 1);
+            final String currentDimension = controller.getDimension() + "x" + controller.getDimension();
+            if (((DefaultComboBoxModel<String>) dimensions.getModel()).getIndexOf(currentDimension) < 0)
+                dimensions.addItem(currentDimension); // board was started with a dimension not offered as an option
+            dimensions.setSelectedItem(currentDimension);
             dimensions.addActionListener(e -> {
-                System.out.printf("[DEBUG] Dimensions were changed to %s%n", dimensions.getSelectedItem());
-                controller.changeBoardDimension((dimensions.getSelectedIndex() + 1) * 2);
+                Log.debug("Dimensions were changed to %s", dimensions.getSelectedItem());
+                final String selected = (String) dimensions.getSelectedItem();
+                controller.changeBoardDimension(Integer.parseInt(selected.substring(0, selected.indexOf('x'))));
             });
             randomizeShips.addActionListener(e -> {
-                System.out.println("[DEBUG] User has pressed the button to randomize ship locations");
+                Log.debug("User has pressed the button to randomize ship locations");
                 controller.randomizePlayerShipLocations();
             });
             designShips.addActionListener(e -> {
-                System.out.println("[DEBUG] User has pressed the button to manually place ship locations");
+                Log.debug("User has pressed the button to manually place ship locations");
                 controller.enterDesignMode();
             });
             resetButton.addActionListener(e -> {
-                System.out.println("[DEBUG] User has pressed the button to reset");
+                Log.debug("User has pressed the button to reset");
                 controller.resetGameBoards();
             });
             playButton.addActionListener(e -> {
-                System.out.println("[DEBUG] User has pressed the button to play the game");
+                Log.debug("User has pressed the button to play the game");
                 controller.playGame();
             });
         }
@@ -153,17 +160,18 @@ public class OptionsPanel extends JPanel {
         final Integer[] sizeOptions = boatSizeOptions.toArray(new Integer[boatSizeOptions.size()]);
         final JComboBox<Integer> boatSizes = new JComboBox<>(sizeOptions);
 
-        final JLabel boatCountRemaining = new JLabel(String.format(Utils.getLocalizedString("boats_remaining"),
+        final JLabel boatCountRemaining = new JLabel(Utils.formatLocalizedString("boats_remaining",
                 boatSizes.getSelectedItem(),
                 controller.getBoatsRemaining((Integer) boatSizes.getSelectedItem())));
         boatSizes.addActionListener(e -> {
-            System.out.printf("[DEBUG] Boat size to be placed was changed to %s%n", boatSizes.getSelectedItem());
-            boatCountRemaining.setText(String.format(Utils.getLocalizedString("boats_remaining"), boatSizes.getSelectedItem(),
+            Log.debug("Boat size to be placed was changed to %s", boatSizes.getSelectedItem());
+            boatCountRemaining.setText(Utils.formatLocalizedString("boats_remaining", boatSizes.getSelectedItem(),
                     controller.getBoatsRemaining((Integer) boatSizes.getSelectedItem())));
             controller.setSelectedBoatSize((Integer) boatSizes.getSelectedItem());
         });
         if (designState.getBoatSize() < sizeOptions.length)
-            boatSizes.setSelectedIndex((controller.getDimension() / 2) - designState.getBoatSize()); // auto selects last selected boat
+            boatSizes.setSelectedIndex(BoardState.getLargestBoatSize(controller.getDimension())
+                    - designState.getBoatSize()); // auto selects last selected boat
         else
             boatSizes.setSelectedIndex(0);
 
@@ -194,7 +202,7 @@ public class OptionsPanel extends JPanel {
 
         final JButton clearButton = new JButton(Utils.getLocalizedString("clear_board"));
         clearButton.addActionListener(e -> {
-            System.out.println("[DEBUG] User has cleared the board in design mode");
+            Log.debug("User has cleared the board in design mode");
             controller.clearPlayerBoard();
         });
 
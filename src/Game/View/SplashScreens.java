@@ -5,10 +5,8 @@ import Game.Model.BoardState;
 import Game.Model.GameState;
 import Game.Util.Utils;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.io.InputStream;
 
 import static java.lang.System.exit;
 
@@ -16,20 +14,33 @@ import static java.lang.System.exit;
  * This class displays various splashscreens for different parts of the game
  */
 public class SplashScreens {
+    /**
+     * Image shown on the loading and about splash screens
+     */
+    private static final String ABOUT_IMAGE = "/res/game_about.png";
+
+    /**
+     * Image shown when the player wins
+     */
+    private static final String WINNER_IMAGE = "/res/game_winner.jpg";
+
+    /**
+     * Image shown when the player loses
+     */
+    private static final String LOST_IMAGE = "/res/game_lost.jpg";
+
+    /**
+     * Decodes every image shown by the splash screens ahead of their first use, e.g. while the game is loading
+     */
+    public static void preloadImages() {
+        ImageCache.preload(ABOUT_IMAGE, WINNER_IMAGE, LOST_IMAGE);
+    }
 
     /**
      * Displays a splash screen containing information about the game
      */
     public static void displayAboutSplashScreen(){
-        ImageIcon loadingIcon = null;
-        try {
-            InputStream stream = SplashScreens.class.getResourceAsStream("/res/game_about.png");
-            loadingIcon = new ImageIcon(ImageIO.read(stream));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        final JLabel aboutIconLabel = new JLabel(loadingIcon);
+        final JLabel aboutIconLabel = new JLabel(loadImage(ABOUT_IMAGE));
         final JLabel aboutMsgLabel = new JLabel(Utils.getLocalizedString("about_msg"));
 
         final JPanel splashScreenAboutPanel = new JPanel();
@@ -44,18 +55,11 @@ public class SplashScreens {
     }
 
     /**
-     * Displays a splash screen when loading the game
-     * @param duration Duration the splash screen appears on the screen for
+     * Displays a splash screen while the game is loading. Must be called on the Event Dispatch Thread
+     * @return Window of the splash screen, disposed by the caller once the game has loaded
      */
-    public static void displayLoadingSplashScreen(final int duration) {
-        ImageIcon loadingIcon = null;
-        try {
-            InputStream stream = SplashScreens.class.getResourceAsStream("/res/game_about.png");
-            loadingIcon = new ImageIcon(ImageIO.read(stream));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
+    public static JWindow displayLoadingSplashScreen() {
+        final ImageIcon loadingIcon = loadImage(ABOUT_IMAGE);
         final int imageWidth = loadingIcon.getIconWidth();
         final int imageHeight = loadingIcon.getIconHeight();
         final JWindow loadingWindow = new JWindow();
@@ -73,14 +77,7 @@ public class SplashScreens {
         loadingWindow.setContentPane(contentPane);
 
         loadingWindow.setVisible(true);
-        try {
-            Thread.sleep(duration);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        loadingWindow.setVisible(false);
-
-        loadingWindow.dispose();
+        return loadingWindow;
     }
 
     /**
@@ -92,25 +89,15 @@ public class SplashScreens {
      */
     public static void displayGameOverSplashScreen(final BattleshipController controller, final GameState gameState,
                                                    final BoardState playerBoardState, final BoardState systemBoardState){
-        ImageIcon loadingIcon = null;
-        try {
-            InputStream stream = gameState.didPlayerWin() ?
-                    SplashScreens.class.getResourceAsStream("/res/game_winner.jpg") :
-                    SplashScreens.class.getResourceAsStream("/res/game_lost.jpg");
-            loadingIcon = new ImageIcon(ImageIO.read(stream));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        final JLabel gameOverIcon = new JLabel(loadingIcon);
+        final JLabel gameOverIcon = new JLabel(loadImage(gameState.didPlayerWin() ? WINNER_IMAGE : LOST_IMAGE));
         gameOverIcon.setAlignmentX(JLabel.CENTER_ALIGNMENT);
         final JLabel gameOverLabel = new JLabel(
                 "<html>" +
-                        String.format(Utils.getLocalizedString("game_over"),
+                        Utils.formatLocalizedString("game_over",
                                 gameState.didPlayerWin() ? Utils.getLocalizedString("player") : Utils.getLocalizedString("system"),
                                 systemBoardState.getTotalHitPoints() - systemBoardState.getHitPointsRemaining(),
                                 playerBoardState.getTotalHitPoints() - playerBoardState.getHitPointsRemaining())
-                        + "<br><center>" + String.format(Utils.getLocalizedString("win_loss"), gameState.getPlayerGamesWon(), gameState.getSystemGamesWon())
+                        + "<br><center>" + Utils.formatLocalizedString("win_loss", gameState.getPlayerGamesWon(), gameState.getSystemGamesWon())
                         + "<br>" + Utils.getLocalizedString("game_over_restart")
                         + "</center></html>"
         );
@@ -129,4 +116,14 @@ public class SplashScreens {
             exit(0);
         }
     }
+
+    /**
+     * Gets an image shown by a splash screen, scaled down to fit in half of the screen
+     * @param path Resource path of the image
+     * @return Icon of the image, an empty icon if it cannot be loaded
+     */
+    private static ImageIcon loadImage(final String path) {
+        final Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
+        return ImageCache.getIcon(path, screenSize.width / 2, screenSize.height / 2);
+    }
 }
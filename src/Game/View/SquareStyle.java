@@ -0,0 +1,103 @@
+package Game.View;
+
+import Game.Model.BoardState;
+import Game.Model.Enums.GameStatus;
+import Game.Model.Enums.GridSquareStatus;
+import Game.Model.GameState;
+
+/**
+ * Works out how a square on a board view should be displayed. A style packs whether the square can be clicked, what is
+ * displayed on it and the size of the boat shown into one int, so views can cheaply tell which squares changed.
+ */
+final class SquareStyle {
+    /**
+     * Style flag for a square that can be clicked
+     */
+    static final int ENABLED = 1;
+
+    /**
+     * Square with nothing displayed on it
+     */
+    static final int EMPTY = 0;
+
+    /**
+     * Square displaying a boat that has not been hit
+     */
+    static final int SHIP = 1 << 1;
+
+    /**
+     * Square displaying a boat that has been hit
+     */
+    static final int HIT = 2 << 1;
+
+    /**
+     * Square displaying a missed guess
+     */
+    static final int MISSED = 3 << 1;
+
+    /**
+     * Number of bits a square's boat size is shifted by within its style
+     */
+    private static final int SIZE_SHIFT = 3;
+
+    private SquareStyle() {
+    }
+
+    /**
+     * Works out how a square should be displayed given the state of the game and the board
+     *
+     * @param gameState  Current state of the game
+     * @param boardState Current state of the board being displayed
+     * @param x          X coordinate of the square
+     * @param y          Y coordinate of the square
+     * @return Style of the square
+     */
+    static int of(final GameState gameState, final BoardState boardState, final int x, final int y) {
+        final boolean isPlayer = boardState.isPlayer();
+        final GameStatus gameStatus = gameState.getStatus();
+        final GridSquareStatus status = boardState.getSquareStatus(x, y);
+
+        int style = gameStatus != GameStatus.IN_PROGRESS && !isPlayer ? EMPTY : ENABLED;
+        if (status != null) {
+            final int boatSize = boardState.getShipSize(x, y) << SIZE_SHIFT;
+            if (isPlayer && status == GridSquareStatus.ALIVE || gameStatus == GameStatus.GAME_OVER) {
+                style |= SHIP | boatSize;
+            } else if (status == GridSquareStatus.HIT) {
+                style = HIT | boatSize; // TODO disabling buttons doesn't fill them - fix?
+            } else if (status == GridSquareStatus.MISSED) {
+                style = MISSED;
+            }
+        }
+        return style;
+    }
+
+    /**
+     * Checks if a square with the given style can be clicked
+     *
+     * @param style Style of the square
+     * @return True if the square can be clicked, false otherwise
+     */
+    static boolean isEnabled(final int style) {
+        return (style & ENABLED) != 0;
+    }
+
+    /**
+     * Gets what is displayed on a square with the given style
+     *
+     * @param style Style of the square
+     * @return One of EMPTY, SHIP, HIT or MISSED
+     */
+    static int kind(final int style) {
+        return style & ~ENABLED & ((1 << SIZE_SHIFT) - 1);
+    }
+
+    /**
+     * Gets the size of the boat displayed on a square with the given style
+     *
+     * @param style Style of the square
+     * @return Size of the boat displayed on the square
+     */
+    static int boatSize(final int style) {
+        return style >>> SIZE_SHIFT;
+    }
+}